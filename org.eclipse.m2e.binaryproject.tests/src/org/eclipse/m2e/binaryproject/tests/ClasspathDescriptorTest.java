@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.m2e.binaryproject.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.m2e.jdt.IClasspathEntryDescriptor;
+import org.eclipse.m2e.jdt.internal.ClasspathDescriptor;
+import org.eclipse.m2e.jdt.internal.ClasspathEntryDescriptor;
+import org.junit.Before;
+import org.junit.Test;
+
+@SuppressWarnings({"restriction"})
+public class ClasspathDescriptorTest {
+
+  private ClasspathDescriptor classpath;
+
+  private List<IClasspathEntryDescriptor> entries;
+
+  @Before
+  public void setUp() {
+    classpath = new ClasspathDescriptor(true);
+    classpath.addLibraryEntry(new Path("/c.jar"));
+    classpath.addLibraryEntry(new Path("/a.jar"));
+    classpath.addLibraryEntry(new Path("/b.jar"));
+    entries = classpath.getEntryDescriptors();
+  }
+
+  @Test
+  public void testSort() {
+    Collections.sort(entries, new Comparator<IClasspathEntryDescriptor>() {
+      public int compare(IClasspathEntryDescriptor e1, IClasspathEntryDescriptor e2) {
+        return e1.getPath().toString().compareTo(e2.getPath().toString());
+      }
+    });
+
+    assertPaths("/a.jar", "/b.jar", "/c.jar");
+    assertEntriesTracked();
+  }
+
+  @Test
+  public void testSwap() {
+    Collections.swap(entries, 0, 2);
+
+    assertPaths("/b.jar", "/a.jar", "/c.jar");
+    assertEntriesTracked();
+  }
+
+  @Test
+  public void testRemove() {
+    IClasspathEntryDescriptor removed = entries.remove(1);
+
+    assertPaths("/c.jar", "/b.jar");
+    assertFalse(classpath.containsPath(new Path("/a.jar")));
+    removed.setPath(new Path("/removed.jar"));
+    assertFalse(classpath.containsPath(new Path("/removed.jar")));
+    assertEntriesTracked();
+  }
+
+  @Test
+  public void testReplace() {
+    ClasspathEntryDescriptor replacement = new ClasspathEntryDescriptor(IClasspathEntry.CPE_LIBRARY,
+        new Path("/d.jar"));
+    IClasspathEntryDescriptor replaced = entries.set(1, replacement);
+
+    assertEquals(new Path("/a.jar"), replaced.getPath());
+    assertPaths("/c.jar", "/d.jar", "/b.jar");
+    assertNull(classpath.findEntryDescriptor(new Path("/a.jar")));
+    assertSame(replacement, classpath.findEntryDescriptor(new Path("/d.jar")));
+    replaced.setPath(new Path("/replaced.jar"));
+    assertFalse(classpath.containsPath(new Path("/replaced.jar")));
+    assertEntriesTracked();
+  }
+
+  private void assertPaths(String... paths) {
+    IClasspathEntry[] cpes = classpath.getEntries();
+    assertEquals(paths.length, cpes.length);
+    for(int i = 0; i < paths.length; i++ ) {
+      assertEquals(new Path(paths[i]), cpes[i].getPath());
+    }
+  }
+
+  /**
+   * Path changes of all listed entries must be seen by the path lookups of the classpath.
+   */
+  private void assertEntriesTracked() {
+    for(IClasspathEntryDescriptor entry : entries) {
+      IPath path = new Path("/renamed").append(entry.getPath());
+      entry.setPath(path);
+      assertTrue(classpath.containsPath(path));
+      assertSame(entry, classpath.findEntryDescriptor(path));
+    }
+  }
+}
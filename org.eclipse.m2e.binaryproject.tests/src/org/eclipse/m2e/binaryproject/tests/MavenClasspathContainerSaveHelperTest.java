@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.m2e.binaryproject.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IAccessRule;
+import org.eclipse.jdt.core.IClasspathAttribute;
+import org.eclipse.jdt.core.IClasspathContainer;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.m2e.jdt.internal.MavenClasspathContainer;
+import org.eclipse.m2e.jdt.internal.MavenClasspathContainerSaveHelper;
+import org.junit.Test;
+
+@SuppressWarnings({"restriction"})
+public class MavenClasspathContainerSaveHelperTest {
+
+  private static final String CONTAINER_PATH = "org.eclipse.m2e.MAVEN2_CLASSPATH_CONTAINER";
+
+  private final MavenClasspathContainerSaveHelper helper = new MavenClasspathContainerSaveHelper();
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    IClasspathEntry[] entries = new IClasspathEntry[] {
+        JavaCore.newLibraryEntry(new Path("/repo/junit/junit/4.12/junit-4.12.jar"),
+            new Path("/repo/junit/junit/4.12/junit-4.12-sources.jar"), null,
+            new IAccessRule[] {JavaCore.newAccessRule(new Path("org/junit/internal/**"), IAccessRule.K_DISCOURAGED)},
+            new IClasspathAttribute[] {JavaCore.newClasspathAttribute("maven.groupId", "junit"),
+                JavaCore.newClasspathAttribute("maven.artifactId", "junit")},
+            false),
+        // no source attachment, UNC path and a shared string table entry
+        JavaCore.newLibraryEntry(new Path("//server/share/junit.jar"), null, null, new IAccessRule[0],
+            new IClasspathAttribute[] {JavaCore.newClasspathAttribute("maven.groupId", "junit")}, true),
+        JavaCore.newLibraryEntry(new Path("/repo/classes/"), null, new Path("src"), new IAccessRule[0],
+            new IClasspathAttribute[0], false),
+        JavaCore.newProjectEntry(new Path("/dependency"),
+            new IAccessRule[] {JavaCore.newAccessRule(new Path("**/internal/**"), IAccessRule.K_NON_ACCESSIBLE)},
+            true, new IClasspathAttribute[] {JavaCore.newClasspathAttribute("maven.pomderived", "true")}, true)};
+
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    helper.writeContainer(new MavenClasspathContainer(new Path(CONTAINER_PATH), entries), buffer);
+    IClasspathContainer container = helper.readContainer(new ByteArrayInputStream(buffer.toByteArray()));
+
+    assertEquals(new Path(CONTAINER_PATH), container.getPath());
+    IClasspathEntry[] read = container.getClasspathEntries();
+    assertArrayEquals(entries, read);
+    assertNull(read[1].getSourceAttachmentPath());
+    assertNull(read[1].getSourceAttachmentRootPath());
+    assertTrue(read[1].getPath().isUNC());
+    assertNull(read[2].getSourceAttachmentPath());
+    assertEquals(new Path("src"), read[2].getSourceAttachmentRootPath());
+  }
+
+  @Test
+  public void testEmptyContainer() throws Exception {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    helper.writeContainer(new MavenClasspathContainer(new Path(CONTAINER_PATH), new IClasspathEntry[0]), buffer);
+    IClasspathContainer container = helper.readContainer(new ByteArrayInputStream(buffer.toByteArray()));
+
+    assertEquals(new Path(CONTAINER_PATH), container.getPath());
+    assertEquals(0, container.getClasspathEntries().length);
+  }
+
+  /**
+   * The state file was written with java serialization before the binary format was introduced.
+   */
+  @Test
+  public void testReadSerializedContainer() throws Exception {
+    IClasspathContainer container;
+    try (InputStream is = new FileInputStream(new File("resources/containers/serialized.container"))) {
+      container = helper.readContainer(is);
+    }
+
+    assertEquals(new Path(CONTAINER_PATH), container.getPath());
+    IClasspathEntry[] expected = new IClasspathEntry[] {
+        JavaCore.newLibraryEntry(new Path("/repo/junit/junit/4.12/junit-4.12.jar"),
+            new Path("/repo/junit/junit/4.12/junit-4.12-sources.jar"), null,
+            new IAccessRule[] {JavaCore.newAccessRule(new Path("org/junit/internal/**"), IAccessRule.K_DISCOURAGED)},
+            new IClasspathAttribute[] {JavaCore.newClasspathAttribute("maven.groupId", "junit"),
+                JavaCore.newClasspathAttribute("maven.artifactId", "junit")},
+            false),
+        JavaCore.newProjectEntry(new Path("/dependency"), new IAccessRule[0], false,
+            new IClasspathAttribute[] {JavaCore.newClasspathAttribute("maven.pomderived", "true")}, true)};
+    assertArrayEquals(expected, container.getClasspathEntries());
+  }
+}
@@ -15,6 +15,7 @@ import static org.eclipse.m2e.binaryproject.internal.sourcelookup.BinaryProjectD
 
 import java.io.File;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
@@ -35,7 +36,8 @@ import org.eclipse.m2e.sourcelookup.internal.launch.MavenSourceContainerResolver
 public class BinaryProjectContainerResolver extends MavenSourceContainerResolver implements ISourceContainerResolver {
 
   @Override
-  protected ISourceContainer resolveSourceContainer(ArtifactKey artifact, IProgressMonitor monitor) {
+  protected ISourceContainer resolveSourceContainer(ArtifactKey artifact, Set<ArtifactKey> unavailableSources,
+      IProgressMonitor monitor) {
     String groupId = artifact.getGroupId();
     String artifactId = artifact.getArtifactId();
     String version = artifact.getVersion();
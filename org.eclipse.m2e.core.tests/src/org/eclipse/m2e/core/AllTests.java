@@ -15,12 +15,22 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
+import org.eclipse.m2e.core.internal.archetype.RemoteCatalogCacheTest;
+import org.eclipse.m2e.core.internal.embedder.LastUpdatedCacheTest;
+import org.eclipse.m2e.core.internal.index.nexus.AetherClientResourceFetcherTest;
+import org.eclipse.m2e.core.internal.index.nexus.CompositeIndexTest;
+import org.eclipse.m2e.core.internal.index.nexus.GroupHierarchyTest;
+import org.eclipse.m2e.core.internal.project.ParallelProjectConfigurationTest;
+import org.eclipse.m2e.core.internal.project.registry.DependencyGraphMemoTest;
 import org.eclipse.m2e.core.internal.project.registry.MemoryConsumptionTest;
 import org.eclipse.m2e.core.internal.project.registry.RegistryTest;
 
 
 @RunWith(Suite.class)
-@SuiteClasses({MavenBugsTest.class, RegistryTest.class, MemoryConsumptionTest.class})
+@SuiteClasses({MavenBugsTest.class, RegistryTest.class, MemoryConsumptionTest.class,
+    AetherClientResourceFetcherTest.class, CompositeIndexTest.class, GroupHierarchyTest.class,
+    RemoteCatalogCacheTest.class, LastUpdatedCacheTest.class, DependencyGraphMemoTest.class,
+    ParallelProjectConfigurationTest.class})
 public class AllTests {
 
 }
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.archetype;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.maven.archetype.catalog.Archetype;
+
+import org.eclipse.m2e.tests.common.HttpServer;
+
+
+public class RemoteCatalogCacheTest {
+
+  private File repositoryDir;
+
+  private File cacheDir;
+
+  private HttpServer httpServer;
+
+  private String repositoryUrl;
+
+  private String catalogUrl;
+
+  @Before
+  public void setUp() throws Exception {
+    repositoryDir = Files.createTempDirectory("archetype-repo").toFile();
+    cacheDir = Files.createTempDirectory("archetype-cache").toFile();
+    writeCatalog("first");
+    httpServer = new HttpServer();
+    httpServer.addResources("/repo", repositoryDir.getAbsolutePath());
+    httpServer.enableRecording("/repo/.*");
+    httpServer.start();
+    repositoryUrl = httpServer.getHttpUrl() + "/repo";
+    catalogUrl = repositoryUrl + "/archetype-catalog.xml";
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    httpServer.stop();
+    delete(repositoryDir);
+    delete(cacheDir);
+  }
+
+  @Test
+  public void testParsedCatalogIsShared() throws Exception {
+    RemoteCatalogCache cache = new RemoteCatalogCache(cacheDir);
+
+    List<Archetype> archetypes = cache.getArchetypes(catalogUrl, repositoryUrl);
+    assertEquals(1, archetypes.size());
+    assertEquals("first", archetypes.get(0).getArtifactId());
+    assertEquals(repositoryUrl, archetypes.get(0).getRepository());
+
+    assertSame(archetypes, cache.getArchetypes(catalogUrl, repositoryUrl));
+    assertEquals(1, httpServer.getRecordedRequests().size());
+  }
+
+  @Test
+  public void testStaleCatalogIsRevalidatedInBackground() throws Exception {
+    new RemoteCatalogCache(cacheDir).getArchetypes(catalogUrl, repositoryUrl);
+    httpServer.resetRecording();
+
+    // unchanged catalog, the cached copy is served from disk and confirmed with a conditional request
+    RemoteCatalogCache cache = new RemoteCatalogCache(cacheDir, 0);
+    assertEquals("first", cache.getArchetypes(catalogUrl, repositoryUrl).get(0).getArtifactId());
+    waitForRequests(1);
+    assertNotNull(httpServer.getRecordedHeaders("/repo/archetype-catalog.xml").get("If-None-Match"));
+
+    // changed catalog, the stale copy is served once more and replaced by the revalidation
+    writeCatalog("second");
+    new File(repositoryDir, "archetype-catalog.xml").setLastModified(System.currentTimeMillis() + 10000);
+    List<Archetype> archetypes;
+    long timeout = System.currentTimeMillis() + 10000;
+    do {
+      archetypes = cache.getArchetypes(catalogUrl, repositoryUrl);
+      Thread.sleep(100);
+    } while("first".equals(archetypes.get(0).getArtifactId()) && System.currentTimeMillis() < timeout);
+    assertEquals("second", archetypes.get(0).getArtifactId());
+  }
+
+  private void waitForRequests(int count) throws InterruptedException {
+    long timeout = System.currentTimeMillis() + 10000;
+    while(httpServer.getRecordedRequests().size() < count && System.currentTimeMillis() < timeout) {
+      Thread.sleep(100);
+    }
+    assertEquals(count, httpServer.getRecordedRequests().size());
+  }
+
+  private void writeCatalog(String artifactId) throws IOException {
+    String catalog = "<archetype-catalog><archetypes><archetype><groupId>test</groupId><artifactId>" + artifactId
+        + "</artifactId><version>1.0</version></archetype></archetypes></archetype-catalog>";
+    try (OutputStream os = new FileOutputStream(new File(repositoryDir, "archetype-catalog.xml"))) {
+      os.write(catalog.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  private static void delete(File file) {
+    File[] children = file.listFiles();
+    if(children != null) {
+      for(File child : children) {
+        delete(child);
+      }
+    }
+    file.delete();
+  }
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.embedder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+
+
+public class LastUpdatedCacheTest {
+
+  private File repositoryDir;
+
+  private File lastUpdatedFile;
+
+  @Before
+  public void setUp() throws Exception {
+    repositoryDir = Files.createTempDirectory("local-repo").toFile();
+    lastUpdatedFile = new File(repositoryDir, "org/example/test/1.0-SNAPSHOT/" + LastUpdatedCache.FILE_NAME);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    delete(repositoryDir);
+  }
+
+  @Test
+  public void testMissingFile() throws Exception {
+    assertTrue(new LastUpdatedCache().getKeys(lastUpdatedFile).isEmpty());
+  }
+
+  @Test
+  public void testParsedKeysAreCached() throws Exception {
+    LastUpdatedCache cache = new LastUpdatedCache();
+    writeLastUpdated("central|http://repo|sources");
+
+    Set<String> keys = cache.getKeys(lastUpdatedFile);
+    assertEquals(Collections.singleton("central|http://repo|sources"), keys);
+    assertSame(keys, cache.getKeys(lastUpdatedFile));
+  }
+
+  @Test
+  public void testInvalidatedByInstalledArtifact() throws Exception {
+    LastUpdatedCache cache = new LastUpdatedCache();
+    writeLastUpdated("central|http://repo|sources");
+    long lastModified = lastUpdatedFile.lastModified();
+    Set<String> keys = cache.getKeys(lastUpdatedFile);
+
+    // same timestamp and length, only the event tells the cache about the change
+    writeLastUpdated("central|http://repo|javadoc");
+    lastUpdatedFile.setLastModified(lastModified);
+    assertSame(keys, cache.getKeys(lastUpdatedFile));
+
+    cache.artifactInstalled(repositoryDir, new ArtifactKey("org.example", "test", "1.0-SNAPSHOT", "javadoc"),
+        new ArtifactKey("org.example", "test", "1.0-20260101.000000-1", "javadoc"), null);
+    assertEquals(Collections.singleton("central|http://repo|javadoc"), cache.getKeys(lastUpdatedFile));
+  }
+
+  private void writeLastUpdated(String key) throws IOException {
+    Properties properties = new Properties();
+    properties.setProperty(key, "1");
+    lastUpdatedFile.getParentFile().mkdirs();
+    try (OutputStream os = new FileOutputStream(lastUpdatedFile)) {
+      properties.store(os, null);
+    }
+  }
+
+  private static void delete(File file) {
+    File[] children = file.listFiles();
+    if(children != null) {
+      for(File child : children) {
+        delete(child);
+      }
+    }
+    file.delete();
+  }
+}
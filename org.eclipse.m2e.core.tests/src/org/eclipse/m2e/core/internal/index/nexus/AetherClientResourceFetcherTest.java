@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index.nexus;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Properties;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.m2e.tests.common.HttpServer;
+
+
+public class AetherClientResourceFetcherTest {
+
+  private static final String NAME = "nexus-maven-repository-index.gz";
+
+  private File repositoryDir;
+
+  private File downloadDir;
+
+  private byte[] content;
+
+  private HttpServer httpServer;
+
+  @Before
+  public void setUp() throws Exception {
+    repositoryDir = Files.createTempDirectory("index-repo").toFile();
+    downloadDir = Files.createTempDirectory("index-download").toFile();
+    content = new byte[3 * 1024 * 1024 + 17];
+    new Random(42).nextBytes(content);
+    try (OutputStream os = new FileOutputStream(new File(repositoryDir, NAME))) {
+      os.write(content);
+    }
+    httpServer = new HttpServer();
+    httpServer.addResources("/repo", repositoryDir.getAbsolutePath());
+    httpServer.enableRecording("/repo/.*");
+    httpServer.start();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    httpServer.stop();
+    delete(repositoryDir);
+    delete(downloadDir);
+  }
+
+  @Test
+  public void testParallelSegments() throws Exception {
+    AetherClientResourceFetcher fetcher = new AetherClientResourceFetcher(null, null, new NullProgressMonitor(),
+        downloadDir);
+    fetcher.setSegmentSize(256 * 1024);
+    assertArrayEquals(content, retrieve(fetcher));
+
+    int gets = 0;
+    for(String request : httpServer.getRecordedRequests()) {
+      if(request.startsWith("GET ")) {
+        gets++ ;
+      }
+    }
+    assertEquals((content.length + 256 * 1024 - 1) / (256 * 1024), gets);
+    assertFalse(new File(downloadDir, NAME + ".part").exists());
+    assertFalse(new File(downloadDir, NAME + ".part.properties").exists());
+  }
+
+  @Test
+  public void testResumeInterruptedDownload() throws Exception {
+    // cancel the first attempt after the first buffer has been written
+    AetherClientResourceFetcher fetcher = new AetherClientResourceFetcher(null, null, new NullProgressMonitor() {
+      public boolean isCanceled() {
+        return true;
+      }
+    }, downloadDir);
+    try {
+      retrieve(fetcher);
+      fail("download should have been canceled");
+    } catch(OperationCanceledException expected) {
+    }
+    long partial = new File(downloadDir, NAME + ".part").length();
+
+    fetcher = new AetherClientResourceFetcher(null, null, new NullProgressMonitor(), downloadDir);
+    assertArrayEquals(content, retrieve(fetcher));
+    assertEquals("bytes=" + partial + "-", httpServer.getRecordedHeaders("/repo/" + NAME).get("Range"));
+  }
+
+  @Test
+  public void testDamagedJournalIsIgnored() throws Exception {
+    AetherClientResourceFetcher fetcher = new AetherClientResourceFetcher(null, null, new NullProgressMonitor() {
+      public boolean isCanceled() {
+        return true;
+      }
+    }, downloadDir);
+    fetcher.setSegmentSize(256 * 1024);
+    try {
+      retrieve(fetcher);
+      fail("download should have been canceled");
+    } catch(OperationCanceledException expected) {
+    }
+
+    File journalFile = new File(downloadDir, NAME + ".part.properties");
+    Properties journal = new Properties();
+    try (InputStream is = new FileInputStream(journalFile)) {
+      journal.load(is);
+    }
+    journal.setProperty("segmentSize", "garbage");
+    journal.setProperty("segments", "0,x");
+    try (OutputStream os = new FileOutputStream(journalFile)) {
+      journal.store(os, null);
+    }
+
+    fetcher = new AetherClientResourceFetcher(null, null, new NullProgressMonitor(), downloadDir);
+    fetcher.setSegmentSize(256 * 1024);
+    assertArrayEquals(content, retrieve(fetcher));
+  }
+
+  private byte[] retrieve(AetherClientResourceFetcher fetcher) throws IOException {
+    fetcher.connect("test", httpServer.getHttpUrl() + "/repo");
+    try (InputStream is = fetcher.retrieve(NAME)) {
+      ByteArrayOutputStream os = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      int n;
+      while((n = is.read(buffer)) != -1) {
+        os.write(buffer, 0, n);
+      }
+      return os.toByteArray();
+    } finally {
+      fetcher.disconnect();
+    }
+  }
+
+  private static void delete(File file) {
+    File[] children = file.listFiles();
+    if(children != null) {
+      for(File child : children) {
+        delete(child);
+      }
+    }
+    file.delete();
+  }
+}
@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index.nexus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.internal.IMavenConstants;
+import org.eclipse.m2e.core.internal.index.IIndex;
+import org.eclipse.m2e.core.internal.index.IndexSearchResult;
+import org.eclipse.m2e.core.internal.index.IndexedArtifact;
+import org.eclipse.m2e.core.internal.index.IndexedArtifactFile;
+import org.eclipse.m2e.core.internal.index.SearchExpression;
+
+
+public class CompositeIndexTest {
+
+  @Test
+  public void testResultsInIndexOrder() throws Exception {
+    CompositeIndex index = new CompositeIndex(Arrays.<IIndex> asList(new TestIndex("a", 300), new TestIndex("b", 0),
+        new TestIndex("c", 100)));
+
+    List<IndexedArtifactFile> files = index.identifyAll(new File("test.jar"));
+    assertEquals(3, files.size());
+    assertEquals("a", files.get(0).group);
+    assertEquals("b", files.get(1).group);
+    assertEquals("c", files.get(2).group);
+
+    IndexSearchResult result = index.search(null, IIndex.SEARCH_ARTIFACT, IIndex.SEARCH_ALL, 1, 1);
+    assertEquals(1, result.getArtifacts().size());
+    assertEquals("b", result.getArtifacts().get(0).getGroupId());
+    assertTrue(result.hasMore());
+  }
+
+  @Test
+  public void testQueriesRunConcurrently() throws Exception {
+    CompositeIndex index = new CompositeIndex(Arrays.<IIndex> asList(new TestIndex("a", 500), new TestIndex("b", 500),
+        new TestIndex("c", 500)));
+
+    long start = System.currentTimeMillis();
+    assertEquals(3, index.search(null, IIndex.SEARCH_ARTIFACT).size());
+    if(Runtime.getRuntime().availableProcessors() >= 3) {
+      assertTrue(System.currentTimeMillis() - start < 1400);
+    }
+  }
+
+  @Test
+  public void testSlowIndexIsSkipped() throws Exception {
+    CompositeIndex index = new CompositeIndex(Arrays.<IIndex> asList(new TestIndex("a", 0), new TestIndex("slow",
+        5000), new TestIndex("c", 0)), 500);
+
+    long start = System.currentTimeMillis();
+    Map<String, IndexedArtifact> result = index.search(null, IIndex.SEARCH_ARTIFACT);
+    assertTrue(System.currentTimeMillis() - start < 4000);
+    assertEquals(2, result.size());
+    assertTrue(result.containsKey("a"));
+    assertTrue(result.containsKey("c"));
+  }
+
+  @Test
+  public void testIdentifyWaitsForSlowIndex() throws Exception {
+    CompositeIndex index = new CompositeIndex(Arrays.<IIndex> asList(new TestIndex("a", 0), new TestIndex("slow",
+        1000), new TestIndex("c", 0)), 200);
+
+    List<IndexedArtifactFile> files = index.identifyAll(new File("test.jar"));
+    assertEquals(3, files.size());
+    assertEquals("slow", files.get(1).group);
+  }
+
+  @Test
+  public void testUpdatingIndexIsSkipped() throws Exception {
+    NexusIndex updating = new NexusIndex(null, null, null) {
+      public boolean isUpdating() {
+        return true;
+      }
+
+      public String getRepositoryUrl() {
+        return "updating";
+      }
+
+      public Map<String, IndexedArtifact> search(SearchExpression term, String searchType) {
+        throw new IllegalStateException("index is being updated");
+      }
+    };
+    CompositeIndex index = new CompositeIndex(Arrays.<IIndex> asList(new TestIndex("a", 0), updating,
+        new TestIndex("c", 0)));
+
+    Map<String, IndexedArtifact> result = index.search(null, IIndex.SEARCH_ARTIFACT);
+    assertEquals(2, result.size());
+    assertTrue(result.containsKey("a"));
+    assertTrue(result.containsKey("c"));
+  }
+
+  @Test
+  public void testFailurePropagates() throws Exception {
+    CompositeIndex index = new CompositeIndex(Arrays.<IIndex> asList(new TestIndex("a", 0), new TestIndex("fail", 0)));
+    try {
+      index.identifyAll(new File("test.jar"));
+      fail();
+    } catch(CoreException ex) {
+      assertEquals("fail", ex.getMessage());
+    }
+  }
+
+  private static class TestIndex implements IIndex {
+    private final String group;
+
+    private final long delay;
+
+    TestIndex(String group, long delay) {
+      this.group = group;
+      this.delay = delay;
+    }
+
+    private IndexedArtifact answer() throws CoreException {
+      if("fail".equals(group)) {
+        throw new CoreException(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, group));
+      }
+      try {
+        Thread.sleep(delay);
+      } catch(InterruptedException ex) {
+        throw new IllegalStateException(ex);
+      }
+      IndexedArtifact artifact = new IndexedArtifact(group, "artifact", null, null, "jar");
+      artifact.addFile(newFile());
+      return artifact;
+    }
+
+    private IndexedArtifactFile newFile() {
+      return new IndexedArtifactFile(null, group, "artifact", "1.0", "jar", null, "artifact-1.0.jar", 0, null, 0, 0,
+          null, null);
+    }
+
+    public IndexedArtifactFile getIndexedArtifactFile(ArtifactKey artifact) throws CoreException {
+      return answer().getFiles().iterator().next();
+    }
+
+    public IndexedArtifactFile identify(File file) throws CoreException {
+      return answer().getFiles().iterator().next();
+    }
+
+    public Collection<IndexedArtifact> find(SearchExpression groupId, SearchExpression artifactId,
+        SearchExpression version, SearchExpression packaging) throws CoreException {
+      return Collections.singleton(answer());
+    }
+
+    public Collection<IndexedArtifact> find(Collection<SearchExpression> groupId,
+        Collection<SearchExpression> artifactId, Collection<SearchExpression> version,
+        Collection<SearchExpression> packaging) throws CoreException {
+      return Collections.singleton(answer());
+    }
+
+    public Map<String, IndexedArtifact> search(SearchExpression expression, String searchType) throws CoreException {
+      return search(expression, searchType, SEARCH_ALL);
+    }
+
+    public Map<String, IndexedArtifact> search(SearchExpression expression, String searchType, int classifier)
+        throws CoreException {
+      Map<String, IndexedArtifact> result = new TreeMap<String, IndexedArtifact>();
+      result.put(group, answer());
+      return result;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index.nexus;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+
+public class GroupHierarchyTest {
+
+  private final GroupHierarchy hierarchy = GroupHierarchy.build(Arrays.asList("org.apache.maven",
+      "org.apache.maven.plugins", "org.eclipse", "junit", "org.apache.commons"));
+
+  @Test
+  public void testChildren() {
+    assertArrayEquals(new String[] {"junit", "org"}, hierarchy.getChildren(""));
+    assertArrayEquals(new String[] {"org.apache", "org.eclipse"}, hierarchy.getChildren("org"));
+    assertArrayEquals(new String[] {"org.apache.commons", "org.apache.maven"}, hierarchy.getChildren("org.apache"));
+    assertArrayEquals(new String[] {"org.apache.maven.plugins"}, hierarchy.getChildren("org.apache.maven"));
+    assertEquals(0, hierarchy.getChildren("org.eclipse").length);
+    assertEquals(0, hierarchy.getChildren("com").length);
+  }
+
+  @Test
+  public void testGroups() {
+    assertTrue(hierarchy.isGroup("org.apache.maven"));
+    assertTrue(hierarchy.isGroup("junit"));
+    assertFalse(hierarchy.isGroup("org"));
+    assertFalse(hierarchy.isGroup("org.apache"));
+  }
+
+  @Test
+  public void testPersistence() throws Exception {
+    File file = File.createTempFile("groups", ".groups");
+    try {
+      hierarchy.write(file, 42L);
+      assertNull(GroupHierarchy.read(file, 43L));
+
+      GroupHierarchy read = GroupHierarchy.read(file, 42L);
+      assertArrayEquals(hierarchy.getChildren(""), read.getChildren(""));
+      assertArrayEquals(hierarchy.getChildren("org.apache"), read.getChildren("org.apache"));
+      assertTrue(read.isGroup("org.apache.maven.plugins"));
+      assertFalse(read.isGroup("org.apache"));
+    } finally {
+      file.delete();
+    }
+  }
+}
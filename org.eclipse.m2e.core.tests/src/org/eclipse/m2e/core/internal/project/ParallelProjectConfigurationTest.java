@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project;
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+
+import org.apache.maven.model.Model;
+
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.internal.MavenPluginActivator;
+import org.eclipse.m2e.core.internal.preferences.MavenConfigurationImpl;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
+import org.eclipse.m2e.core.project.IMavenProjectImportResult;
+import org.eclipse.m2e.core.project.MavenProjectInfo;
+import org.eclipse.m2e.core.project.MavenUpdateRequest;
+import org.eclipse.m2e.core.project.ProjectImportConfiguration;
+import org.eclipse.m2e.core.project.configurator.ILifecycleMapping;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+
+
+public class ParallelProjectConfigurationTest extends AbstractMavenProjectTestCase {
+
+  @After
+  public void resetParallelProjectConfiguration() {
+    ((MavenConfigurationImpl) mavenConfiguration).setParallelProjectConfiguration(false);
+  }
+
+  @Test
+  public void testConfigurationLevels() throws Exception {
+    IProject dependency = createExisting("dependency", "resources/projects/dependency/dependency", true);
+    IProject dependent = createExisting("dependent", "resources/projects/dependency/dependent", true);
+    IProject dependent2 = createExisting("dependent2", "resources/projects/dependency/dependent2", true);
+    waitForJobsToComplete(monitor);
+
+    List<IMavenProjectFacade> facades = Arrays.asList(getFacade(dependency), getFacade(dependent),
+        getFacade(dependent2));
+    List<List<IMavenProjectFacade>> levels = ProjectConfigurationManager.getConfigurationLevels(facades, monitor);
+
+    Assert.assertEquals(2, levels.size());
+    Assert.assertEquals(Arrays.asList(facades.get(0)), levels.get(0));
+    Assert.assertEquals(Arrays.asList(facades.get(1), facades.get(2)), levels.get(1));
+  }
+
+  @Test
+  public void testOnlyConfigurationRuleIsReleased() throws Exception {
+    ProjectConfigurationManager configurationManager = (ProjectConfigurationManager) MavenPlugin
+        .getProjectConfigurationManager();
+    Assert.assertNotNull(configurationManager.getConfigurationRule());
+
+    ((MavenConfigurationImpl) mavenConfiguration).setParallelProjectConfiguration(true);
+    Assert.assertNull(configurationManager.getConfigurationRule());
+    Assert.assertEquals(workspace.getRuleFactory().buildRule(), configurationManager.getRule());
+  }
+
+  @Test
+  public void testParallelUpdateConfiguration() throws Exception {
+    IProject dependency = createExisting("dependency", "resources/projects/dependency/dependency", true);
+    IProject dependent = createExisting("dependent", "resources/projects/dependency/dependent", true);
+    IProject dependent2 = createExisting("dependent2", "resources/projects/dependency/dependent2", true);
+    waitForJobsToComplete(monitor);
+
+    ((MavenConfigurationImpl) mavenConfiguration).setParallelProjectConfiguration(true);
+    ProjectConfigurationManager configurationManager = (ProjectConfigurationManager) MavenPlugin
+        .getProjectConfigurationManager();
+    MavenUpdateRequest request = new MavenUpdateRequest(new IProject[] {dependent2, dependent, dependency},
+        mavenConfiguration.isOffline(), false);
+    Map<String, IStatus> status = configurationManager.updateProjectConfiguration(request, true, false, monitor);
+
+    Assert.assertEquals(3, status.size());
+    for(IStatus projectStatus : status.values()) {
+      Assert.assertTrue(projectStatus.toString(), projectStatus.isOK());
+    }
+    assertNoErrors(dependent);
+    assertNoErrors(dependent2);
+  }
+
+  @Test
+  public void testParallelImport() throws Exception {
+    File basedir = Files.createTempDirectory(getClass().getSimpleName()).toFile();
+    copyDir(new File("resources/projects/dependency"), basedir);
+    List<MavenProjectInfo> projectInfos = new ArrayList<MavenProjectInfo>();
+    for(String name : new String[] {"dependency", "dependent", "dependent2"}) {
+      File pomFile = new File(basedir, name + "/pom.xml");
+      Model model = MavenPlugin.getMavenModelManager().readMavenModel(pomFile);
+      projectInfos.add(new MavenProjectInfo(name, pomFile, model, null));
+    }
+
+    ((MavenConfigurationImpl) mavenConfiguration).setParallelProjectConfiguration(true);
+    OverlapRecordingConfigurationManager configurationManager = new OverlapRecordingConfigurationManager(
+        "dependent", "dependent2");
+    List<IMavenProjectImportResult> results = configurationManager.importProjects(projectInfos,
+        new ProjectImportConfiguration(), monitor);
+    waitForJobsToComplete(monitor);
+
+    Assert.assertEquals(3, results.size());
+    for(IMavenProjectImportResult result : results) {
+      Assert.assertNotNull(result.getProject());
+      assertNoErrors(result.getProject());
+    }
+    Assert.assertEquals(3, configurationManager.configured.get());
+    // dependent and dependent2 do not depend on each other and are configured at the same time
+    Assert.assertEquals(2, configurationManager.maxConcurrent.get());
+  }
+
+  /**
+   * Counts concurrent lifecycle mapping configure calls. Calls for the overlapping projects wait for each other, so the
+   * configuration of one of them can not complete before the other one started.
+   */
+  private static class OverlapRecordingConfigurationManager extends ProjectConfigurationManager {
+
+    final AtomicInteger configured = new AtomicInteger();
+
+    final AtomicInteger maxConcurrent = new AtomicInteger();
+
+    private final AtomicInteger concurrent = new AtomicInteger();
+
+    private final Set<String> overlapping;
+
+    private final CyclicBarrier barrier;
+
+    OverlapRecordingConfigurationManager(String... overlapping) {
+      super(MavenPluginActivator.getDefault().getMaven(), MavenPluginActivator.getDefault()
+          .getMavenProjectManagerImpl(), MavenPluginActivator.getDefault().getMavenModelManager(),
+          MavenPluginActivator.getDefault().getMavenMarkerManager(), MavenPluginActivator.getDefault()
+              .getMavenConfiguration());
+      this.overlapping = new HashSet<String>(Arrays.asList(overlapping));
+      this.barrier = new CyclicBarrier(overlapping.length);
+    }
+
+    @Override
+    public ILifecycleMapping getLifecycleMapping(final IMavenProjectFacade projectFacade) throws CoreException {
+      final ILifecycleMapping lifecycleMapping = super.getLifecycleMapping(projectFacade);
+      if(lifecycleMapping == null) {
+        return null;
+      }
+      return (ILifecycleMapping) Proxy.newProxyInstance(ILifecycleMapping.class.getClassLoader(),
+          new Class<?>[] {ILifecycleMapping.class}, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+              if(!"configure".equals(method.getName())) {
+                return invokeDelegate(method, args);
+              }
+              int current = concurrent.incrementAndGet();
+              try {
+                maxConcurrent.accumulateAndGet(current, Math::max);
+                if(overlapping.contains(projectFacade.getArtifactKey().getArtifactId())) {
+                  try {
+                    barrier.await(30, TimeUnit.SECONDS);
+                  } catch(TimeoutException | BrokenBarrierException ex) {
+                    // configured one after another, the assertion on maxConcurrent fails
+                  }
+                }
+                configured.incrementAndGet();
+                return invokeDelegate(method, args);
+              } finally {
+                concurrent.decrementAndGet();
+              }
+            }
+
+            private Object invokeDelegate(Method method, Object[] args) throws Throwable {
+              try {
+                return method.invoke(lifecycleMapping, args);
+              } catch(InvocationTargetException ex) {
+                throw ex.getCause();
+              }
+            }
+          });
+    }
+  }
+
+  private static IMavenProjectFacade getFacade(IProject project) {
+    return MavenPlugin.getMavenProjectRegistry().getProject(project);
+  }
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.core.resources.IProject;
+
+import org.apache.maven.artifact.Artifact;
+
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.embedder.MavenModelManager;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
+import org.eclipse.m2e.core.project.ResolverConfiguration;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+
+
+public class DependencyGraphMemoTest extends AbstractMavenProjectTestCase {
+
+  @Test
+  public void testSecondProjectReusesSubtree() throws Exception {
+    IProject dependent = createExisting("dependent", "resources/projects/dependency/dependent", true);
+    IProject dependent2 = createExisting("dependent2", "resources/projects/dependency/dependent2", true);
+    createExisting("dependency", "resources/projects/dependency/dependency", true);
+    waitForJobsToComplete(monitor);
+
+    IMavenProjectFacade facade = MavenPlugin.getMavenProjectRegistry().getProject(dependent);
+    IMavenProjectFacade facade2 = MavenPlugin.getMavenProjectRegistry().getProject(dependent2);
+    MavenModelManager modelManager = MavenPlugin.getMavenModelManager();
+
+    try (DependencyGraphMemo memo = DependencyGraphMemo.open()) {
+      DependencyNode tree = modelManager.readDependencyTree(facade, facade.getMavenProject(monitor),
+          Artifact.SCOPE_TEST, monitor);
+      Assert.assertEquals(0, memo.getHits());
+
+      DependencyNode tree2 = modelManager.readDependencyTree(facade2, facade2.getMavenProject(monitor),
+          Artifact.SCOPE_TEST, monitor);
+      Assert.assertEquals(1, memo.getHits());
+
+      Assert.assertEquals("dependent", tree.getArtifact().getArtifactId());
+      Assert.assertEquals("dependent2", tree2.getArtifact().getArtifactId());
+      Assert.assertEquals(1, tree2.getChildren().size());
+      Assert.assertEquals("dependency", tree2.getChildren().get(0).getArtifact().getArtifactId());
+      // each project works on its own copy of the shared subtree
+      Assert.assertNotSame(tree.getChildren().get(0), tree2.getChildren().get(0));
+    }
+  }
+
+  @Test
+  public void testMemoizedTreesEqualCollectedTrees() throws Exception {
+    IProject[] projects = new IProject[] {
+        createExisting("dependency", "resources/projects/dependency/dependency", true),
+        createExisting("dependent", "resources/projects/dependency/dependent", true),
+        createExisting("dependent2", "resources/projects/dependency/dependent2", true),
+        createExisting("diamond", "resources/projects/dependency/diamond", true)};
+    waitForJobsToComplete(monitor);
+
+    // without a memo, the default collector builds every graph on its own
+    String[] expected = new String[projects.length];
+    for(int i = 0; i < projects.length; i++ ) {
+      expected[i] = toString(readDependencyTree(projects[i]));
+    }
+
+    try (DependencyGraphMemo memo = DependencyGraphMemo.open()) {
+      for(int i = 0; i < projects.length; i++ ) {
+        Assert.assertEquals(expected[i], toString(readDependencyTree(projects[i])));
+      }
+      Assert.assertTrue(memo.getHits() > 0);
+      // a second pass reuses the memoized subtrees of every project
+      for(int i = 0; i < projects.length; i++ ) {
+        Assert.assertEquals(expected[i], toString(readDependencyTree(projects[i])));
+      }
+    }
+  }
+
+  @Test
+  public void testWorkspaceKey() {
+    ProjectRegistry state = new ProjectRegistry();
+    ResolverConfiguration configuration = new ResolverConfiguration();
+    Object key = getWorkspaceKey(state, configuration);
+
+    Assert.assertEquals(key, getWorkspaceKey(state, configuration));
+    Assert.assertFalse(key.equals(getWorkspaceKey(new ProjectRegistry(), configuration)));
+
+    ResolverConfiguration noWorkspace = new ResolverConfiguration();
+    noWorkspace.setResolveWorkspaceProjects(!configuration.shouldResolveWorkspaceProjects());
+    Assert.assertFalse(key.equals(getWorkspaceKey(state, noWorkspace)));
+  }
+
+  private static Object getWorkspaceKey(IProjectRegistry state, ResolverConfiguration configuration) {
+    DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+    session.setWorkspaceReader(new EclipseWorkspaceArtifactRepository(new ProjectRegistryManager.Context(state,
+        configuration, null)));
+    return MemoizingDependencyCollector.getWorkspace(session);
+  }
+
+  private DependencyNode readDependencyTree(IProject project) throws Exception {
+    IMavenProjectFacade facade = MavenPlugin.getMavenProjectRegistry().getProject(project);
+    return MavenPlugin.getMavenModelManager().readDependencyTree(facade, facade.getMavenProject(monitor),
+        Artifact.SCOPE_TEST, monitor);
+  }
+
+  private static String toString(DependencyNode root) {
+    StringBuilder sb = new StringBuilder();
+    append(sb, root, "");
+    return sb.toString();
+  }
+
+  private static void append(StringBuilder sb, DependencyNode node, String indent) {
+    sb.append(indent).append(node.getArtifact());
+    Dependency dependency = node.getDependency();
+    if(dependency != null) {
+      sb.append(" [").append(dependency.getScope()).append(dependency.isOptional() ? ", optional]" : "]");
+    }
+    sb.append('\n');
+    for(DependencyNode child : node.getChildren()) {
+      append(sb, child, indent + "  ");
+    }
+  }
+}
@@ -16,6 +16,7 @@ import java.io.FileNotFoundException;
 import java.io.PrintStream;
 import java.nio.file.Files;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
@@ -34,8 +35,10 @@ import org.apache.maven.project.MavenProject;
 import org.apache.maven.shared.utils.io.FileUtils;
 
 import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.embedder.ArtifactRef;
 import org.eclipse.m2e.core.internal.IMavenConstants;
 import org.eclipse.m2e.core.internal.MavenPluginActivator;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
 import org.eclipse.m2e.core.project.MavenProjectInfo;
 import org.eclipse.m2e.core.project.ProjectImportConfiguration;
 import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
@@ -78,6 +81,69 @@ public class MemoryConsumptionTest extends AbstractMavenProjectTestCase {
     }
   }
 
+  @Test
+  public void testArtifactRefsAreSharedAcrossFacades() throws Exception {
+    File tempDirectory = Files.createTempDirectory(getClass().getSimpleName()).toFile();
+    int nbProjects = 20;
+    Set<File> poms = buildProjectsWithSharedDependency(nbProjects, tempDirectory);
+    try {
+      List<MavenProjectInfo> toImport = poms.stream().map(pom -> new MavenProjectInfo("", pom, null, null))
+          .collect(Collectors.toList());
+      MavenPlugin.getProjectConfigurationManager().importProjects(toImport, new ProjectImportConfiguration(), null,
+          new NullProgressMonitor());
+      waitForJobsToComplete(monitor);
+
+      Map<ArtifactRef, ArtifactRef> canonical = new HashMap<>();
+      Set<ArtifactRef> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+      Set<String> versionInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+      int nbRefs = 0;
+      for(IMavenProjectFacade facade : MavenPlugin.getMavenProjectRegistry().getProjects()) {
+        for(ArtifactRef ref : facade.getMavenProjectArtifacts()) {
+          canonical.put(ref, ref);
+          instances.add(ref);
+          versionInstances.add(ref.getVersion());
+          nbRefs++ ;
+        }
+      }
+      Assert.assertEquals(nbProjects - 1, nbRefs);
+      Assert.assertEquals("Equal artifact references are not shared", canonical.size(), instances.size());
+      Assert.assertEquals("Equal version strings are not shared", 1, versionInstances.size());
+    } finally {
+      FileUtils.deleteDirectory(tempDirectory);
+    }
+  }
+
+  private Set<File> buildProjectsWithSharedDependency(int nbProjects, File tempDirectory)
+      throws FileNotFoundException {
+    Set<File> poms = new HashSet<>(nbProjects, 1.f);
+    for(int i = 0; i < nbProjects; i++ ) {
+      File projectDir = new File(tempDirectory, "s" + i);
+      projectDir.mkdirs();
+      File pom = new File(projectDir, "pom.xml");
+      poms.add(pom);
+      try (PrintStream content = new PrintStream(pom);) {
+        content.println("<project>");
+        content.println("  <modelVersion>4.0.0</modelVersion>");
+        content.println("  <groupId>org.eclipse.m2e.core.tests.shared</groupId>");
+        content.println("  <artifactId>sNUMBER</artifactId>".replace("NUMBER", Integer.toString(i)));
+        content.println("  <version>1</version>");
+        content.println("  <packaging>pom</packaging>");
+        if(i > 0) {
+          content.println("  <dependencies>");
+          content.println("    <dependency>");
+          content.println("      <groupId>org.eclipse.m2e.core.tests.shared</groupId>");
+          content.println("      <artifactId>s0</artifactId>");
+          content.println("      <version>1</version>");
+          content.println("      <type>pom</type>");
+          content.println("    </dependency>");
+          content.println("  </dependencies>");
+        }
+        content.println("</project>");
+      }
+    }
+    return poms;
+  }
+
   private Set<File> buildLinearHierarchy(int depth, File tempDirectory) throws FileNotFoundException {
     Set<File> poms = new HashSet<>(depth, 1.f);
     for(int i = 0; i < depth; i++ ) {
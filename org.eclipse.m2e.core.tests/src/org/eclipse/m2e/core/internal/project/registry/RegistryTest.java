@@ -24,6 +24,7 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.m2e.core.MavenPlugin;
 import org.eclipse.m2e.core.embedder.ArtifactKey;
 import org.eclipse.m2e.core.internal.MavenPluginActivator;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
@@ -80,6 +81,37 @@ public class RegistryTest extends AbstractMavenProjectTestCase {
     Assert.assertNotEquals(Collections.emptyMap(), state.requiredCapabilities);
   }
 
+  @Test
+  public void testRemovedProjectIsDroppedFromArtifactIndex() throws IOException, CoreException, InterruptedException {
+    IProject project = createExisting("dependency", "resources/projects/dependency/dependency", true);
+    waitForJobsToComplete(monitor);
+    IFile pom = project.getFile("pom.xml");
+    ArtifactKey key = new ArtifactKey("org.eclipse.m2e.core.test.registrymanager", "dependency", "0.0.1", null);
+
+    MutableProjectRegistry state = MavenPluginActivator.getDefault().getMavenProjectManagerImpl()
+        .newMutableProjectRegistry();
+    Assert.assertEquals(1, state.getProjectFacades(key.getGroupId(), key.getArtifactId(), null).size());
+
+    state.removeProject(pom, key);
+    Assert.assertTrue(state.getWorkspaceArtifacts(key.getGroupId(), key.getArtifactId()).isEmpty());
+    Assert.assertTrue(state.getProjectFacades(key.getGroupId(), key.getArtifactId(), null).isEmpty());
+    Assert.assertFalse(state.workspaceArtifacts.containsKey(key));
+  }
+
+  @Test
+  public void testDeletedProjectIsDroppedFromArtifactIndex() throws IOException, CoreException, InterruptedException {
+    IProject project = createExisting("dependency", "resources/projects/dependency/dependency", true);
+    waitForJobsToComplete(monitor);
+    String groupId = "org.eclipse.m2e.core.test.registrymanager";
+    Assert.assertEquals(1, MavenPlugin.getMavenProjectRegistry().getMavenProjects(groupId, "dependency", null).size());
+
+    project.delete(true, monitor);
+    waitForJobsToComplete(monitor);
+    Assert.assertTrue(MavenPlugin.getMavenProjectRegistry().getMavenProjects(groupId, "dependency", null).isEmpty());
+    Assert.assertTrue(MavenPluginActivator.getDefault().getMavenProjectManagerImpl()
+        .newMutableProjectRegistry().getWorkspaceArtifacts(groupId, "dependency").isEmpty());
+  }
+
   @Ignore(value = "This test doesn't manage to reproduce Bug 547172 while similar manual steps do lead to an error")
   public void testInvalidParent() throws IOException, CoreException, InterruptedException {
     IProject childProject = importProject("invalidParent", "resources/projects/invalidParent/child/", new ProjectImportConfiguration());
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.ui.internal.console;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.eclipse.m2e.core.ui.internal.console.ConsoleLineBuffer.Line;
+
+
+public class ConsoleLineBufferTest {
+
+  @Test
+  public void testCapacity() {
+    assertEquals(2, new ConsoleLineBuffer(0).getCapacity());
+    assertEquals(2, new ConsoleLineBuffer(2).getCapacity());
+    assertEquals(8, new ConsoleLineBuffer(5).getCapacity());
+    assertEquals(8, new ConsoleLineBuffer(8).getCapacity());
+  }
+
+  @Test
+  public void testLinesAreDrainedInOrder() {
+    ConsoleLineBuffer buffer = new ConsoleLineBuffer(4);
+    assertTrue(buffer.isEmpty());
+    assertNull(buffer.poll());
+
+    assertTrue(buffer.offer(1, 10L, "first"));
+    assertTrue(buffer.offer(2, 20L, "second"));
+    assertFalse(buffer.isEmpty());
+
+    Line line = buffer.poll();
+    assertEquals(1, line.getType());
+    assertEquals(10L, line.getTimestamp());
+    assertEquals("first", line.getMessage());
+    assertEquals("second", buffer.poll().getMessage());
+    assertTrue(buffer.isEmpty());
+    assertNull(buffer.poll());
+  }
+
+  @Test
+  public void testMessageIsFormattedWhenRead() {
+    ConsoleLineBuffer buffer = new ConsoleLineBuffer(2);
+    StringBuilder message = new StringBuilder("before");
+    buffer.offer(0, 0L, message);
+    message.append(" after");
+    assertEquals("before after", buffer.poll().getMessage());
+  }
+
+  @Test
+  public void testLinesAreDroppedWhenFull() {
+    ConsoleLineBuffer buffer = new ConsoleLineBuffer(4);
+    for(int i = 0; i < 4; i++ ) {
+      assertTrue(buffer.offer(0, i, "line " + i));
+    }
+    assertFalse(buffer.offer(0, 4L, "line 4"));
+    assertFalse(buffer.offer(0, 5L, "line 5"));
+    assertEquals(2, buffer.takeDropped());
+    assertEquals(0, buffer.takeDropped());
+
+    // the buffered lines are kept, the dropped ones are gone
+    for(int i = 0; i < 4; i++ ) {
+      assertEquals("line " + i, buffer.poll().getMessage());
+    }
+    assertTrue(buffer.isEmpty());
+  }
+
+  @Test
+  public void testReuseAfterDrain() {
+    ConsoleLineBuffer buffer = new ConsoleLineBuffer(2);
+    for(int i = 0; i < 10; i++ ) {
+      assertTrue(buffer.offer(0, i, "line " + i));
+      assertTrue(buffer.offer(0, i, "next " + i));
+      assertEquals("line " + i, buffer.poll().getMessage());
+      assertEquals("next " + i, buffer.poll().getMessage());
+      assertNull(buffer.poll());
+    }
+    assertEquals(0, buffer.takeDropped());
+  }
+
+  @Test
+  public void testConcurrentProducers() throws Exception {
+    final ConsoleLineBuffer buffer = new ConsoleLineBuffer(1024);
+    final int producers = 4;
+    final int lines = 200;
+    Thread[] threads = new Thread[producers];
+    for(int t = 0; t < producers; t++ ) {
+      final int producer = t;
+      threads[t] = new Thread() {
+        public void run() {
+          for(int i = 0; i < lines; i++ ) {
+            buffer.offer(0, i, producer + ":" + i);
+          }
+        }
+      };
+      threads[t].start();
+    }
+    for(Thread thread : threads) {
+      thread.join();
+    }
+
+    Set<String> messages = new HashSet<String>();
+    Line line;
+    while((line = buffer.poll()) != null) {
+      assertTrue(messages.add(line.getMessage()));
+    }
+    assertEquals(producers * lines, messages.size());
+    assertEquals(0, buffer.takeDropped());
+  }
+}
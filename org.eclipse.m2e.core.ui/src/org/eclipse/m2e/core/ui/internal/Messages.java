@@ -215,6 +215,8 @@ public class Messages extends NLS {
 
   public static String MavenConsoleImpl_title;
 
+  public static String MavenConsoleImpl_linesDropped;
+
   public static String MavenConsolePageParticipant_any;
 
   public static String MavenConsolePageParticipant_error;
@@ -353,6 +355,8 @@ public class Messages extends NLS {
 
   public static String MavenPomSelectionComponent_results;
 
+  public static String MavenPomSelectionComponent_results_limited;
+
   public static String MavenPomSelectionComponent_search_title;
 
   public static String MavenPomSelectionComponent_searching;
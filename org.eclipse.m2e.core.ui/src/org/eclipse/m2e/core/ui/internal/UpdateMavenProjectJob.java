@@ -64,7 +64,7 @@ public class UpdateMavenProjectJob extends WorkspaceJob {
     this.cleanProjects = cleanProjects;
     this.refreshFromLocal = refreshFromLocal;
 
-    setRule(MavenPlugin.getProjectConfigurationManager().getRule());
+    setRule(((ProjectConfigurationManager) MavenPlugin.getProjectConfigurationManager()).getConfigurationRule());
   }
 
   public IStatus runInWorkspace(IProgressMonitor monitor) {
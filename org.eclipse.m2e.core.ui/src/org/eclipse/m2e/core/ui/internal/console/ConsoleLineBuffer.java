@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.ui.internal.console;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * Bounded lock-free ring buffer between log producers and the single UI thread consumer of the Maven console.
+ * Producers never block: when the buffer is full the line is dropped and counted, the consumer reports the number of
+ * dropped lines the next time it drains the buffer.
+ * <p>
+ * Lines keep a reference to the original message object and the time it was logged, formatting happens on the
+ * consumer side and only for lines that actually get displayed.
+ *
+ * @since 1.12
+ */
+public class ConsoleLineBuffer {
+
+  /**
+   * A buffered console line.
+   */
+  public static class Line {
+    final int type;
+
+    final long timestamp;
+
+    final Object message;
+
+    Line(int type, long timestamp, Object message) {
+      this.type = type;
+      this.timestamp = timestamp;
+      this.message = message;
+    }
+
+    public int getType() {
+      return type;
+    }
+
+    public long getTimestamp() {
+      return timestamp;
+    }
+
+    public String getMessage() {
+      return String.valueOf(message);
+    }
+  }
+
+  private final int mask;
+
+  private final AtomicReferenceArray<Line> slots;
+
+  /**
+   * Per slot sequence, slot {@code i} is free for the producer claiming position {@code p} when
+   * {@code sequence[i] == p} and holds a published line for the consumer when {@code sequence[i] == p + 1}.
+   */
+  private final AtomicLongArray sequences;
+
+  private final AtomicLong producerPosition = new AtomicLong();
+
+  /** Only ever touched by the consumer thread */
+  private long consumerPosition;
+
+  private final AtomicLong dropped = new AtomicLong();
+
+  /**
+   * @param capacity maximum number of buffered lines, rounded up to the next power of two
+   */
+  public ConsoleLineBuffer(int capacity) {
+    int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+    this.mask = size - 1;
+    this.slots = new AtomicReferenceArray<>(size);
+    this.sequences = new AtomicLongArray(size);
+    for(int i = 0; i < size; i++ ) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * Adds a line to the buffer. May be called concurrently from any thread.
+   *
+   * @return {@code false} if the buffer was full and the line has been dropped
+   */
+  public boolean offer(int type, long timestamp, Object message) {
+    long position = producerPosition.get();
+    while(true) {
+      int index = (int) position & mask;
+      long sequence = sequences.get(index);
+      if(sequence == position) {
+        if(producerPosition.compareAndSet(position, position + 1)) {
+          slots.lazySet(index, new Line(type, timestamp, message));
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = producerPosition.get();
+      } else if(sequence < position) {
+        // consumer did not catch up yet
+        dropped.incrementAndGet();
+        return false;
+      } else {
+        position = producerPosition.get();
+      }
+    }
+  }
+
+  /**
+   * Removes the oldest line from the buffer. Must only be called from the single consumer thread.
+   *
+   * @return the oldest line or {@code null} if no line has been published yet
+   */
+  public Line poll() {
+    int index = (int) consumerPosition & mask;
+    if(sequences.get(index) != consumerPosition + 1) {
+      return null;
+    }
+    Line line = slots.get(index);
+    slots.lazySet(index, null);
+    sequences.set(index, consumerPosition + mask + 1);
+    consumerPosition++ ;
+    return line;
+  }
+
+  /**
+   * Must only be called from the single consumer thread.
+   */
+  public boolean isEmpty() {
+    return sequences.get((int) consumerPosition & mask) != consumerPosition + 1;
+  }
+
+  /**
+   * Returns the number of lines dropped since the last call and resets the counter.
+   */
+  public long takeDropped() {
+    return dropped.getAndSet(0);
+  }
+
+  public int getCapacity() {
+    return mask + 1;
+  }
+}
@@ -15,6 +15,7 @@ import java.io.IOException;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.ibm.icu.text.DateFormat;
 import com.ibm.icu.util.ULocale;
@@ -26,6 +27,7 @@ import org.eclipse.jface.resource.JFaceColors;
 import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.jface.util.PropertyChangeEvent;
+import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.PlatformUI;
@@ -69,9 +71,34 @@ public class MavenConsoleImpl extends IOConsole implements MavenConsole, IProper
 
   private List<IMavenConsoleListener> listeners = new CopyOnWriteArrayList<IMavenConsoleListener>();
 
+  private static final int DEFAULT_BUFFER_SIZE = 10000;
+
+  // delay between two consecutive writes of buffered lines, roughly one frame
+  private static final int DRAIN_DELAY = 16;
+
+  // maximum number of lines written to the console streams per drain
+  private static final int DRAIN_BATCH_SIZE = 2000;
+
+  // lines logged from any thread and not yet written to the console, see #drainBuffer()
+  private final ConsoleLineBuffer buffer;
+
+  private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+  private final Runnable drainRunnable = new Runnable() {
+    public void run() {
+      drainBuffer();
+    }
+  };
+
+  // only used from the UI thread
+  private DateFormat dateFormat;
+
   public MavenConsoleImpl(ImageDescriptor imageDescriptor) {
     super(TITLE, imageDescriptor);
     this.setConsoleDocument(new ConsoleDocument());
+    int bufferSize = M2EUIPluginActivator.getDefault().getPreferenceStore()
+        .getInt(MavenPreferenceConstants.P_CONSOLE_BUFFER_SIZE);
+    this.buffer = new ConsoleLineBuffer(bufferSize > 0 ? bufferSize : DEFAULT_BUFFER_SIZE);
   }
 
   protected void init() {
@@ -137,43 +164,101 @@ public class MavenConsoleImpl extends IOConsole implements MavenConsole, IProper
     ConsoleDocument.ConsoleLine[] lines = getConsoleDocument().getLines();
     for(int i = 0; i < lines.length; i++ ) {
       ConsoleDocument.ConsoleLine line = lines[i];
-      appendLine(line.type, line.line);
+      write(line.type, line.line + '\n');
     }
     getConsoleDocument().clear();
+    drainBuffer();
   }
 
-  private void appendLine(final int type, final String line) {
-    show(false);
-    //the synchronization here caused a deadlock. since the writes are simply appending to the output stream
-    //or the document, just doing it on the main thread to avoid deadlocks and or corruption of the
-    //document or output stream
-    Display.getDefault().asyncExec(new Runnable() {
-      public void run() {
-        if(isVisible()) {
-          try {
-            switch(type) {
-              case ConsoleDocument.COMMAND:
-                getCommandStream().write(line);
-                getCommandStream().write('\n');
-                break;
-              case ConsoleDocument.MESSAGE:
-                getMessageStream().write(line);
-                getMessageStream().write('\n');
-                break;
-              case ConsoleDocument.ERROR:
-                getErrorStream().write(line);
-                getErrorStream().write('\n');
-                break;
-            }
-          } catch(IOException ex) {
-            // Don't log using slf4j - it will cause a cycle
-            ex.printStackTrace();
-          }
-        } else {
-          getConsoleDocument().appendConsoleLine(type, line);
+  private void appendLine(int type, long timestamp, Object message) {
+    buffer.offer(type, timestamp, message);
+    scheduleDrain();
+  }
+
+  /*
+   * Coalesces all lines logged until the UI thread gets to it into a single drain. At most one drain is pending at
+   * any time, no matter how many threads are logging.
+   */
+  private void scheduleDrain() {
+    if(drainScheduled.compareAndSet(false, true)) {
+      final Display display = Display.getDefault();
+      display.asyncExec(new Runnable() {
+        public void run() {
+          display.timerExec(DRAIN_DELAY, drainRunnable);
         }
+      });
+    }
+  }
+
+  /*
+   * Writes buffered lines to the console streams, consecutive lines of the same type are written as one chunk. Is
+   * always called from the UI thread. The synchronization on the streams caused a deadlock in the past, since the
+   * writes are simply appending to the output stream or the document, doing it on the main thread avoids deadlocks
+   * and corruption of the document or output stream.
+   */
+  void drainBuffer() {
+    drainScheduled.set(false);
+
+    StringBuilder chunk = new StringBuilder();
+    int chunkType = -1;
+    int count = 0;
+    ConsoleLineBuffer.Line line;
+    while(count++ < DRAIN_BATCH_SIZE && (line = buffer.poll()) != null) {
+      String text = formatLine(line);
+      if(!isVisible()) {
+        getConsoleDocument().appendConsoleLine(line.getType(), text);
+        continue;
       }
-    });
+      if(line.getType() != chunkType && chunk.length() > 0) {
+        write(chunkType, chunk.toString());
+        chunk.setLength(0);
+      }
+      chunkType = line.getType();
+      chunk.append(text).append('\n');
+    }
+    if(chunk.length() > 0) {
+      write(chunkType, chunk.toString());
+    }
+
+    long dropped = buffer.takeDropped();
+    if(dropped > 0) {
+      String text = NLS.bind(Messages.MavenConsoleImpl_linesDropped, Long.toString(dropped));
+      if(isVisible()) {
+        write(ConsoleDocument.ERROR, text + '\n');
+      } else {
+        getConsoleDocument().appendConsoleLine(ConsoleDocument.ERROR, text);
+      }
+    }
+
+    if(!buffer.isEmpty()) {
+      scheduleDrain();
+    }
+  }
+
+  private String formatLine(ConsoleLineBuffer.Line line) {
+    if(dateFormat == null) {
+      dateFormat = getDateFormat();
+    }
+    return dateFormat.format(new Date(line.getTimestamp())) + ": " + line.getMessage(); //$NON-NLS-1$
+  }
+
+  private void write(int type, String text) {
+    try {
+      switch(type) {
+        case ConsoleDocument.COMMAND:
+          getCommandStream().write(text);
+          break;
+        case ConsoleDocument.MESSAGE:
+          getMessageStream().write(text);
+          break;
+        case ConsoleDocument.ERROR:
+          getErrorStream().write(text);
+          break;
+      }
+    } catch(IOException ex) {
+      // Don't log using slf4j - it will cause a cycle
+      ex.printStackTrace();
+    }
   }
 
     /**
@@ -255,47 +340,69 @@ public class MavenConsoleImpl extends IOConsole implements MavenConsole, IProper
   // MavenConsole
 
   public void debug(String message) {
+    debug(System.currentTimeMillis(), message);
+  }
+
+  public void info(String message) {
+    info(System.currentTimeMillis(), message);
+  }
+
+  public void error(String message) {
+    error(System.currentTimeMillis(), message);
+  }
+
+  /**
+   * Logs a debug message, {@link String#valueOf(Object)} of the message is computed once, when the line is written
+   * to the console or right away if there are console listeners.
+   */
+  public void debug(long timestamp, Object message) {
     if(!M2EUIPluginActivator.getDefault().getPreferenceStore().getBoolean(MavenPreferenceConstants.P_DEBUG_OUTPUT)) {
       return;
     }
     if(showConsoleOnOutput()) {
       bringConsoleToFront();
     }
-    appendLine(ConsoleDocument.MESSAGE, getDateFormat().format(new Date()) + ": " + message);
-
-    for(IMavenConsoleListener listener : listeners) {
-      try {
-        listener.loggingMessage(message);
-      } catch(Exception e) {
-        e.printStackTrace();
-      }
-    }
+    log(ConsoleDocument.MESSAGE, timestamp, message);
   }
 
-  public void info(String message) {
+  /**
+   * Logs an info message, see {@link #debug(long, Object)}.
+   */
+  public void info(long timestamp, Object message) {
     if(showConsoleOnOutput()) {
       bringConsoleToFront();
     }
-    appendLine(ConsoleDocument.MESSAGE, getDateFormat().format(new Date()) + ": " + message);
-
-    for(IMavenConsoleListener listener : listeners) {
-      try {
-        listener.loggingMessage(message);
-      } catch(Exception e) {
-        e.printStackTrace();
-      }
-    }
+    log(ConsoleDocument.MESSAGE, timestamp, message);
   }
 
-  public void error(String message) {
+  /**
+   * Logs an error message, see {@link #debug(long, Object)}.
+   */
+  public void error(long timestamp, Object message) {
     if(showConsoleOnError()) {
       bringConsoleToFront();
     }
-    appendLine(ConsoleDocument.ERROR, getDateFormat().format(new Date()) + ": " + message); //$NON-NLS-1$
+    log(ConsoleDocument.ERROR, timestamp, message);
+  }
 
+  /*
+   * Queues the line and notifies the listeners. The message is formatted once, right away if there are listeners,
+   * otherwise when the line is written to the console.
+   */
+  private void log(int type, long timestamp, Object message) {
+    if(listeners.isEmpty()) {
+      appendLine(type, timestamp, message);
+      return;
+    }
+    String text = String.valueOf(message);
+    appendLine(type, timestamp, text);
     for(IMavenConsoleListener listener : listeners) {
       try {
-        listener.loggingError(message);
+        if(type == ConsoleDocument.ERROR) {
+          listener.loggingError(text);
+        } else {
+          listener.loggingMessage(text);
+        }
       } catch(Exception e) {
         e.printStackTrace();
       }
@@ -40,6 +40,11 @@ import org.eclipse.m2e.core.internal.index.SearchExpression;
  */
 public class IndexSearchEngine implements SearchEngine {
 
+  /**
+   * Maximum number of most relevant artifacts read to propose group and artifact ids
+   */
+  private static final int MAX_ARTIFACTS = 1000;
+
   private final IIndex index;
 
   public IndexSearchEngine(IIndex index) {
@@ -71,7 +76,7 @@ public class IndexSearchEngine implements SearchEngine {
     try {
       TreeSet<String> ids = new TreeSet<String>();
       for(IndexedArtifact artifact : index.find(groupIdSearchExpressions, null, null,
-          packaging.toSearchExpression() == null ? null : Collections.singleton(packaging.toSearchExpression()))) {
+          singletonOrNull(packaging.toSearchExpression()), 0, MAX_ARTIFACTS)) {
         ids.add(artifact.getArtifactId());
       }
       return subSet(ids, searchExpression);
@@ -109,7 +114,8 @@ public class IndexSearchEngine implements SearchEngine {
       SearchExpression groupSearchExpression = isBlank(searchExpression) ? null : new MatchTypedStringSearchExpression(
           searchExpression, MatchType.PARTIAL);
 
-      for(IndexedArtifact artifact : index.find(groupSearchExpression, null, null, packaging.toSearchExpression())) {
+      for(IndexedArtifact artifact : index.find(singletonOrNull(groupSearchExpression), null, null,
+          singletonOrNull(packaging.toSearchExpression()), 0, MAX_ARTIFACTS)) {
         ids.add(artifact.getGroupId());
       }
       return subSet(ids, searchExpression);
@@ -173,6 +179,10 @@ public class IndexSearchEngine implements SearchEngine {
     }
   }
 
+  private static Collection<SearchExpression> singletonOrNull(SearchExpression expression) {
+    return expression != null ? Collections.singleton(expression) : null;
+  }
+
   private Collection<String> subSet(TreeSet<String> ids, String searchExpression) {
     if(searchExpression == null || searchExpression.length() == 0) {
       return ids;
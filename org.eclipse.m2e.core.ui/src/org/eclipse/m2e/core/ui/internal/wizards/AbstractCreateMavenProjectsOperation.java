@@ -65,8 +65,17 @@ public abstract class AbstractCreateMavenProjectsOperation implements IRunnableW
     return projects;
   }
 
+  /**
+   * Returns the scheduling rule held while the projects are created and configured, the workspace root by default.
+   * 
+   * @since 1.12
+   */
+  protected ISchedulingRule getRule() {
+    return ResourcesPlugin.getWorkspace().getRoot();
+  }
+
   public void run(IProgressMonitor monitor) throws InvocationTargetException, InterruptedException {
-    ISchedulingRule rule = ResourcesPlugin.getWorkspace().getRoot();
+    ISchedulingRule rule = getRule();
     Job.getJobManager().beginRule(rule, monitor);
     try {
       try {
@@ -23,9 +23,11 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.ui.IWorkingSet;
 
 import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.internal.project.ProjectConfigurationManager;
 import org.eclipse.m2e.core.project.IMavenProjectImportResult;
 import org.eclipse.m2e.core.project.MavenProjectInfo;
 import org.eclipse.m2e.core.project.ProjectImportConfiguration;
@@ -54,6 +56,7 @@ public class ImportMavenProjectsJob extends WorkspaceJob {
     this.projects = projects;
     this.workingSets = workingSets;
     this.importConfiguration = importConfiguration;
+    setRule(((ProjectConfigurationManager) MavenPlugin.getProjectConfigurationManager()).getConfigurationRule());
   }
 
   @Override
@@ -61,6 +64,12 @@ public class ImportMavenProjectsJob extends WorkspaceJob {
 
     final AbstractCreateMavenProjectsOperation importOperation = new AbstractCreateMavenProjectsOperation() {
 
+      @Override
+      protected ISchedulingRule getRule() {
+        // projects are configured in parallel under their own rules
+        return ImportMavenProjectsJob.this.getRule() != null ? super.getRule() : null;
+      }
+
       @Override
       protected List<IProject> doCreateMavenProjects(IProgressMonitor progressMonitor) throws CoreException {
         SubMonitor monitor = SubMonitor.convert(progressMonitor, 101);
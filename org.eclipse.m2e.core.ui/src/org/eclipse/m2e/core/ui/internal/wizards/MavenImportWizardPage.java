@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -443,6 +444,23 @@ public class MavenImportWizardPage extends AbstractMavenWizardPage {
   public void scanProjects() {
 
     final AbstractProjectScanner<MavenProjectInfo> projectScanner = getProjectScanner();
+
+    // show projects while the scan is still running
+    final List<MavenProjectInfo> foundProjects = new ArrayList<MavenProjectInfo>();
+    projectTreeViewer.setInput(foundProjects);
+    final Display display = projectTreeViewer.getControl().getDisplay();
+    projectScanner.addProjectListener(new Consumer<MavenProjectInfo>() {
+      public void accept(final MavenProjectInfo projectInfo) {
+        display.asyncExec(new Runnable() {
+          public void run() {
+            if(!projectTreeViewer.getControl().isDisposed() && projectTreeViewer.getInput() == foundProjects) {
+              foundProjects.add(projectInfo);
+              projectTreeViewer.add(foundProjects, projectInfo);
+            }
+          }
+        });
+      }
+    });
     try {
       getWizard().getContainer().run(true, true, new IRunnableWithProgress() {
         public void run(IProgressMonitor monitor) throws InvocationTargetException, InterruptedException {
@@ -72,6 +72,7 @@ import org.eclipse.m2e.core.internal.IMavenConstants;
 import org.eclipse.m2e.core.internal.MavenPluginActivator;
 import org.eclipse.m2e.core.internal.index.IIndex;
 import org.eclipse.m2e.core.internal.index.IndexManager;
+import org.eclipse.m2e.core.internal.index.IndexSearchResult;
 import org.eclipse.m2e.core.internal.index.IndexedArtifact;
 import org.eclipse.m2e.core.internal.index.IndexedArtifactFile;
 import org.eclipse.m2e.core.internal.index.UserInputSearchExpression;
@@ -136,6 +137,11 @@ public class MavenPomSelectionComponent extends Composite {
 
   private static final long LONG_DELAY = 500L;
 
+  /**
+   * Maximum number of artifacts shown for one search
+   */
+  private static final int MAX_RESULTS = 500;
+
   final HashSet<String> artifactKeys = new HashSet<String>();
 
   final HashSet<String> managedKeys = new HashSet<String>();
@@ -465,22 +471,29 @@ public class MavenPomSelectionComponent extends Composite {
           setResult(IStatus.OK, NLS.bind(Messages.MavenPomSelectionComponent_searching, activeQuery.toLowerCase()),
               null);
 
-          Map<String, IndexedArtifact> res = indexManager.getAllIndexes().search(
-              new UserInputSearchExpression(activeQuery), field, classifier);
+          // only the most relevant artifacts are read from the indexes
+          IndexSearchResult res = indexManager.getAllIndexes().search(new UserInputSearchExpression(activeQuery),
+              field, classifier, 0, MAX_RESULTS);
+          if(stop) {
+            return Status.CANCEL_STATUS;
+          }
 
           //335139 have the managed entries always come up as first results
           LinkedHashMap<String, IndexedArtifact> managed = new LinkedHashMap<String, IndexedArtifact>();
           LinkedHashMap<String, IndexedArtifact> nonManaged = new LinkedHashMap<String, IndexedArtifact>();
-          for(Map.Entry<String, IndexedArtifact> art : res.entrySet()) {
-            String key = art.getValue().getGroupId() + ":" + art.getValue().getArtifactId(); //$NON-NLS-1$
+          for(IndexedArtifact art : res) {
+            String key = getKey(art);
             if(managedKeys.contains(key)) {
-              managed.put(art.getKey(), art.getValue());
+              managed.put(key, art);
             } else {
-              nonManaged.put(art.getKey(), art.getValue());
+              nonManaged.put(key, art);
             }
           }
           managed.putAll(nonManaged);
-          setResult(IStatus.OK, NLS.bind(Messages.MavenPomSelectionComponent_results, activeQuery, res.size()), managed);
+          String message = res.hasMore()
+              ? NLS.bind(Messages.MavenPomSelectionComponent_results_limited, activeQuery, res.getArtifacts().size())
+              : NLS.bind(Messages.MavenPomSelectionComponent_results, activeQuery, res.getArtifacts().size());
+          setResult(IStatus.OK, message, managed);
         } catch(BooleanQuery.TooManyClauses ex) {
           setResult(IStatus.ERROR, Messages.MavenPomSelectionComponent_toomany,
               Collections.<String, IndexedArtifact> emptyMap());
@@ -17,10 +17,14 @@ import org.eclipse.osgi.util.NLS;
 
 import org.apache.maven.artifact.Artifact;
 
+import org.eclipse.m2e.core.internal.WeakInterner;
+
 
 public class ArtifactKey implements Serializable {
   private static final long serialVersionUID = -8984509272834024387L;
 
+  private static final WeakInterner<ArtifactKey> KEYS = new WeakInterner<ArtifactKey>();
+
   private final String groupId;
 
   private final String artifactId;
@@ -143,6 +147,22 @@ public class ArtifactKey implements Serializable {
     return sb.toString();
   }
 
+  /**
+   * Returns the canonical instance of the given key. Canonical keys use canonical strings, keys of artifacts used by
+   * many projects are kept in memory only once.
+   *
+   * @since 1.12
+   */
+  public static ArtifactKey intern(ArtifactKey key) {
+    return KEYS.intern(key, k -> new ArtifactKey(WeakInterner.STRINGS.intern(k.groupId),
+        WeakInterner.STRINGS.intern(k.artifactId), WeakInterner.STRINGS.intern(k.version),
+        WeakInterner.STRINGS.intern(k.classifier)));
+  }
+
+  private Object readResolve() {
+    return intern(this);
+  }
+
   public String getGroupId() {
     return groupId;
   }
@@ -17,6 +17,8 @@ import java.util.Set;
 
 import org.apache.maven.artifact.Artifact;
 
+import org.eclipse.m2e.core.internal.WeakInterner;
+
 
 /**
  * @author Igor Fedorenko
@@ -24,13 +26,19 @@ import org.apache.maven.artifact.Artifact;
 public class ArtifactRef implements Serializable {
   private static final long serialVersionUID = -7560496230862532267L;
 
+  private static final WeakInterner<ArtifactRef> REFS = new WeakInterner<ArtifactRef>();
+
   private final ArtifactKey artifactKey;
 
   private final String scope;
 
   public ArtifactRef(Artifact artifact) {
-    this.artifactKey = new ArtifactKey(artifact);
-    this.scope = artifact.getScope();
+    this(new ArtifactKey(artifact), artifact.getScope());
+  }
+
+  private ArtifactRef(ArtifactKey artifactKey, String scope) {
+    this.artifactKey = artifactKey;
+    this.scope = scope;
   }
 
   public ArtifactKey getArtifactKey() {
@@ -57,6 +65,35 @@ public class ArtifactRef implements Serializable {
     return scope;
   }
 
+  public boolean equals(Object o) {
+    if(this == o) {
+      return true;
+    }
+    if(o instanceof ArtifactRef) {
+      ArtifactRef other = (ArtifactRef) o;
+      return artifactKey.equals(other.artifactKey) && (scope == null ? other.scope == null : scope.equals(other.scope));
+    }
+    return false;
+  }
+
+  public int hashCode() {
+    return artifactKey.hashCode() * 31 + (scope != null ? scope.hashCode() : 0);
+  }
+
+  /**
+   * Returns the canonical instance of the given reference, see {@link ArtifactKey#intern(ArtifactKey)}.
+   *
+   * @since 1.12
+   */
+  public static ArtifactRef intern(ArtifactRef ref) {
+    return REFS.intern(ref,
+        r -> new ArtifactRef(ArtifactKey.intern(r.artifactKey), WeakInterner.STRINGS.intern(r.scope)));
+  }
+
+  private Object readResolve() {
+    return intern(this);
+  }
+
   public static Set<ArtifactKey> toArtifactKey(Set<ArtifactRef> refs) {
     LinkedHashSet<ArtifactKey> keys = new LinkedHashSet<ArtifactKey>(refs.size());
     for(ArtifactRef ref : refs) {
@@ -65,10 +102,13 @@ public class ArtifactRef implements Serializable {
     return keys;
   }
 
+  /**
+   * Returns canonical references of the given artifacts.
+   */
   public static Set<ArtifactRef> fromArtifact(Set<Artifact> artifacts) {
     LinkedHashSet<ArtifactRef> refs = new LinkedHashSet<ArtifactRef>(artifacts.size());
     for(Artifact artifact : artifacts) {
-      refs.add(new ArtifactRef(artifact));
+      refs.add(intern(new ArtifactRef(artifact)));
     }
     return refs;
   }
@@ -17,6 +17,7 @@ import java.io.OutputStream;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -94,6 +95,16 @@ public interface IMaven {
   public boolean isUnavailable(String groupId, String artifactId, String version, String type, String classifier,
       List<ArtifactRepository> repositories) throws CoreException;
 
+  /**
+   * Returns those of the given artifacts that are {@link #isUnavailable(String, String, String, String, String, List)
+   * unavailable} from all specified repositories. Checks many artifacts at once without reading the same lastUpdated
+   * information over and over again.
+   *
+   * @since 1.12
+   */
+  public Set<ArtifactKey> getUnavailableArtifacts(Collection<ArtifactKey> artifacts, String type,
+      List<ArtifactRepository> repositories) throws CoreException;
+
   // read MavenProject
 
   public MavenProject readProject(File pomFile, IProgressMonitor monitor) throws CoreException;
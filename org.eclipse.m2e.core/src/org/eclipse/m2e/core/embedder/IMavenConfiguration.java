@@ -125,4 +125,12 @@ public interface IMavenConfiguration {
    */
   public boolean buildWithNullSchedulingRule();
 
+  /**
+   * @experimental Projects at the same level of the build order are configured concurrently, project configurators
+   *               must not rely on being called from a single thread.
+   * @return whether to configure projects in parallel under per-project scheduling rules.
+   * @since 1.12
+   */
+  public boolean isParallelProjectConfiguration();
+
 }
@@ -18,6 +18,19 @@ import java.io.InputStream;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -52,10 +65,13 @@ import org.eclipse.aether.util.graph.visitor.CloningDependencyVisitor;
 import org.eclipse.aether.util.graph.visitor.FilteringDependencyVisitor;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.osgi.util.NLS;
 
 import org.apache.maven.RepositoryUtils;
@@ -66,8 +82,11 @@ import org.apache.maven.project.MavenProject;
 import org.eclipse.m2e.core.internal.IMavenConstants;
 import org.eclipse.m2e.core.internal.MavenPluginActivator;
 import org.eclipse.m2e.core.internal.Messages;
+import org.eclipse.m2e.core.internal.project.registry.DependencyGraphMemo;
+import org.eclipse.m2e.core.project.IMavenProjectChangedListener;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
 import org.eclipse.m2e.core.project.IMavenProjectRegistry;
+import org.eclipse.m2e.core.project.MavenProjectChangedEvent;
 
 
 /**
@@ -82,9 +101,37 @@ public class MavenModelManager {
 
   private final IMaven maven;
 
+  /**
+   * Latest dependency tree request by pom location and scope
+   */
+  private final Map<String, DependencyTreeRequest> dependencyTrees = new ConcurrentHashMap<>();
+
+  private static final int MAX_TREE_READERS = 8;
+
+  private static final ExecutorService treeReader = Executors.newFixedThreadPool(
+      Math.min(Runtime.getRuntime().availableProcessors(), MAX_TREE_READERS), new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+
+        public Thread newThread(Runnable r) {
+          Thread thread = new Thread(r, "M2E Dependency Tree Reader " + count.incrementAndGet()); //$NON-NLS-1$
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+
   public MavenModelManager(IMaven maven, IMavenProjectRegistry projectManager) {
     this.maven = maven;
     this.projectManager = projectManager;
+    projectManager.addMavenProjectChangedListener(new IMavenProjectChangedListener() {
+      public void mavenProjectChanged(MavenProjectChangedEvent[] events, IProgressMonitor monitor) {
+        for(MavenProjectChangedEvent event : events) {
+          IPath location = event.getSource().getLocation();
+          if(location != null) {
+            removeDependencyTrees(location.toFile());
+          }
+        }
+      }
+    });
   }
 
   public org.apache.maven.model.Model readMavenModel(InputStream reader) throws CoreException {
@@ -161,7 +208,7 @@ public class MavenModelManager {
    * @deprecated use {@link #readDependencyTree(IMavenProjectFacade, MavenProject, String, IProgressMonitor)}, which
    *             supports workspace dependency resolution
    */
-  public synchronized DependencyNode readDependencyTree(IFile file, String classpath, IProgressMonitor monitor)
+  public DependencyNode readDependencyTree(IFile file, String classpath, IProgressMonitor monitor)
       throws CoreException {
     monitor.setTaskName(Messages.MavenModelManager_monitor_reading);
     MavenProject mavenProject = readMavenProject(file, monitor);
@@ -178,7 +225,7 @@ public class MavenModelManager {
     return readDependencyTree(null, mavenProject, classpath, monitor);
   }
 
-  public synchronized DependencyNode readDependencyTree(IMavenProjectFacade context, final MavenProject mavenProject,
+  public DependencyNode readDependencyTree(IMavenProjectFacade context, final MavenProject mavenProject,
       final String scope, IProgressMonitor monitor) throws CoreException {
     monitor.setTaskName(Messages.MavenModelManager_monitor_building);
 
@@ -191,6 +238,182 @@ public class MavenModelManager {
     return (context != null) ? projectManager.execute(context, callable, monitor) : maven.execute(callable, monitor);
   }
 
+  /**
+   * Reads the dependency trees of several projects concurrently, e.g. of all members of a parent hierarchy. Dependency
+   * subtrees shared by the projects are collected only once.
+   *
+   * @param projects the projects to read the trees of, mapped to their facades or to <code>null</code> to resolve
+   *          without workspace dependency resolution
+   * @return the dependency trees in the iteration order of <code>projects</code>
+   * @since 1.12
+   */
+  public Map<MavenProject, DependencyNode> readDependencyTrees(Map<MavenProject, IMavenProjectFacade> projects,
+      final String scope, IProgressMonitor monitor) throws CoreException {
+    monitor.setTaskName(Messages.MavenModelManager_monitor_building);
+    Map<MavenProject, Future<DependencyNode>> futures = new LinkedHashMap<MavenProject, Future<DependencyNode>>();
+    try (final DependencyGraphMemo memo = DependencyGraphMemo.open()) {
+      for(final Map.Entry<MavenProject, IMavenProjectFacade> entry : projects.entrySet()) {
+        futures.put(entry.getKey(), treeReader.submit(() -> {
+          try (DependencyGraphMemo shared = memo.share()) {
+            return readDependencyTree(entry.getValue(), entry.getKey(), scope, new NullProgressMonitor());
+          }
+        }));
+      }
+      Map<MavenProject, DependencyNode> result = new LinkedHashMap<MavenProject, DependencyNode>();
+      for(Map.Entry<MavenProject, Future<DependencyNode>> entry : futures.entrySet()) {
+        result.put(entry.getKey(), waitFor(entry.getValue(), monitor));
+      }
+      return result;
+    } finally {
+      for(Future<DependencyNode> future : futures.values()) {
+        future.cancel(false);
+      }
+    }
+  }
+
+  private static DependencyNode waitFor(Future<DependencyNode> future, IProgressMonitor monitor) throws CoreException {
+    while(true) {
+      if(monitor.isCanceled()) {
+        throw new OperationCanceledException();
+      }
+      try {
+        return future.get(100, TimeUnit.MILLISECONDS);
+      } catch(TimeoutException ex) {
+        // check for cancellation
+      } catch(InterruptedException ex) {
+        throw new OperationCanceledException();
+      } catch(ExecutionException ex) {
+        Throwable cause = ex.getCause();
+        if(cause instanceof CoreException) {
+          throw (CoreException) cause;
+        } else if(cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        } else if(cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw new CoreException(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, -1,
+            Messages.MavenModelManager_error_read, cause));
+      }
+    }
+  }
+
+  /**
+   * Reads the dependency tree of the given project in the background. Trees of workspace projects are cached by pom,
+   * scope and pom modification stamp until the project changes, concurrent requests for the same tree share one
+   * computation. Without a facade, nothing evicts the tree, it is only shared while it is computed.
+   * Cancelling the returned future cancels the computation unless other requests still wait for it.
+   * <p>
+   * The returned tree is shared between requests and must not be structurally modified.
+   *
+   * @param context the facade of the project or <code>null</code> to resolve without workspace dependency resolution
+   * @since 1.12
+   */
+  public CompletableFuture<DependencyNode> readDependencyTreeAsync(IMavenProjectFacade context,
+      MavenProject mavenProject, String scope) {
+    File pomFile = mavenProject.getFile();
+    String key = (pomFile != null ? pomFile.getAbsolutePath() : mavenProject.getId()) + '#' + scope;
+    long stamp = context != null ? context.getPom().getModificationStamp()
+        : pomFile != null ? pomFile.lastModified() : 0L;
+
+    DependencyTreeRequest request = dependencyTrees.compute(key, (k, existing) -> {
+      if(existing != null && existing.isValid(context, mavenProject, stamp)) {
+        existing.consumers.incrementAndGet();
+        return existing;
+      }
+      if(existing != null) {
+        // superseded
+        existing.abort();
+      }
+      return new DependencyTreeRequest(context, mavenProject, scope, stamp);
+    });
+    request.start();
+    if(context == null) {
+      request.tree.whenComplete((tree, ex) -> dependencyTrees.remove(key, request));
+    }
+
+    CompletableFuture<DependencyNode> result = new CompletableFuture<DependencyNode>();
+    request.tree.whenComplete((tree, ex) -> {
+      if(ex != null) {
+        result.completeExceptionally(ex);
+      } else {
+        result.complete(tree);
+      }
+    });
+    result.whenComplete((tree, ex) -> {
+      if(result.isCancelled()) {
+        dependencyTrees.compute(key, (k, current) -> {
+          if(request.consumers.decrementAndGet() > 0) {
+            return current;
+          }
+          request.abort();
+          return current == request ? null : current;
+        });
+      }
+    });
+    return result;
+  }
+
+  void removeDependencyTrees(File pomFile) {
+    String prefix = pomFile.getAbsolutePath() + '#';
+    dependencyTrees.keySet().removeIf(key -> key.startsWith(prefix));
+  }
+
+  private class DependencyTreeRequest extends Job {
+    final IMavenProjectFacade facade;
+
+    final MavenProject mavenProject;
+
+    final String scope;
+
+    final long stamp;
+
+    final CompletableFuture<DependencyNode> tree = new CompletableFuture<DependencyNode>();
+
+    final AtomicInteger consumers = new AtomicInteger(1);
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    DependencyTreeRequest(IMavenProjectFacade facade, MavenProject mavenProject, String scope, long stamp) {
+      super(Messages.MavenModelManager_monitor_building);
+      this.facade = facade;
+      this.mavenProject = mavenProject;
+      this.scope = scope;
+      this.stamp = stamp;
+      setSystem(true);
+    }
+
+    boolean isValid(IMavenProjectFacade facade, MavenProject mavenProject, long stamp) {
+      return this.facade == facade && this.mavenProject == mavenProject && this.stamp == stamp
+          && !tree.isCompletedExceptionally();
+    }
+
+    void start() {
+      if(scheduled.compareAndSet(false, true)) {
+        schedule();
+      }
+    }
+
+    void abort() {
+      cancel();
+      tree.cancel(false);
+    }
+
+    protected IStatus run(IProgressMonitor monitor) {
+      if(monitor.isCanceled() || tree.isDone()) {
+        tree.cancel(false);
+        return Status.CANCEL_STATUS;
+      }
+      try {
+        tree.complete(readDependencyTree(facade, mavenProject, scope, monitor));
+      } catch(CoreException ex) {
+        tree.completeExceptionally(ex);
+      } catch(RuntimeException ex) {
+        tree.completeExceptionally(ex);
+      }
+      return Status.OK_STATUS;
+    }
+  }
+
   DependencyNode readDependencyTree(RepositorySystemSession repositorySession, MavenProject mavenProject, String scope)
       throws CoreException {
     DefaultRepositorySystemSession session = new DefaultRepositorySystemSession(repositorySession);
@@ -213,6 +436,7 @@ public class MavenModelManager {
       CollectRequest request = new CollectRequest();
       request.setRequestContext("project"); //$NON-NLS-1$
       request.setRepositories(mavenProject.getRemoteProjectRepositories());
+      request.setRootArtifact(RepositoryUtils.toArtifact(mavenProject.getArtifact()));
 
       for(org.apache.maven.model.Dependency dependency : mavenProject.getDependencies()) {
         request.addDependency(RepositoryUtils.toDependency(dependency, stereotypes));
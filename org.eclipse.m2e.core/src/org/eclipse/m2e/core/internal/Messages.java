@@ -196,6 +196,8 @@ public class Messages extends NLS {
 
   public static String ProjectConfigurationManager_error_failed;
 
+  public static String ProjectConfigurationManager_error_parallel;
+
   public static String ProjectConfigurationManager_error_rename;
 
   public static String ProjectConfigurationManager_error_resolve;
@@ -244,6 +246,8 @@ public class Messages extends NLS {
 
   public static String ProjectRegistryRefreshJob_title;
 
+  public static String RemoteCatalogCache_job_refresh;
+
   public static String RepositoryRegistryUpdateJob_title;
 
   public static String pluginMarkerBuildError;
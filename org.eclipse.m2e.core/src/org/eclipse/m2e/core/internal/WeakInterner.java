@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.UnaryOperator;
+
+
+/**
+ * Returns canonical instances of equal immutable values, similar to {@link String#intern()}. Canonical instances are
+ * only weakly referenced and are released once no longer used anywhere else.
+ *
+ * @since 1.12
+ */
+public class WeakInterner<T> {
+
+  /** Shared interner of strings used in artifact coordinates */
+  public static final WeakInterner<String> STRINGS = new WeakInterner<String>();
+
+  private final Map<T, WeakReference<T>> values = new WeakHashMap<T, WeakReference<T>>();
+
+  /**
+   * Returns the canonical instance equal to the given value, the given value becomes the canonical instance if there
+   * is none yet.
+   */
+  public T intern(T value) {
+    return intern(value, UnaryOperator.identity());
+  }
+
+  /**
+   * Returns the canonical instance equal to the given value. If there is none yet, the result of the canonicalizer
+   * applied to the given value becomes the canonical instance, which allows to intern components of new values.
+   */
+  public synchronized T intern(T value, UnaryOperator<T> canonicalizer) {
+    if(value == null) {
+      return null;
+    }
+    WeakReference<T> reference = values.get(value);
+    T canonical = reference != null ? reference.get() : null;
+    if(canonical == null) {
+      canonical = canonicalizer.apply(value);
+      values.put(canonical, new WeakReference<T>(canonical));
+    }
+    return canonical;
+  }
+
+  public synchronized int size() {
+    return values.size();
+  }
+}
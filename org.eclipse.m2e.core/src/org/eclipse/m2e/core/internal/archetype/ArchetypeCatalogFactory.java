@@ -12,6 +12,7 @@
 package org.eclipse.m2e.core.internal.archetype;
 
 import java.io.BufferedInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
@@ -244,46 +245,21 @@ public abstract class ArchetypeCatalogFactory {
       if(idx > -1) {
         url = url.substring(0, idx);
       }
-      final ArchetypeCatalog catalog = getArchetyper().getRemoteCatalog(url);
-      final String remoteUrl = url;
-      @SuppressWarnings("serial")
-      ArchetypeCatalog catalogWrapper = new ArchetypeCatalog() {
-        public void addArchetype(Archetype archetype) {
-          catalog.addArchetype(archetype);
-        }
-
-        public List<Archetype> getArchetypes() {
-          List<Archetype> archetypes = new ArrayList<>(catalog.getArchetypes());
-          for(Archetype arch : archetypes) {
-            if(arch.getRepository() == null || arch.getRepository().trim().isEmpty()) {
-              arch.setRepository(remoteUrl);
-            }
-          }
-          return archetypes;
-        }
-
-        public String getModelEncoding() {
-          return catalog.getModelEncoding();
-        }
-
-        public void removeArchetype(Archetype archetype) {
-          catalog.removeArchetype(archetype);
-        }
-
-        public void setModelEncoding(String modelEncoding) {
-          catalog.setModelEncoding(modelEncoding);
-        }
-
-        public void setArchetypes(List<Archetype> archetypes) {
-          catalog.setArchetypes(archetypes);
-        }
-
-        public String toString() {
-          return catalog.toString();
+      String catalogUrl = url.endsWith(".xml") ? url : url + "/archetype-catalog.xml"; //$NON-NLS-1$ //$NON-NLS-2$
+      try {
+        RemoteCatalogCache cache = MavenPluginActivator.getDefault().getArchetypeManager().getRemoteCatalogCache();
+        return new CachedArchetypeCatalog(cache.getArchetypes(catalogUrl, url));
+      } catch(IOException ex) {
+        log.warn("Unable to download archetype catalog " + catalogUrl, ex); //$NON-NLS-1$
+      }
+      // not cached and not downloadable, let the archetyper report and fall back as it sees fit
+      ArchetypeCatalog catalog = getArchetyper().getRemoteCatalog(url);
+      for(Archetype arch : catalog.getArchetypes()) {
+        if(arch.getRepository() == null || arch.getRepository().trim().isEmpty()) {
+          arch.setRepository(url);
         }
-      };
-
-      return catalogWrapper;
+      }
+      return catalog;
     }
 
     /**
@@ -294,4 +270,37 @@ public abstract class ArchetypeCatalogFactory {
     }
   }
 
+  /**
+   * Catalog backed by a shared list of cached archetypes, the list is only copied if the catalog is modified.
+   */
+  @SuppressWarnings("serial")
+  static class CachedArchetypeCatalog extends ArchetypeCatalog {
+    private boolean shared = true;
+
+    CachedArchetypeCatalog(List<Archetype> archetypes) {
+      super.setArchetypes(archetypes);
+    }
+
+    public void addArchetype(Archetype archetype) {
+      copyOnWrite();
+      super.addArchetype(archetype);
+    }
+
+    public void removeArchetype(Archetype archetype) {
+      copyOnWrite();
+      super.removeArchetype(archetype);
+    }
+
+    public void setArchetypes(List<Archetype> archetypes) {
+      shared = false;
+      super.setArchetypes(archetypes);
+    }
+
+    private void copyOnWrite() {
+      if(shared) {
+        shared = false;
+        super.setArchetypes(new ArrayList<>(getArchetypes()));
+      }
+    }
+  }
 }
@@ -53,6 +53,8 @@ import org.eclipse.m2e.core.internal.NoSuchComponentException;
  */
 public class ArchetypeManager {
 
+  private static final String REMOTE_CATALOG_CACHE = "archetype-catalogs"; //$NON-NLS-1$
+
   private final Map<String, ArchetypeCatalogFactory> catalogs = new LinkedHashMap<String, ArchetypeCatalogFactory>();
 
   private final File configFile;
@@ -65,10 +67,13 @@ public class ArchetypeManager {
 
   private final PlexusContainer container;
 
+  private final RemoteCatalogCache remoteCatalogCache;
+
   public ArchetypeManager(PlexusContainer container, File configFile) {
     this.container = container;
     this.configFile = configFile;
     this.writer = new ArchetypeCatalogsWriter();
+    this.remoteCatalogCache = new RemoteCatalogCache(new File(configFile.getParentFile(), REMOTE_CATALOG_CACHE));
     try {
       this.aaMgr = container.lookup(ArchetypeArtifactManager.class);
       this.archetyper = container.lookup(org.apache.maven.archetype.ArchetypeManager.class);
@@ -223,4 +228,8 @@ public class ArchetypeManager {
       throw new NoSuchComponentException(ex);
     }
   }
+
+  RemoteCatalogCache getRemoteCatalogCache() {
+    return remoteCatalogCache;
+  }
 }
@@ -0,0 +1,332 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.archetype;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.osgi.util.NLS;
+
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+import org.apache.maven.archetype.catalog.Archetype;
+import org.apache.maven.archetype.catalog.ArchetypeCatalog;
+import org.apache.maven.archetype.catalog.io.xpp3.ArchetypeCatalogXpp3Reader;
+import org.apache.maven.wagon.proxy.ProxyInfo;
+
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.internal.MavenPluginActivator;
+import org.eclipse.m2e.core.internal.Messages;
+import org.eclipse.m2e.core.internal.index.nexus.AetherClientResourceFetcher.AetherClientConfigAdapter;
+
+import io.takari.aether.client.AetherClient;
+import io.takari.aether.client.Response;
+import io.takari.aether.okhttp.OkHttpAetherClient;
+
+
+/**
+ * Cache of remote archetype catalogs. Downloaded catalogs are kept on disk together with their ETag and Last-Modified
+ * validators and in memory in parsed form. Cached catalogs are returned right away, catalogs checked longer than
+ * {@link #REVALIDATE_INTERVAL} ago are revalidated in the background with a conditional request, and the next request
+ * gets the refreshed catalog. Only catalogs without any cached copy are downloaded by the caller.
+ *
+ * @since 1.12
+ */
+class RemoteCatalogCache {
+  private static final Logger log = LoggerFactory.getLogger(RemoteCatalogCache.class);
+
+  static final long REVALIDATE_INTERVAL = 60L * 60L * 1000L;
+
+  private static final String KEY_URL = "url"; //$NON-NLS-1$
+
+  private static final String KEY_ETAG = "etag"; //$NON-NLS-1$
+
+  private static final String KEY_LAST_MODIFIED = "lastModified"; //$NON-NLS-1$
+
+  private static final String KEY_CHECKED = "checked"; //$NON-NLS-1$
+
+  private final File cacheDir;
+
+  private final long revalidateInterval;
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+
+  RemoteCatalogCache(File cacheDir) {
+    this(cacheDir, REVALIDATE_INTERVAL);
+  }
+
+  RemoteCatalogCache(File cacheDir, long revalidateInterval) {
+    this.cacheDir = cacheDir;
+    this.revalidateInterval = revalidateInterval;
+  }
+
+  /**
+   * Returns the archetypes of the catalog at the given url. Archetypes without repository get the given repository
+   * url. The returned list is shared and unmodifiable.
+   *
+   * @throws IOException if the catalog is not cached and cannot be downloaded
+   */
+  List<Archetype> getArchetypes(String catalogUrl, String repositoryUrl) throws IOException {
+    Entry entry;
+    try {
+      entry = entries.computeIfAbsent(catalogUrl, url -> {
+        try {
+          Entry loaded = load(url, repositoryUrl);
+          return loaded != null ? loaded : download(url, repositoryUrl, null);
+        } catch(IOException ex) {
+          throw new UncheckedIOException(ex);
+        }
+      });
+    } catch(UncheckedIOException ex) {
+      throw ex.getCause();
+    }
+    if(System.currentTimeMillis() - entry.checked >= revalidateInterval && entry.revalidating.compareAndSet(false, true)) {
+      new RevalidateJob(catalogUrl, repositoryUrl, entry).schedule();
+    }
+    return entry.archetypes;
+  }
+
+  /**
+   * Downloads the catalog unless the cached copy is still current and updates the cache.
+   */
+  void revalidate(String catalogUrl, String repositoryUrl, Entry cached) throws IOException {
+    Entry entry = download(catalogUrl, repositoryUrl, cached);
+    entries.put(catalogUrl, entry);
+  }
+
+  private Entry download(String catalogUrl, String repositoryUrl, Entry cached) throws IOException {
+    Map<String, String> headers = new HashMap<String, String>();
+    if(cached != null && cached.etag != null) {
+      headers.put("If-None-Match", cached.etag); //$NON-NLS-1$
+    }
+    if(cached != null && cached.lastModified != null) {
+      headers.put("If-Modified-Since", cached.lastModified); //$NON-NLS-1$
+    }
+    try (AetherClient client = createClient(catalogUrl); Response response = client.get(catalogUrl, headers)) {
+      int status = response.getStatusCode();
+      if(status == 304 && cached != null) {
+        Entry entry = new Entry(cached.archetypes, cached.etag, cached.lastModified, System.currentTimeMillis());
+        storeProperties(catalogUrl, entry);
+        return entry;
+      }
+      if(status == 404) {
+        throw new FileNotFoundException(catalogUrl);
+      }
+      if(status >= 300) {
+        throw new IOException(catalogUrl + ": " + status + " " + response.getStatusMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+      }
+      byte[] content;
+      try (InputStream is = response.getInputStream()) {
+        content = toByteArray(is);
+      }
+      List<Archetype> archetypes = parse(new ByteArrayInputStream(content), repositoryUrl);
+      Entry entry = new Entry(archetypes, response.getHeader("ETag"), response.getHeader("Last-Modified"), //$NON-NLS-1$ //$NON-NLS-2$
+          System.currentTimeMillis());
+      store(catalogUrl, content, entry);
+      return entry;
+    }
+  }
+
+  protected AetherClient createClient(String catalogUrl) throws IOException {
+    ProxyInfo proxyInfo = null;
+    try {
+      proxyInfo = MavenPlugin.getMaven().getProxyInfo(URI.create(catalogUrl).getScheme());
+    } catch(CoreException ex) {
+      log.warn("Unable to determine proxy for " + catalogUrl, ex); //$NON-NLS-1$
+    }
+    return new OkHttpAetherClient(new AetherClientConfigAdapter(null, proxyInfo, MavenPluginActivator.getUserAgent(),
+        new HashMap<String, String>()));
+  }
+
+  private static List<Archetype> parse(InputStream is, String repositoryUrl) throws IOException {
+    ArchetypeCatalog catalog;
+    try {
+      catalog = new ArchetypeCatalogXpp3Reader().read(is);
+    } catch(XmlPullParserException ex) {
+      throw new IOException(ex.getMessage(), ex);
+    }
+    List<Archetype> archetypes = new ArrayList<Archetype>(catalog.getArchetypes());
+    for(Archetype archetype : archetypes) {
+      if(archetype.getRepository() == null || archetype.getRepository().trim().isEmpty()) {
+        archetype.setRepository(repositoryUrl);
+      }
+    }
+    return Collections.unmodifiableList(archetypes);
+  }
+
+  private Entry load(String catalogUrl, String repositoryUrl) {
+    File propertiesFile = getFile(catalogUrl, ".properties"); //$NON-NLS-1$
+    File catalogFile = getFile(catalogUrl, ".xml"); //$NON-NLS-1$
+    if(!propertiesFile.isFile() || !catalogFile.isFile()) {
+      return null;
+    }
+    try {
+      Properties properties = new Properties();
+      try (InputStream is = new FileInputStream(propertiesFile)) {
+        properties.load(is);
+      }
+      if(!catalogUrl.equals(properties.getProperty(KEY_URL))) {
+        return null;
+      }
+      List<Archetype> archetypes;
+      try (InputStream is = new BufferedInputStream(new FileInputStream(catalogFile))) {
+        archetypes = parse(is, repositoryUrl);
+      }
+      return new Entry(archetypes, properties.getProperty(KEY_ETAG), properties.getProperty(KEY_LAST_MODIFIED),
+          Long.parseLong(properties.getProperty(KEY_CHECKED, "0"))); //$NON-NLS-1$
+    } catch(IOException | NumberFormatException ex) {
+      log.debug("Ignoring unreadable cached archetype catalog {}", catalogFile, ex); //$NON-NLS-1$
+      return null;
+    }
+  }
+
+  private void store(String catalogUrl, byte[] content, Entry entry) {
+    File catalogFile = getFile(catalogUrl, ".xml"); //$NON-NLS-1$
+    try {
+      cacheDir.mkdirs();
+      File tmp = new File(cacheDir, catalogFile.getName() + ".tmp"); //$NON-NLS-1$
+      try (OutputStream os = new FileOutputStream(tmp)) {
+        os.write(content);
+      }
+      Files.move(tmp.toPath(), catalogFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    } catch(IOException ex) {
+      log.warn("Unable to cache archetype catalog " + catalogUrl, ex); //$NON-NLS-1$
+      return;
+    }
+    storeProperties(catalogUrl, entry);
+  }
+
+  private void storeProperties(String catalogUrl, Entry entry) {
+    Properties properties = new Properties();
+    properties.setProperty(KEY_URL, catalogUrl);
+    if(entry.etag != null) {
+      properties.setProperty(KEY_ETAG, entry.etag);
+    }
+    if(entry.lastModified != null) {
+      properties.setProperty(KEY_LAST_MODIFIED, entry.lastModified);
+    }
+    properties.setProperty(KEY_CHECKED, Long.toString(entry.checked));
+    cacheDir.mkdirs();
+    try (OutputStream os = new FileOutputStream(getFile(catalogUrl, ".properties"))) { //$NON-NLS-1$
+      properties.store(os, null);
+    } catch(IOException ex) {
+      log.warn("Unable to cache archetype catalog " + catalogUrl, ex); //$NON-NLS-1$
+    }
+  }
+
+  private File getFile(String catalogUrl, String extension) {
+    return new File(cacheDir, getName(catalogUrl) + extension);
+  }
+
+  private static String getName(String catalogUrl) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-1").digest(catalogUrl.getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+      StringBuilder sb = new StringBuilder();
+      for(byte b : digest) {
+        sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+      }
+      return sb.toString();
+    } catch(NoSuchAlgorithmException ex) {
+      return Integer.toHexString(catalogUrl.hashCode());
+    }
+  }
+
+  private static byte[] toByteArray(InputStream is) throws IOException {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    byte[] buffer = new byte[8192];
+    int n;
+    while((n = is.read(buffer)) != -1) {
+      os.write(buffer, 0, n);
+    }
+    return os.toByteArray();
+  }
+
+  static final class Entry {
+    final List<Archetype> archetypes;
+
+    final String etag;
+
+    final String lastModified;
+
+    final long checked;
+
+    final AtomicBoolean revalidating = new AtomicBoolean();
+
+    Entry(List<Archetype> archetypes, String etag, String lastModified, long checked) {
+      this.archetypes = archetypes;
+      this.etag = etag;
+      this.lastModified = lastModified;
+      this.checked = checked;
+    }
+  }
+
+  private class RevalidateJob extends Job {
+    private final String catalogUrl;
+
+    private final String repositoryUrl;
+
+    private final Entry entry;
+
+    RevalidateJob(String catalogUrl, String repositoryUrl, Entry entry) {
+      super(NLS.bind(Messages.RemoteCatalogCache_job_refresh, catalogUrl));
+      this.catalogUrl = catalogUrl;
+      this.repositoryUrl = repositoryUrl;
+      this.entry = entry;
+      setSystem(true);
+    }
+
+    protected IStatus run(IProgressMonitor monitor) {
+      try {
+        revalidate(catalogUrl, repositoryUrl, entry);
+      } catch(IOException ex) {
+        // keep serving the cached catalog, try again after the interval
+        log.debug("Unable to refresh archetype catalog {}", catalogUrl, ex); //$NON-NLS-1$
+        entries.replace(catalogUrl, entry,
+            new Entry(entry.archetypes, entry.etag, entry.lastModified, System.currentTimeMillis()));
+      } finally {
+        entry.revalidating.set(false);
+      }
+      return Status.OK_STATUS;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.embedder;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.embedder.ILocalRepositoryListener;
+
+
+/**
+ * In-memory cache of the keys of parsed m2e-lastUpdated.properties files. An entry is used as long as modification
+ * time and length of the file do not change, and dropped when m2e writes the file or an artifact of the same
+ * groupId:artifactId:baseVersion is installed into the local repository.
+ *
+ * @since 1.12
+ */
+class LastUpdatedCache implements ILocalRepositoryListener {
+
+  static final String FILE_NAME = "m2e-lastUpdated.properties"; //$NON-NLS-1$
+
+  private final Map<File, Entry> entries = new ConcurrentHashMap<File, Entry>();
+
+  /**
+   * Returns the keys of the given lastUpdated file, an empty set if the file does not exist.
+   */
+  public Set<String> getKeys(File file) throws IOException {
+    long lastModified = file.lastModified();
+    long length = file.length();
+    Entry entry = entries.get(file);
+    if(entry != null && entry.lastModified == lastModified && entry.length == length) {
+      return entry.keys;
+    }
+    entry = new Entry(lastModified, length, load(file));
+    entries.put(file, entry);
+    return entry.keys;
+  }
+
+  public void invalidate(File file) {
+    entries.remove(file);
+  }
+
+  public void artifactInstalled(File repositoryBasedir, ArtifactKey baseArtifact, ArtifactKey artifact,
+      File artifactFile) {
+    StringBuilder path = new StringBuilder(128);
+    path.append(baseArtifact.getGroupId().replace('.', '/')).append('/');
+    path.append(baseArtifact.getArtifactId()).append('/');
+    path.append(baseArtifact.getVersion()).append('/');
+    path.append(FILE_NAME);
+    invalidate(new File(repositoryBasedir, path.toString()));
+  }
+
+  private static Set<String> load(File file) throws IOException {
+    Properties properties = new Properties();
+    try (InputStream is = new BufferedInputStream(new FileInputStream(file))) {
+      properties.load(is);
+    } catch(FileNotFoundException ex) {
+      return Collections.emptySet();
+    }
+    Set<String> keys = new HashSet<String>();
+    for(Object key : properties.keySet()) {
+      keys.add((String) key);
+    }
+    return Collections.unmodifiableSet(keys);
+  }
+
+  private static class Entry {
+    final long lastModified;
+
+    final long length;
+
+    final Set<String> keys;
+
+    Entry(long lastModified, long length, Set<String> keys) {
+      this.lastModified = lastModified;
+      this.length = length;
+      this.keys = keys;
+    }
+  }
+}
@@ -50,6 +50,7 @@ import org.eclipse.aether.DefaultRepositoryCache;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositoryCache;
 import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.impl.DependencyCollector;
 import org.eclipse.aether.resolution.ArtifactRequest;
 import org.eclipse.aether.resolution.ArtifactResolutionException;
 import org.eclipse.aether.resolution.ArtifactResult;
@@ -59,7 +60,6 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
-import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.osgi.util.NLS;
 
@@ -167,6 +167,7 @@ import org.apache.maven.settings.crypto.SettingsDecryptionResult;
 import org.apache.maven.settings.io.SettingsWriter;
 import org.apache.maven.wagon.proxy.ProxyInfo;
 
+import org.eclipse.m2e.core.embedder.ArtifactKey;
 import org.eclipse.m2e.core.embedder.ICallable;
 import org.eclipse.m2e.core.embedder.ILocalRepositoryListener;
 import org.eclipse.m2e.core.embedder.IMaven;
@@ -181,6 +182,7 @@ import org.eclipse.m2e.core.internal.MavenPluginActivator;
 import org.eclipse.m2e.core.internal.Messages;
 import org.eclipse.m2e.core.internal.NoSuchComponentException;
 import org.eclipse.m2e.core.internal.preferences.MavenPreferenceConstants;
+import org.eclipse.m2e.core.internal.project.registry.MemoizingDependencyCollector;
 import org.eclipse.m2e.core.internal.project.registry.ProjectRegistryManager;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
 
@@ -203,19 +205,18 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
 
   private final ArrayList<ILocalRepositoryListener> localRepositoryListeners = new ArrayList<ILocalRepositoryListener>();
 
+  private final LastUpdatedCache lastUpdatedCache = new LastUpdatedCache();
+
   private final Set<String> lifecycleParticipants;
 
 
   /**
-   * Cached parsed settings.xml instance
+   * Cached parsed settings.xml instance and the state derived from it, replaced as a whole when settings change
    */
-  private Settings settings;
-
-  /** File length of cached user settings */
-  private long settings_length;
+  private volatile SettingsSnapshot settingsSnapshot;
 
-  /** Last modified timestamp of cached user settings */
-  private long settings_timestamp;
+  /** Serializes settings reloads, readers of an up-to-date snapshot do not lock */
+  private final Object settingsLock = new Object();
 
   private Object repositoryCacheMonitor = new Object();
 
@@ -225,6 +226,7 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
     this.mavenConfiguration = mavenConfiguration;
     this.lifecycleParticipants = ExtensionReader.readLifecycleParticipants();
     mavenConfiguration.addConfigurationChangeListener(this);
+    localRepositoryListeners.add(lastUpdatedCache);
   }
 
   @SuppressWarnings("deprecation")
@@ -466,7 +468,11 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
     return getSettings(false);
   }
 
-  public synchronized Settings getSettings(final boolean force_reload) throws CoreException {
+  public Settings getSettings(final boolean force_reload) throws CoreException {
+    return getSettingsSnapshot(force_reload).settings;
+  }
+
+  private SettingsSnapshot getSettingsSnapshot(boolean forceReload) throws CoreException {
     // MUST NOT use createRequest!
 
     File userSettingsFile = SettingsXmlConfigurationProcessor.DEFAULT_USER_SETTINGS_FILE;
@@ -474,13 +480,18 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
       userSettingsFile = new File(mavenConfiguration.getUserSettingsFile());
     }
 
-    boolean reload = force_reload || settings == null;
-
-    if(!reload && userSettingsFile != null) {
-      reload = userSettingsFile.lastModified() != settings_timestamp || userSettingsFile.length() != settings_length;
+    SettingsSnapshot snapshot = settingsSnapshot;
+    if(!forceReload && snapshot != null && snapshot.isUpToDate(userSettingsFile)) {
+      return snapshot;
     }
 
-    if(reload) {
+    synchronized(settingsLock) {
+      snapshot = settingsSnapshot;
+      if(!forceReload && snapshot != null && snapshot.isUpToDate(userSettingsFile)) {
+        // reloaded by another thread meanwhile
+        return snapshot;
+      }
+
       // TODO: Can't that delegate to buildSettings()?
       SettingsBuildingRequest request = new DefaultSettingsBuildingRequest();
       // 440696 guard against ConcurrentModificationException
@@ -490,9 +501,8 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
       if(mavenConfiguration.getGlobalSettingsFile() != null) {
         request.setGlobalSettingsFile(new File(mavenConfiguration.getGlobalSettingsFile()));
       }
-      if(userSettingsFile != null) {
-        request.setUserSettingsFile(userSettingsFile);
-      }
+      request.setUserSettingsFile(userSettingsFile);
+      Settings settings;
       try {
         settings = lookup(SettingsBuilder.class).build(request).getEffectiveSettings();
       } catch(SettingsBuildingException ex) {
@@ -505,12 +515,10 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
         settings = new Settings();
       }
 
-      if(userSettingsFile != null) {
-        settings_length = userSettingsFile.length();
-        settings_timestamp = userSettingsFile.lastModified();
-      }
+      snapshot = new SettingsSnapshot(settings, userSettingsFile);
+      settingsSnapshot = snapshot;
+      return snapshot;
     }
-    return settings;
   }
 
   public Settings buildSettings(String globalSettings, String userSettings) throws CoreException {
@@ -1048,6 +1056,7 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
         lastUpdated.store(os, null);
       } finally {
         IOUtil.close(os);
+        lastUpdatedCache.invalidate(lastUpdatedFile);
       }
     } catch(IOException ex) {
       throw new CoreException(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, -1,
@@ -1062,9 +1071,28 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
       List<ArtifactRepository> remoteRepositories) throws CoreException {
     Artifact artifact = lookup(RepositorySystem.class).createArtifactWithClassifier(groupId, artifactId, version, type,
         classifier);
+    return isUnavailable(getLocalRepository(), artifact, getLastUpdatedKeyPrefixes(remoteRepositories));
+  }
 
+  public Set<ArtifactKey> getUnavailableArtifacts(Collection<ArtifactKey> artifacts, String type,
+      List<ArtifactRepository> remoteRepositories) throws CoreException {
+    RepositorySystem repositorySystem = lookup(RepositorySystem.class);
     ArtifactRepository localRepository = getLocalRepository();
+    List<String> prefixes = getLastUpdatedKeyPrefixes(remoteRepositories);
+
+    Set<ArtifactKey> result = new LinkedHashSet<>();
+    for(ArtifactKey key : artifacts) {
+      Artifact artifact = repositorySystem.createArtifactWithClassifier(key.getGroupId(), key.getArtifactId(),
+          key.getVersion(), type, key.getClassifier());
+      if(isUnavailable(localRepository, artifact, prefixes)) {
+        result.add(key);
+      }
+    }
+    return result;
+  }
 
+  private boolean isUnavailable(ArtifactRepository localRepository, Artifact artifact, List<String> prefixes)
+      throws CoreException {
     File artifactFile = new File(localRepository.getBasedir(), localRepository.pathOf(artifact));
 
     if(artifactFile.canRead()) {
@@ -1072,17 +1100,22 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
       return false;
     }
 
-    if(remoteRepositories == null || remoteRepositories.isEmpty()) {
+    if(prefixes.isEmpty()) {
       // no remote repositories
       return true;
     }
 
     // now is the hard part
-    Properties lastUpdated = loadLastUpdated(localRepository, artifact);
+    Set<String> lastUpdated;
+    try {
+      lastUpdated = lastUpdatedCache.getKeys(getLastUpdatedFile(localRepository, artifact));
+    } catch(IOException ex) {
+      throw new CoreException(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, -1,
+          Messages.MavenImpl_error_read_lastUpdated, ex));
+    }
 
-    for(ArtifactRepository repository : remoteRepositories) {
-      String timestamp = lastUpdated.getProperty(getLastUpdatedKey(repository, artifact));
-      if(timestamp == null) {
+    for(String prefix : prefixes) {
+      if(!lastUpdated.contains(prefix + artifact.getClassifier())) {
         // availability of the artifact from this repository has not been checked yet 
         return false;
       }
@@ -1092,7 +1125,22 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
     return true;
   }
 
+  private List<String> getLastUpdatedKeyPrefixes(List<ArtifactRepository> repositories) {
+    if(repositories == null) {
+      return Collections.emptyList();
+    }
+    List<String> prefixes = new ArrayList<>(repositories.size());
+    for(ArtifactRepository repository : repositories) {
+      prefixes.add(getLastUpdatedKeyPrefix(repository));
+    }
+    return prefixes;
+  }
+
   private String getLastUpdatedKey(ArtifactRepository repository, Artifact artifact) {
+    return getLastUpdatedKeyPrefix(repository) + artifact.getClassifier();
+  }
+
+  private String getLastUpdatedKeyPrefix(ArtifactRepository repository) {
     StringBuilder key = new StringBuilder();
 
     // repository part
@@ -1102,8 +1150,8 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
     }
     key.append('|').append(repository.getUrl());
 
-    // artifact part
-    key.append('|').append(artifact.getClassifier());
+    // artifact part follows
+    key.append('|');
 
     return key.toString();
   }
@@ -1128,8 +1176,7 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
   }
 
   private File getLastUpdatedFile(ArtifactRepository localRepository, Artifact artifact) {
-    return new File(localRepository.getBasedir(), basePathOf(localRepository, artifact) + "/" //$NON-NLS-1$
-        + "m2e-lastUpdated.properties"); //$NON-NLS-1$
+    return new File(localRepository.getBasedir(), basePathOf(localRepository, artifact) + LastUpdatedCache.FILE_NAME);
   }
 
   private static final char PATH_SEPARATOR = '/';
@@ -1272,7 +1319,7 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
     try {
       repo = lookup(RepositorySystem.class).buildArtifactRepository(repository);
       ArrayList<ArtifactRepository> repos = new ArrayList<ArtifactRepository>(Arrays.asList(repo));
-      injectSettings(repos);
+      injectSettings(repos, getSettingsSnapshot(false));
     } catch(InvalidRepositoryException ex) {
       throw new CoreException(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, -1,
           Messages.MavenImpl_error_create_repo, ex));
@@ -1285,17 +1332,19 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
   }
 
   public List<ArtifactRepository> getArtifactRepositories(boolean injectSettings) throws CoreException {
+    SettingsSnapshot snapshot = getSettingsSnapshot(false);
     ArrayList<ArtifactRepository> repositories = new ArrayList<ArtifactRepository>();
-    for(Profile profile : getActiveProfiles()) {
+    for(Profile profile : getActiveProfiles(snapshot)) {
       addArtifactRepositories(repositories, profile.getRepositories());
     }
 
     addDefaultRepository(repositories);
 
-    if(injectSettings) {
-      injectSettings(repositories);
+    if(!injectSettings) {
+      return removeDuplicateRepositories(repositories);
     }
 
+    injectSettings(repositories, snapshot);
     return removeDuplicateRepositories(repositories);
   }
 
@@ -1319,12 +1368,12 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
     return result;
   }
 
-  private void injectSettings(ArrayList<ArtifactRepository> repositories) throws CoreException {
-    Settings settings = getSettings();
+  private void injectSettings(ArrayList<ArtifactRepository> repositories, SettingsSnapshot snapshot)
+      throws CoreException {
     RepositorySystem repositorySystem = lookup(RepositorySystem.class);
-    repositorySystem.injectMirror(repositories, getMirrors());
-    repositorySystem.injectProxy(repositories, settings.getProxies());
-    repositorySystem.injectAuthentication(repositories, settings.getServers());
+    repositorySystem.injectMirror(repositories, getMirrors(snapshot));
+    repositorySystem.injectProxy(repositories, snapshot.settings.getProxies());
+    repositorySystem.injectAuthentication(repositories, snapshot.settings.getServers());
   }
 
   private void addDefaultRepository(ArrayList<ArtifactRepository> repositories) throws CoreException {
@@ -1353,10 +1402,18 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
     }
   }
 
-  private List<Profile> getActiveProfiles() throws CoreException {
-    Settings settings = getSettings();
+  /**
+   * Repositories are built from the converted active profiles on every call, {@link ArtifactRepository} instances are
+   * mutable and must not be shared between callers.
+   */
+  private List<Profile> getActiveProfiles(SettingsSnapshot snapshot) {
+    List<Profile> activeProfiles = snapshot.activeProfiles;
+    if(activeProfiles != null) {
+      return activeProfiles;
+    }
+    Settings settings = snapshot.settings;
     List<String> activeProfilesIds = settings.getActiveProfiles();
-    ArrayList<Profile> activeProfiles = new ArrayList<Profile>();
+    activeProfiles = new ArrayList<Profile>();
     for(org.apache.maven.settings.Profile settingsProfile : settings.getProfiles()) {
       if((settingsProfile.getActivation() != null && settingsProfile.getActivation().isActiveByDefault())
           || activeProfilesIds.contains(settingsProfile.getId())) {
@@ -1364,6 +1421,8 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
         activeProfiles.add(profile);
       }
     }
+    activeProfiles = Collections.unmodifiableList(activeProfiles);
+    snapshot.activeProfiles = activeProfiles;
     return activeProfiles;
   }
 
@@ -1372,23 +1431,23 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
   }
 
   public List<ArtifactRepository> getPluginArtifactRepositories(boolean injectSettings) throws CoreException {
+    SettingsSnapshot snapshot = getSettingsSnapshot(false);
     ArrayList<ArtifactRepository> repositories = new ArrayList<ArtifactRepository>();
-    for(Profile profile : getActiveProfiles()) {
+    for(Profile profile : getActiveProfiles(snapshot)) {
       addArtifactRepositories(repositories, profile.getPluginRepositories());
     }
     addDefaultRepository(repositories);
 
-    if(injectSettings) {
-      injectSettings(repositories);
+    if(!injectSettings) {
+      return removeDuplicateRepositories(repositories);
     }
 
+    injectSettings(repositories, snapshot);
     return removeDuplicateRepositories(repositories);
   }
 
   public Mirror getMirror(ArtifactRepository repo) throws CoreException {
-    MavenExecutionRequest request = createExecutionRequest(new NullProgressMonitor());
-    populateDefaults(request);
-    return lookup(RepositorySystem.class).getMirror(repo, request.getMirrors());
+    return lookup(RepositorySystem.class).getMirror(repo, getMirrors());
   };
 
   public void populateDefaults(MavenExecutionRequest request) throws CoreException {
@@ -1401,9 +1460,18 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
   }
 
   public List<Mirror> getMirrors() throws CoreException {
-    MavenExecutionRequest request = createExecutionRequest(null);
-    populateDefaults(request);
-    return request.getMirrors();
+    return new ArrayList<Mirror>(getMirrors(getSettingsSnapshot(false)));
+  }
+
+  private List<Mirror> getMirrors(SettingsSnapshot snapshot) throws CoreException {
+    List<Mirror> mirrors = snapshot.mirrors;
+    if(mirrors == null) {
+      MavenExecutionRequest request = createExecutionRequest(null);
+      populateDefaults(request);
+      mirrors = Collections.unmodifiableList(new ArrayList<Mirror>(request.getMirrors()));
+      snapshot.mirrors = mirrors;
+    }
+    return mirrors;
   }
 
   public void addSettingsChangeListener(ISettingsChangeListener listener) {
@@ -1453,10 +1521,10 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
   }
 
   public ProxyInfo getProxyInfo(String protocol) throws CoreException {
-    Settings settings = getSettings();
+    SettingsSnapshot snapshot = getSettingsSnapshot(false);
 
-    for(Proxy proxy : settings.getProxies()) {
-      if(proxy.isActive() && protocol.equalsIgnoreCase(proxy.getProtocol())) {
+    for(Proxy proxy : snapshot.activeProxies) {
+      if(protocol.equalsIgnoreCase(proxy.getProtocol())) {
         ProxyInfo proxyInfo = new ProxyInfo();
         proxyInfo.setType(proxy.getProtocol());
         proxyInfo.setHost(proxy.getHost());
@@ -1544,7 +1612,13 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
         bind(CoreExports.class).toInstance(exports);
       }
     };
-    return new DefaultPlexusContainer(mavenCoreCC, logginModule, new ExtensionModule(), coreExportsModule);
+    final Module dependencyCollectorModule = new AbstractModule() {
+      protected void configure() {
+        bind(DependencyCollector.class).to(MemoizingDependencyCollector.class);
+      }
+    };
+    return new DefaultPlexusContainer(mavenCoreCC, logginModule, new ExtensionModule(), coreExportsModule,
+        dependencyCollectorModule);
   }
 
   public synchronized void disposeContainer() {
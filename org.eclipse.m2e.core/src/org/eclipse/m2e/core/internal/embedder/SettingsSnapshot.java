@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.embedder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.model.Profile;
+import org.apache.maven.settings.Mirror;
+import org.apache.maven.settings.Proxy;
+import org.apache.maven.settings.Settings;
+
+
+/**
+ * Parsed settings.xml together with the state derived from it. A snapshot is published as a whole and replaced when
+ * the user settings file changes or settings are reloaded, so readers never need to lock. The derived lists are
+ * computed on first use; computing them twice concurrently yields equal results.
+ *
+ * @since 1.12
+ */
+class SettingsSnapshot {
+
+  final Settings settings;
+
+  final File userSettingsFile;
+
+  /** File length of the user settings this snapshot was read from */
+  final long userSettingsLength;
+
+  /** Last modified timestamp of the user settings this snapshot was read from */
+  final long userSettingsTimestamp;
+
+  final List<Proxy> activeProxies;
+
+  volatile List<Mirror> mirrors;
+
+  /** active settings profiles, converted to model profiles */
+  volatile List<Profile> activeProfiles;
+
+  SettingsSnapshot(Settings settings, File userSettingsFile) {
+    this.settings = settings;
+    this.userSettingsFile = userSettingsFile;
+    this.userSettingsLength = userSettingsFile.length();
+    this.userSettingsTimestamp = userSettingsFile.lastModified();
+
+    List<Proxy> proxies = new ArrayList<Proxy>();
+    for(Proxy proxy : settings.getProxies()) {
+      if(proxy.isActive()) {
+        proxies.add(proxy);
+      }
+    }
+    this.activeProxies = Collections.unmodifiableList(proxies);
+  }
+
+  boolean isUpToDate(File userSettingsFile) {
+    return this.userSettingsFile.equals(userSettingsFile) && userSettingsFile.lastModified() == userSettingsTimestamp
+        && userSettingsFile.length() == userSettingsLength;
+  }
+}
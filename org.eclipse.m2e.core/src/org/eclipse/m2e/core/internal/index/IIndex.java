@@ -131,4 +131,29 @@ public interface IIndex {
    */
   public Map<String, IndexedArtifact> search(SearchExpression expression, String searchType, int classifier)
       throws CoreException;
+
+  /**
+   * Paged variant of {@link #search(SearchExpression, String, int)}. Returns at most <code>limit</code> artifacts after
+   * skipping the first <code>offset</code> ones, most relevant first. Lucene based indexes only read the top scoring
+   * hits needed for the requested page.
+   *
+   * @since 1.12
+   */
+  default IndexSearchResult search(SearchExpression expression, String searchType, int classifier, int offset,
+      int limit) throws CoreException {
+    return IndexSearchResult.page(search(expression, searchType, classifier).values(), offset, limit);
+  }
+
+  /**
+   * Paged variant of {@link #find(Collection, Collection, Collection, Collection)}, see
+   * {@link #search(SearchExpression, String, int, int, int)}. Filtering indexes may return fewer than
+   * <code>limit</code> artifacts even if more match, check {@link IndexSearchResult#hasMore()}.
+   *
+   * @since 1.12
+   */
+  default IndexSearchResult find(Collection<SearchExpression> groupId, Collection<SearchExpression> artifactId,
+      Collection<SearchExpression> version, Collection<SearchExpression> packaging, int offset, int limit)
+      throws CoreException {
+    return IndexSearchResult.page(find(groupId, artifactId, version, packaging), offset, limit);
+  }
 }
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+
+/**
+ * One page of artifacts returned by the paged {@link IIndex} queries, ordered by relevance.
+ *
+ * @since 1.12
+ */
+public class IndexSearchResult implements Iterable<IndexedArtifact> {
+
+  public static final int UNKNOWN = -1;
+
+  private final List<IndexedArtifact> artifacts;
+
+  private final int totalHits;
+
+  private final boolean more;
+
+  public IndexSearchResult(List<IndexedArtifact> artifacts, int totalHits, boolean more) {
+    this.artifacts = Collections.unmodifiableList(artifacts);
+    this.totalHits = totalHits;
+    this.more = more;
+  }
+
+  /**
+   * Returns the page of at most <code>limit</code> artifacts following the first <code>offset</code> artifacts of a
+   * complete result.
+   */
+  public static IndexSearchResult page(Collection<IndexedArtifact> artifacts, int offset, int limit) {
+    List<IndexedArtifact> page = new ArrayList<IndexedArtifact>();
+    int i = 0;
+    for(IndexedArtifact artifact : artifacts) {
+      if(i >= offset && page.size() < limit) {
+        page.add(artifact);
+      }
+      i++ ;
+    }
+    return new IndexSearchResult(page, artifacts.size(), offset + page.size() < artifacts.size());
+  }
+
+  public List<IndexedArtifact> getArtifacts() {
+    return artifacts;
+  }
+
+  public Iterator<IndexedArtifact> iterator() {
+    return artifacts.iterator();
+  }
+
+  /**
+   * @return number of matches for display purposes, i.e. artifact files matched by Lucene based indexes or artifacts
+   *         of complete results, or {@link #UNKNOWN}
+   */
+  public int getTotalHits() {
+    return totalHits;
+  }
+
+  /**
+   * @return <code>true</code> if more artifacts match than returned up to this page
+   */
+  public boolean hasMore() {
+    return more;
+  }
+}
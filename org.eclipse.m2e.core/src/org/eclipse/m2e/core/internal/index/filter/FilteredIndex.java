@@ -23,6 +23,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.m2e.core.embedder.ArtifactKey;
 import org.eclipse.m2e.core.internal.MavenPluginActivator;
 import org.eclipse.m2e.core.internal.index.IIndex;
+import org.eclipse.m2e.core.internal.index.IndexSearchResult;
 import org.eclipse.m2e.core.internal.index.IndexedArtifact;
 import org.eclipse.m2e.core.internal.index.IndexedArtifactFile;
 import org.eclipse.m2e.core.internal.index.SearchExpression;
@@ -72,6 +73,17 @@ public class FilteredIndex implements IIndex {
     return filter(index.search(expression, searchType, classifier));
   }
 
+  public IndexSearchResult search(SearchExpression expression, String searchType, int classifier, int offset,
+      int limit) throws CoreException {
+    return filter(index.search(expression, searchType, classifier, offset, limit));
+  }
+
+  public IndexSearchResult find(Collection<SearchExpression> groupId, Collection<SearchExpression> artifactId,
+      Collection<SearchExpression> version, Collection<SearchExpression> packaging, int offset, int limit)
+      throws CoreException {
+    return filter(index.find(groupId, artifactId, version, packaging, offset, limit));
+  }
+
   // filter methods
 
   protected Collection<IndexedArtifact> filter(Collection<IndexedArtifact> indexedArtifacts) {
@@ -97,6 +109,11 @@ public class FilteredIndex implements IIndex {
     return result;
   }
 
+  private IndexSearchResult filter(IndexSearchResult original) {
+    return new IndexSearchResult(new ArrayList<IndexedArtifact>(filter(original.getArtifacts())),
+        original.getTotalHits(), original.hasMore());
+  }
+
   private Map<String, IndexedArtifact> filter(Map<String, IndexedArtifact> original) {
     LinkedHashMap<String, IndexedArtifact> result = new LinkedHashMap<String, IndexedArtifact>();
     for(Map.Entry<String, IndexedArtifact> entry : original.entrySet()) {
@@ -13,14 +13,28 @@ package org.eclipse.m2e.core.internal.index.nexus;
 
 import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.net.ssl.SSLContext;
 
@@ -46,7 +60,43 @@ import io.takari.aether.client.Response;
 import io.takari.aether.okhttp.OkHttpAetherClient;
 
 
+/**
+ * Index resource fetcher based on the Aether HTTP client.
+ * <p>
+ * When created with a download directory, resources are downloaded to {@code <name>.part} files next to a small
+ * journal that records the validators (ETag/Last-Modified) and the parts already downloaded, so an interrupted
+ * download resumes where it stopped using HTTP range requests. Large resources are split into segments which are
+ * downloaded in parallel, and incremental index chunks announced by the remote index properties are prefetched in
+ * parallel while the indexer processes the previous ones.
+ */
 public class AetherClientResourceFetcher extends AbstractResourceFetcher {
+  private static final Logger log = LoggerFactory.getLogger(AetherClientResourceFetcher.class);
+
+  private static final String INDEX_PROPERTIES = "nexus-maven-repository-index.properties"; //$NON-NLS-1$
+
+  private static final String INDEX_CHUNK_PREFIX = "nexus.index.incremental-"; //$NON-NLS-1$
+
+  private static final String INDEX_CHUNK_COUNTER = "nexus.index.last-incremental"; //$NON-NLS-1$
+
+  private static final String INDEX_CHUNK_NAME = "nexus-maven-repository-index.%s.gz"; //$NON-NLS-1$
+
+  private static final String PART_SUFFIX = ".part"; //$NON-NLS-1$
+
+  private static final String JOURNAL_SUFFIX = ".part.properties"; //$NON-NLS-1$
+
+  private static final String JOURNAL_URL = "url"; //$NON-NLS-1$
+
+  private static final String JOURNAL_LENGTH = "length"; //$NON-NLS-1$
+
+  private static final String JOURNAL_VALIDATOR = "validator"; //$NON-NLS-1$
+
+  private static final String JOURNAL_SEGMENT_SIZE = "segmentSize"; //$NON-NLS-1$
+
+  private static final String JOURNAL_SEGMENTS = "segments"; //$NON-NLS-1$
+
+  private static final int PARALLEL_DOWNLOADS = 4;
+
+  private static final int DEFAULT_SEGMENT_SIZE = 8 * 1024 * 1024;
 
   private AetherClient aetherClient;
 
@@ -58,32 +108,101 @@ public class AetherClientResourceFetcher extends AbstractResourceFetcher {
 
   private final IProgressMonitor monitor;
 
+  private final File downloadDir;
+
   private String baseUrl;
 
+  // separate pools, prefetched chunks may themselves be downloaded in segments
+  private ExecutorService prefetchExecutor;
+
+  private ExecutorService segmentExecutor;
+
+  private final Map<String, Future<File>> prefetched = new ConcurrentHashMap<>();
+
+  private int segmentSize = DEFAULT_SEGMENT_SIZE;
+
   public AetherClientResourceFetcher(final AuthenticationInfo authInfo, final ProxyInfo proxyInfo,
       final IProgressMonitor monitor) {
+    this(authInfo, proxyInfo, monitor, null);
+  }
+
+  /**
+   * @param downloadDir directory that keeps partially downloaded resources between attempts, or <code>null</code> to
+   *          download every resource with a single request
+   * @since 1.12
+   */
+  public AetherClientResourceFetcher(final AuthenticationInfo authInfo, final ProxyInfo proxyInfo,
+      final IProgressMonitor monitor, File downloadDir) {
     this.authInfo = authInfo;
     this.proxyInfo = proxyInfo;
     this.monitor = (monitor != null) ? monitor : new NullProgressMonitor();
     this.userAgent = MavenPluginActivator.getUserAgent();
+    this.downloadDir = downloadDir;
   }
 
   public void connect(String id, String url) throws IOException {
     aetherClient = new OkHttpAetherClient(new AetherClientConfigAdapter(authInfo, proxyInfo, userAgent,
         new HashMap<String, String>()));
     this.baseUrl = url;
+    if(downloadDir != null) {
+      prefetchExecutor = newExecutor();
+      segmentExecutor = newExecutor();
+    }
+  }
+
+  private static ExecutorService newExecutor() {
+    return Executors.newFixedThreadPool(PARALLEL_DOWNLOADS, r -> {
+      Thread thread = new Thread(r, "m2e index download"); //$NON-NLS-1$
+      thread.setDaemon(true);
+      return thread;
+    });
   }
 
   public void disconnect() throws IOException {
+    if(prefetchExecutor != null) {
+      prefetchExecutor.shutdownNow();
+      segmentExecutor.shutdownNow();
+      prefetchExecutor = null;
+      segmentExecutor = null;
+    }
+    // prefetched chunks nobody asked for, partial downloads are kept to be resumed
+    for(Future<File> future : prefetched.values()) {
+      if(future.isDone() && !future.isCancelled()) {
+        try {
+          future.get().delete();
+        } catch(InterruptedException | ExecutionException ex) {
+          // download failed, nothing to clean up
+        }
+      }
+    }
+    prefetched.clear();
     aetherClient.close();
   }
 
+  public InputStream retrieve(String name) throws IOException, FileNotFoundException {
+    if(downloadDir == null) {
+      return super.retrieve(name);
+    }
+    File file = getDownloaded(name);
+    if(INDEX_PROPERTIES.equals(name)) {
+      prefetchChunks(file);
+    }
+    return new FileInputStream(file) {
+      @Override
+      public void close() throws IOException {
+        super.close();
+        file.delete();
+      }
+    };
+  }
+
   @Deprecated
   public void retrieve(String name, File targetFile) throws IOException, FileNotFoundException {
     String url = baseUrl + "/" + name;
     try (Response response = aetherClient.get(url);
         InputStream is = response.getInputStream();
         OutputStream os = new BufferedOutputStream(new FileOutputStream(targetFile))) {
+      checkStatus(url, response);
       final byte[] buffer = new byte[1024 * 1024];
       int n = 0;
       while(-1 != (n = is.read(buffer))) {
@@ -95,7 +214,350 @@ public class AetherClientResourceFetcher extends AbstractResourceFetcher {
     }
   }
 
-  class AetherClientConfigAdapter extends AetherClientConfig {
+  /**
+   * For tests only.
+   */
+  void setSegmentSize(int segmentSize) {
+    this.segmentSize = segmentSize;
+  }
+
+  private File getDownloaded(String name) throws IOException {
+    Future<File> future = prefetched.remove(name);
+    if(future != null) {
+      try {
+        return future.get();
+      } catch(InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException();
+      } catch(ExecutionException ex) {
+        if(ex.getCause() instanceof OperationCanceledException) {
+          throw (OperationCanceledException) ex.getCause();
+        }
+        // prefetch failed, try again in this thread and report the failure if it fails again
+        log.debug("Could not prefetch {}", name, ex.getCause()); //$NON-NLS-1$
+      }
+    }
+    return download(name);
+  }
+
+  /*
+   * Incremental updates fetch the chunks one after another, the remote properties list all of them. Start fetching
+   * the chunks the local cache does not have yet, so they are downloaded in parallel and ready by the time the
+   * indexer asks for them.
+   */
+  private void prefetchChunks(File remotePropertiesFile) {
+    Properties localProperties = loadProperties(new File(downloadDir.getParentFile(), INDEX_PROPERTIES));
+    Properties remoteProperties = loadProperties(remotePropertiesFile);
+    String lastIncremental = localProperties.getProperty(INDEX_CHUNK_COUNTER);
+    if(lastIncremental == null) {
+      // no local cache, this is a full update and chunks are not needed
+      return;
+    }
+    int localCounter;
+    try {
+      localCounter = Integer.parseInt(lastIncremental);
+    } catch(NumberFormatException ex) {
+      return;
+    }
+    for(String key : remoteProperties.stringPropertyNames()) {
+      if(!key.startsWith(INDEX_CHUNK_PREFIX)) {
+        continue;
+      }
+      String counter = remoteProperties.getProperty(key);
+      try {
+        if(Integer.parseInt(counter) <= localCounter) {
+          continue;
+        }
+      } catch(NumberFormatException ex) {
+        continue;
+      }
+      String chunkName = String.format(INDEX_CHUNK_NAME, counter);
+      prefetched.computeIfAbsent(chunkName, n -> prefetchExecutor.submit(() -> download(n)));
+    }
+  }
+
+  private static Properties loadProperties(File file) {
+    Properties properties = new Properties();
+    if(file.isFile()) {
+      try (InputStream is = new FileInputStream(file)) {
+        properties.load(is);
+      } catch(IOException ex) {
+        // treated as empty
+      }
+    }
+    return properties;
+  }
+
+  /**
+   * Downloads the resource to the download directory, resuming a previously interrupted download if the remote
+   * resource did not change in the meantime.
+   */
+  File download(String name) throws IOException {
+    String url = baseUrl + "/" + name;
+    File target = new File(downloadDir, name);
+    File part = new File(downloadDir, name + PART_SUFFIX);
+    File journalFile = new File(downloadDir, name + JOURNAL_SUFFIX);
+    downloadDir.mkdirs();
+
+    long length = -1;
+    String validator = null;
+    boolean acceptRanges = false;
+    boolean headFailed;
+    try (Response response = aetherClient.head(url)) {
+      if(response.getStatusCode() == 404) {
+        throw new FileNotFoundException(url);
+      }
+      // some servers do not allow HEAD requests, download with a single plain request then
+      headFailed = response.getStatusCode() >= 400;
+      if(headFailed) {
+        log.debug("HEAD {} failed with status {}", url, response.getStatusCode()); //$NON-NLS-1$
+      } else {
+        String contentLength = response.getHeader("Content-Length"); //$NON-NLS-1$
+        if(contentLength != null) {
+          try {
+            length = Long.parseLong(contentLength.trim());
+          } catch(NumberFormatException ex) {
+            length = -1;
+          }
+        }
+        validator = getValidator(response);
+        acceptRanges = "bytes".equalsIgnoreCase(response.getHeader("Accept-Ranges")); //$NON-NLS-1$ //$NON-NLS-2$
+      }
+    }
+    if(headFailed) {
+      return downloadFresh(url, target, part, journalFile);
+    }
+
+    Properties journal = loadProperties(journalFile);
+    if(!url.equals(journal.getProperty(JOURNAL_URL)) || validator == null
+        || !validator.equals(journal.getProperty(JOURNAL_VALIDATOR))
+        || !String.valueOf(length).equals(journal.getProperty(JOURNAL_LENGTH))) {
+      // nothing to resume
+      part.delete();
+      journal.clear();
+      journal.setProperty(JOURNAL_URL, url);
+      journal.setProperty(JOURNAL_LENGTH, String.valueOf(length));
+      if(validator != null) {
+        journal.setProperty(JOURNAL_VALIDATOR, validator);
+      }
+    }
+
+    if(acceptRanges && validator != null && length >= 2L * segmentSize) {
+      try {
+        downloadSegments(url, part, journalFile, journal, length, validator);
+      } catch(ResourceChangedException ex) {
+        // segments downloaded so far belong to the previous version of the resource
+        log.debug("{} changed during the download, downloading it again", url); //$NON-NLS-1$
+        return downloadFresh(url, target, part, journalFile);
+      }
+    } else {
+      downloadStream(url, part, journalFile, journal, acceptRanges ? validator : null);
+    }
+
+    return complete(part, target, journalFile);
+  }
+
+  /**
+   * Downloads the resource from the start with a single request, without the information of a HEAD request.
+   */
+  private File downloadFresh(String url, File target, File part, File journalFile) throws IOException {
+    part.delete();
+    Properties journal = new Properties();
+    journal.setProperty(JOURNAL_URL, url);
+    downloadStream(url, part, journalFile, journal, null);
+    return complete(part, target, journalFile);
+  }
+
+  private static File complete(File part, File target, File journalFile) throws IOException {
+    target.delete();
+    if(!part.renameTo(target)) {
+      throw new IOException("Could not rename " + part + " to " + target); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+    journalFile.delete();
+    return target;
+  }
+
+  private void downloadStream(String url, File part, File journalFile, Properties journal, String validator)
+      throws IOException {
+    long offset = validator != null && part.isFile() ? part.length() : 0;
+    Map<String, String> headers = new HashMap<>();
+    if(offset > 0) {
+      headers.put("Range", "bytes=" + offset + "-"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+      headers.put("If-Range", validator); //$NON-NLS-1$
+    }
+    storeJournal(journalFile, journal);
+    try (Response response = aetherClient.get(url, headers)) {
+      checkStatus(url, response);
+      boolean append = offset > 0 && response.getStatusCode() == 206;
+      try (InputStream is = response.getInputStream();
+          OutputStream os = new BufferedOutputStream(new FileOutputStream(part, append))) {
+        copy(is, os);
+      }
+    }
+  }
+
+  private void downloadSegments(final String url, File part, final File journalFile, final Properties journal,
+      long length, final String validator) throws IOException {
+    int size;
+    try {
+      size = Integer.parseInt(journal.getProperty(JOURNAL_SEGMENT_SIZE));
+    } catch(NumberFormatException ex) {
+      size = -1;
+    }
+    BitSet journalSegments = parseSegments(journal.getProperty(JOURNAL_SEGMENTS));
+    if(size <= 0 || journalSegments == null) {
+      // no or damaged journal, start over
+      size = segmentSize;
+      journalSegments = new BitSet();
+      journal.setProperty(JOURNAL_SEGMENT_SIZE, Integer.toString(size));
+      journal.remove(JOURNAL_SEGMENTS);
+    }
+    final int segmentCount = (int) ((length + size - 1) / size);
+    final BitSet done = journalSegments;
+    storeJournal(journalFile, journal);
+
+    try (RandomAccessFile raf = new RandomAccessFile(part, "rw")) { //$NON-NLS-1$
+      raf.setLength(length);
+      final FileChannel channel = raf.getChannel();
+      List<Future<?>> futures = new ArrayList<>();
+      for(int i = done.nextClearBit(0); i < segmentCount; i = done.nextClearBit(i + 1)) {
+        final int segment = i;
+        final long start = (long) segment * size;
+        final long end = Math.min(length, start + size) - 1;
+        futures.add(segmentExecutor.submit(() -> {
+          downloadSegment(url, validator, channel, start, end);
+          synchronized(done) {
+            done.set(segment);
+            StringBuilder sb = new StringBuilder();
+            for(int j = done.nextSetBit(0); j >= 0; j = done.nextSetBit(j + 1)) {
+              sb.append(sb.length() > 0 ? "," : "").append(j); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            journal.setProperty(JOURNAL_SEGMENTS, sb.toString());
+            storeJournal(journalFile, journal);
+          }
+          return null;
+        }));
+      }
+      try {
+        for(Future<?> future : futures) {
+          future.get();
+        }
+      } catch(InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException();
+      } catch(ExecutionException ex) {
+        for(Future<?> future : futures) {
+          future.cancel(true);
+        }
+        if(ex.getCause() instanceof OperationCanceledException) {
+          throw (OperationCanceledException) ex.getCause();
+        }
+        if(ex.getCause() instanceof IOException) {
+          throw (IOException) ex.getCause();
+        }
+        throw new IOException(ex.getCause());
+      }
+    }
+  }
+
+  private void downloadSegment(String url, String validator, FileChannel channel, long start, long end)
+      throws IOException {
+    Map<String, String> headers = new HashMap<>();
+    headers.put("Range", "bytes=" + start + "-" + end); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    headers.put("If-Range", validator); //$NON-NLS-1$
+    try (Response response = aetherClient.get(url, headers); InputStream is = response.getInputStream()) {
+      checkStatus(url, response);
+      if(response.getStatusCode() != 206) {
+        // the validator no longer matches, or the server ignored the range
+        throw new ResourceChangedException(url);
+      }
+      final byte[] buffer = new byte[64 * 1024];
+      long position = start;
+      int n;
+      while(position <= end && -1 != (n = is.read(buffer))) {
+        ByteBuffer bb = ByteBuffer.wrap(buffer, 0, (int) Math.min(n, end - position + 1));
+        while(bb.hasRemaining()) {
+          position += channel.write(bb, position);
+        }
+        if(monitor.isCanceled()) {
+          throw new OperationCanceledException();
+        }
+      }
+      if(position <= end) {
+        throw new IOException("Premature end of segment " + start + "-" + end + " of " + url); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+      }
+    }
+  }
+
+  /**
+   * Returns the segment indexes of the journal, <code>null</code> if they cannot be parsed.
+   */
+  private static BitSet parseSegments(String segments) {
+    BitSet done = new BitSet();
+    if(segments != null && !segments.isEmpty()) {
+      for(String segment : segments.split(",")) { //$NON-NLS-1$
+        int index;
+        try {
+          index = Integer.parseInt(segment.trim());
+        } catch(NumberFormatException ex) {
+          return null;
+        }
+        if(index < 0) {
+          return null;
+        }
+        done.set(index);
+      }
+    }
+    return done;
+  }
+
+  private void copy(InputStream is, OutputStream os) throws IOException {
+    final byte[] buffer = new byte[1024 * 1024];
+    int n = 0;
+    while(-1 != (n = is.read(buffer))) {
+      os.write(buffer, 0, n);
+      if(monitor.isCanceled()) {
+        throw new OperationCanceledException();
+      }
+    }
+  }
+
+  private static String getValidator(Response response) {
+    String etag = response.getHeader("ETag"); //$NON-NLS-1$
+    if(etag != null && !etag.startsWith("W/")) { //$NON-NLS-1$
+      return etag;
+    }
+    return response.getHeader("Last-Modified"); //$NON-NLS-1$
+  }
+
+  private static void checkStatus(String url, Response response) throws IOException {
+    int status = response.getStatusCode();
+    if(status == 404) {
+      throw new FileNotFoundException(url);
+    }
+    if(status >= 400) {
+      throw new IOException(url + ": " + status + " " + response.getStatusMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+  }
+
+  private static void storeJournal(File journalFile, Properties journal) throws IOException {
+    try (OutputStream os = new FileOutputStream(journalFile)) {
+      journal.store(os, null);
+    }
+  }
+
+  /**
+   * A segment request was answered with the whole resource instead of the requested range.
+   */
+  private static class ResourceChangedException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    ResourceChangedException(String url) {
+      super("Range request not honored by " + url); //$NON-NLS-1$
+    }
+  }
+
+  public static class AetherClientConfigAdapter extends AetherClientConfig {
     private final Logger log = LoggerFactory.getLogger(AetherClientConfigAdapter.class);
 
     int connectionTimeout;
@@ -14,16 +14,30 @@ package org.eclipse.m2e.core.internal.index.nexus;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.OperationCanceledException;
 
 import org.eclipse.m2e.core.embedder.ArtifactKey;
 import org.eclipse.m2e.core.internal.index.IIndex;
+import org.eclipse.m2e.core.internal.index.IndexSearchResult;
 import org.eclipse.m2e.core.internal.index.IndexedArtifact;
 import org.eclipse.m2e.core.internal.index.IndexedArtifactFile;
 import org.eclipse.m2e.core.internal.index.SearchExpression;
@@ -36,10 +50,47 @@ import org.eclipse.m2e.core.internal.index.SearchExpression;
  */
 public class CompositeIndex implements IIndex {
 
+  private static final Logger log = LoggerFactory.getLogger(CompositeIndex.class);
+
+  /**
+   * Time to wait for the answer of each index before the results of the other indexes are returned
+   */
+  private static final long INDEX_TIMEOUT = 5000L;
+
+  /**
+   * Not bounded, a query that still waits for its index after the timeout must not delay the queries of later
+   * searches. Idle threads terminate after a minute.
+   */
+  private static final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactory() {
+    private final AtomicInteger count = new AtomicInteger();
+
+    public Thread newThread(Runnable r) {
+      Thread thread = new Thread(r, "M2E Index Search " + count.incrementAndGet()); //$NON-NLS-1$
+      thread.setDaemon(true);
+      return thread;
+    }
+  });
+
+  /**
+   * Set in search threads, nested composites query their indexes in the calling thread
+   */
+  private static final ThreadLocal<Boolean> searchThread = new ThreadLocal<Boolean>();
+
   private List<IIndex> indexes;
 
+  private final long timeout;
+
   public CompositeIndex(List<IIndex> indexes) {
+    this(indexes, INDEX_TIMEOUT);
+  }
+
+  /**
+   * @param timeout milliseconds to wait for each index, search results of indexes that did not answer in time are
+   *          omitted
+   */
+  public CompositeIndex(List<IIndex> indexes, long timeout) {
     this.indexes = indexes;
+    this.timeout = timeout;
   }
 
   public IndexedArtifactFile getIndexedArtifactFile(ArtifactKey artifact) throws CoreException {
@@ -61,28 +112,16 @@ public class CompositeIndex implements IIndex {
   }
 
   public List<IndexedArtifactFile> identifyAll(File file) throws CoreException {
-    List<IndexedArtifactFile> result = new ArrayList<IndexedArtifactFile>();
-
-    for(IIndex index : indexes) {
-      IndexedArtifactFile aif = index.identify(file);
-      if(aif != null) {
-        // first one wins
-        result.add(aif);
-      }
-    }
-
-    // did not find anything
-    return result;
+    // in index order, first one wins. Callers cache the identity of files, so all indexes are waited for
+    return queryAll(index -> index.identify(file), true);
   }
 
   public Collection<IndexedArtifact> find(SearchExpression groupId, SearchExpression artifactId,
       SearchExpression version, SearchExpression packaging) throws CoreException {
     Set<IndexedArtifact> result = new TreeSet<IndexedArtifact>();
-    for(IIndex index : indexes) {
-      Collection<IndexedArtifact> findResults = index.find(groupId, artifactId, version, packaging);
-      if(findResults != null) {
-        result.addAll(findResults);
-      }
+    for(Collection<IndexedArtifact> findResults : queryAll(index -> index.find(groupId, artifactId, version,
+        packaging), false)) {
+      result.addAll(findResults);
     }
     return result;
   }
@@ -92,22 +131,17 @@ public class CompositeIndex implements IIndex {
       Collection<SearchExpression> packaging) throws CoreException {
 
     Set<IndexedArtifact> result = new TreeSet<IndexedArtifact>();
-    for(IIndex index : indexes) {
-      Collection<IndexedArtifact> findResults = index.find(groupId, artifactId, version, packaging);
-      if(findResults != null) {
-        result.addAll(findResults);
-      }
+    for(Collection<IndexedArtifact> findResults : queryAll(index -> index.find(groupId, artifactId, version,
+        packaging), false)) {
+      result.addAll(findResults);
     }
     return result;
   }
 
   public Map<String, IndexedArtifact> search(SearchExpression term, String searchType) throws CoreException {
     Map<String, IndexedArtifact> result = new TreeMap<String, IndexedArtifact>();
-    for(IIndex index : indexes) {
-      Map<String, IndexedArtifact> iresult = index.search(term, searchType);
-      if(iresult != null) {
-        result.putAll(iresult);
-      }
+    for(Map<String, IndexedArtifact> iresult : queryAll(index -> index.search(term, searchType), false)) {
+      result.putAll(iresult);
     }
     return result;
   }
@@ -115,13 +149,139 @@ public class CompositeIndex implements IIndex {
   public Map<String, IndexedArtifact> search(SearchExpression term, String searchType, int classifier)
       throws CoreException {
     Map<String, IndexedArtifact> result = new TreeMap<String, IndexedArtifact>();
-    for(IIndex index : indexes) {
-      Map<String, IndexedArtifact> iresult = index.search(term, searchType, classifier);
-      if(iresult != null) {
-        result.putAll(iresult);
+    for(Map<String, IndexedArtifact> iresult : queryAll(index -> index.search(term, searchType, classifier),
+        false)) {
+      result.putAll(iresult);
+    }
+    return result;
+  }
+
+  public IndexSearchResult search(SearchExpression term, String searchType, int classifier, int offset, int limit)
+      throws CoreException {
+    return merge(queryAll(index -> index.search(term, searchType, classifier, 0, offset + limit), false), offset,
+        limit);
+  }
+
+  public IndexSearchResult find(Collection<SearchExpression> groupId, Collection<SearchExpression> artifactId,
+      Collection<SearchExpression> version, Collection<SearchExpression> packaging, int offset, int limit)
+      throws CoreException {
+    return merge(queryAll(index -> index.find(groupId, artifactId, version, packaging, 0, offset + limit), false),
+        offset, limit);
+  }
+
+  /**
+   * Queries all indexes concurrently and returns the non-null results in index order. Unless <code>complete</code>
+   * is set, indexes that are being updated are skipped and indexes that do not answer within the timeout are omitted,
+   * so callers get the partial result of the available indexes instead of waiting for the slowest one.
+   */
+  <T> List<T> queryAll(IndexQuery<T> query, boolean complete) throws CoreException {
+    List<T> result = new ArrayList<T>();
+    List<IIndex> queried = complete ? indexes : getAvailableIndexes();
+    if(queried.size() <= 1 || Boolean.TRUE.equals(searchThread.get())) {
+      for(IIndex index : queried) {
+        T value = query.query(index);
+        if(value != null) {
+          result.add(value);
+        }
+      }
+      return result;
+    }
+
+    List<Future<T>> futures = new ArrayList<Future<T>>(queried.size());
+    for(IIndex index : queried) {
+      futures.add(executor.submit(() -> {
+        searchThread.set(Boolean.TRUE);
+        try {
+          return query.query(index);
+        } finally {
+          searchThread.remove();
+        }
+      }));
+    }
+
+    long deadline = System.currentTimeMillis() + timeout;
+    try {
+      for(int i = 0; i < futures.size(); i++ ) {
+        Future<T> future = futures.get(i);
+        try {
+          T value = complete ? future.get()
+              : future.get(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+          if(value != null) {
+            result.add(value);
+          }
+        } catch(TimeoutException ex) {
+          IIndex index = queried.get(i);
+          log.warn("Index {} did not answer within {} ms, its results are omitted", //$NON-NLS-1$
+              index instanceof NexusIndex ? ((NexusIndex) index).getRepositoryUrl() : index, timeout);
+        } catch(ExecutionException ex) {
+          Throwable cause = ex.getCause();
+          if(cause instanceof CoreException) {
+            throw (CoreException) cause;
+          }
+          if(cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+          }
+          if(cause instanceof Error) {
+            throw (Error) cause;
+          }
+          throw new IllegalStateException(cause);
+        }
+      }
+    } catch(InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new OperationCanceledException();
+    } finally {
+      for(Future<T> future : futures) {
+        // interrupting lucene would close the index files
+        future.cancel(false);
       }
     }
     return result;
   }
 
+  /**
+   * Returns the indexes that are not being updated, queries of the others would wait for the update.
+   */
+  private List<IIndex> getAvailableIndexes() {
+    List<IIndex> available = new ArrayList<IIndex>(indexes.size());
+    for(IIndex index : indexes) {
+      if(index instanceof NexusIndex && ((NexusIndex) index).isUpdating()) {
+        log.debug("Index {} is being updated, its results are omitted", //$NON-NLS-1$
+            ((NexusIndex) index).getRepositoryUrl());
+      } else {
+        available.add(index);
+      }
+    }
+    return available;
+  }
+
+  @FunctionalInterface
+  interface IndexQuery<T> {
+    T query(IIndex index) throws CoreException;
+  }
+
+  /**
+   * Merges the first pages of all indexes, artifacts of earlier indexes win.
+   */
+  static IndexSearchResult merge(List<IndexSearchResult> results, int offset, int limit) {
+    Map<String, IndexedArtifact> merged = new LinkedHashMap<String, IndexedArtifact>();
+    int totalHits = 0;
+    boolean more = false;
+    for(IndexSearchResult result : results) {
+      for(IndexedArtifact artifact : result) {
+        String key = artifact.getGroupId() + ":" + artifact.getArtifactId(); //$NON-NLS-1$
+        if(!merged.containsKey(key)) {
+          merged.put(key, artifact);
+        }
+      }
+      more |= result.hasMore();
+      if(totalHits != IndexSearchResult.UNKNOWN) {
+        totalHits = result.getTotalHits() != IndexSearchResult.UNKNOWN ? totalHits + result.getTotalHits()
+            : IndexSearchResult.UNKNOWN;
+      }
+    }
+    IndexSearchResult page = IndexSearchResult.page(merged.values(), offset, limit);
+    return new IndexSearchResult(page.getArtifacts(), totalHits, more || page.hasMore());
+  }
+
 }
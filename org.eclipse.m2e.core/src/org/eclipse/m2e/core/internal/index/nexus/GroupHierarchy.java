@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index.nexus;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+
+/**
+ * Group id hierarchy of an index, i.e. the child prefixes of every group id prefix. Computed once from all groups of
+ * an index and persisted next to the index, so expanding a group in the repository view only looks up its children.
+ *
+ * @since 1.12
+ */
+class GroupHierarchy {
+
+  private static final int VERSION = 1;
+
+  private static final String[] NONE = new String[0];
+
+  /** prefix -> sorted child prefixes, the root prefix is the empty string */
+  private final Map<String, String[]> children;
+
+  /** prefixes that are group ids of indexed artifacts */
+  private final Set<String> groups;
+
+  private GroupHierarchy(Map<String, String[]> children, Set<String> groups) {
+    this.children = children;
+    this.groups = groups;
+  }
+
+  static GroupHierarchy build(Collection<String> allGroups) {
+    Map<String, SortedSet<String>> tree = new HashMap<String, SortedSet<String>>();
+    Set<String> groups = new HashSet<String>();
+    for(String group : allGroups) {
+      if(group == null || group.isEmpty()) {
+        continue;
+      }
+      groups.add(group);
+      String parent = ""; //$NON-NLS-1$
+      int end = -1;
+      do {
+        end = group.indexOf('.', end + 1);
+        String prefix = end > -1 ? group.substring(0, end) : group;
+        SortedSet<String> siblings = tree.get(parent);
+        if(siblings == null) {
+          siblings = new TreeSet<String>();
+          tree.put(parent, siblings);
+        }
+        siblings.add(prefix);
+        parent = prefix;
+      } while(end > -1);
+    }
+    Map<String, String[]> children = new HashMap<String, String[]>(tree.size() * 4 / 3 + 1);
+    for(Map.Entry<String, SortedSet<String>> entry : tree.entrySet()) {
+      children.put(entry.getKey(), entry.getValue().toArray(new String[entry.getValue().size()]));
+    }
+    return new GroupHierarchy(children, groups);
+  }
+
+  /**
+   * @return sorted prefixes one segment longer than the given prefix, e.g. <code>org.apache</code> for
+   *         <code>org</code>
+   */
+  String[] getChildren(String prefix) {
+    String[] result = children.get(prefix);
+    return result != null ? result : NONE;
+  }
+
+  /**
+   * @return <code>true</code> if artifacts with the given group id are indexed
+   */
+  boolean isGroup(String prefix) {
+    return groups.contains(prefix);
+  }
+
+  /**
+   * @return the persisted hierarchy or <code>null</code> if the file does not exist or is outdated
+   */
+  static GroupHierarchy read(File file, long timestamp) {
+    if(!file.isFile()) {
+      return null;
+    }
+    try (DataInputStream is = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      if(is.readInt() != VERSION || is.readLong() != timestamp) {
+        return null;
+      }
+      int size = is.readInt();
+      Map<String, String[]> children = new HashMap<String, String[]>(size * 4 / 3 + 1);
+      for(int i = 0; i < size; i++ ) {
+        String prefix = is.readUTF();
+        String[] values = new String[is.readInt()];
+        for(int j = 0; j < values.length; j++ ) {
+          values[j] = is.readUTF();
+        }
+        children.put(prefix, values);
+      }
+      size = is.readInt();
+      Set<String> groups = new HashSet<String>(size * 4 / 3 + 1);
+      for(int i = 0; i < size; i++ ) {
+        groups.add(is.readUTF());
+      }
+      return new GroupHierarchy(children, groups);
+    } catch(IOException ex) {
+      return null;
+    }
+  }
+
+  void write(File file, long timestamp) throws IOException {
+    file.getParentFile().mkdirs();
+    try (DataOutputStream os = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+      os.writeInt(VERSION);
+      os.writeLong(timestamp);
+      os.writeInt(children.size());
+      for(Map.Entry<String, String[]> entry : children.entrySet()) {
+        os.writeUTF(entry.getKey());
+        os.writeInt(entry.getValue().length);
+        for(String child : entry.getValue()) {
+          os.writeUTF(child);
+        }
+      }
+      os.writeInt(groups.size());
+      for(String group : groups) {
+        os.writeUTF(group);
+      }
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index.nexus;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.Term;
+import org.apache.maven.index.ArtifactContext;
+import org.apache.maven.index.ArtifactInfo;
+import org.apache.maven.index.context.IndexingContext;
+
+
+/**
+ * Writes the documents of many artifacts to an index with a single commit. NexusIndexer only adds and removes one
+ * artifact per commit, {@code DefaultIndexerEngine.index} does not even replace an existing document.
+ *
+ * @since 1.12
+ */
+final class IndexBatch {
+
+  private IndexBatch() {
+  }
+
+  /**
+   * Adds or replaces the documents of the added artifacts and deletes the documents of the removed ones, then updates
+   * the groups of the index. Callers must hold repository lock.
+   */
+  static void apply(IndexingContext context, Collection<ArtifactContext> added, Collection<ArtifactContext> removed)
+      throws IOException {
+    if(added.isEmpty() && removed.isEmpty()) {
+      return;
+    }
+    IndexWriter writer = context.getIndexWriter();
+    for(ArtifactContext artifactContext : removed) {
+      String uinfo = artifactContext.getArtifactInfo().getUinfo();
+      // deletion marker as written by DefaultIndexerEngine.remove, incremental index exports rely on it
+      Document marker = new Document();
+      marker.add(new Field(ArtifactInfo.DELETED, uinfo, Field.Store.YES, Field.Index.NO));
+      marker.add(new Field(ArtifactInfo.LAST_MODIFIED, Long.toString(System.currentTimeMillis()), Field.Store.YES,
+          Field.Index.NO));
+      writer.addDocument(marker);
+      writer.deleteDocuments(new Term(ArtifactInfo.UINFO, uinfo));
+    }
+    Set<String> rootGroups = new LinkedHashSet<String>();
+    Set<String> allGroups = new LinkedHashSet<String>();
+    for(ArtifactContext artifactContext : added) {
+      Document document = artifactContext.createDocument(context);
+      if(document == null) {
+        continue;
+      }
+      ArtifactInfo artifactInfo = artifactContext.getArtifactInfo();
+      writer.updateDocument(new Term(ArtifactInfo.UINFO, artifactInfo.getUinfo()), document);
+      if(artifactInfo.getRootGroup() != null) {
+        rootGroups.add(artifactInfo.getRootGroup());
+      }
+      if(artifactInfo.groupId != null) {
+        allGroups.add(artifactInfo.groupId);
+      }
+    }
+    writer.commit();
+
+    if(!removed.isEmpty()) {
+      // removed artifacts may have been the last ones of their group
+      context.rebuildGroups();
+    } else {
+      updateGroups(context, rootGroups, allGroups);
+    }
+    context.updateTimestamp();
+  }
+
+  private static void updateGroups(IndexingContext context, Set<String> rootGroups, Set<String> allGroups)
+      throws IOException {
+    Set<String> indexRootGroups = context.getRootGroups();
+    if(!indexRootGroups.containsAll(rootGroups)) {
+      Set<String> groups = new LinkedHashSet<String>(indexRootGroups);
+      groups.addAll(rootGroups);
+      context.setRootGroups(groups);
+    }
+    Set<String> indexAllGroups = context.getAllGroups();
+    if(!indexAllGroups.containsAll(allGroups)) {
+      Set<String> groups = new LinkedHashSet<String>(indexAllGroups);
+      groups.addAll(allGroups);
+      context.setAllGroups(groups);
+    }
+  }
+}
@@ -27,9 +27,8 @@ public class IndexingTransferListener implements ILocalRepositoryListener {
 
   public void artifactInstalled(File repositoryBasedir, ArtifactKey baseArtifact, ArtifactKey artifact,
       File artifactFile) {
-    NexusIndex localIndex = indexManager.getLocalIndex();
     if(artifactFile.getName().endsWith(".jar")) { //$NON-NLS-1$
-      localIndex.addArtifact(artifactFile, artifact);
+      indexManager.localArtifactInstalled(artifactFile);
     }
   }
 
@@ -0,0 +1,351 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.index.nexus;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.apache.maven.index.ArtifactContext;
+import org.apache.maven.index.context.IndexingContext;
+
+
+/**
+ * Incrementally keeps the index of the local repository in sync with the repository contents.
+ * <p>
+ * A manifest of (path, size, last modified) of all files of the repository, stamped with the index details, is stored
+ * next to the lucene index. On {@link #sync} the repository is walked in parallel and compared with the manifest, only
+ * artifacts in version directories that actually changed are (re)indexed, and everything is committed to the index in
+ * one batch. Files installed into the repository while the workspace is running are queued and applied in batches too.
+ * {@link #rebuild} purges the index and scans the repository in full, it is only used when there is no manifest for the
+ * current index details, i.e. on first startup or after the index has been dropped. The manifest is deleted whenever the index it describes is dropped.
+ *
+ * @since 1.12
+ */
+class LocalRepositoryIndexer {
+  private static final Logger log = LoggerFactory.getLogger(LocalRepositoryIndexer.class);
+
+  private static final String MANIFEST_FILENAME = "m2e-repository-manifest.dat"; //$NON-NLS-1$
+
+  private static final int MANIFEST_VERSION = 2;
+
+  private final NexusIndexManager indexManager;
+
+  private final Queue<File> installedFiles = new ConcurrentLinkedQueue<File>();
+
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+  LocalRepositoryIndexer(NexusIndexManager indexManager) {
+    this.indexManager = indexManager;
+  }
+
+  /**
+   * Deletes the manifest of the given context, the next update has to rebuild its index.
+   */
+  static void deleteManifest(IndexingContext context) {
+    File manifestFile = getManifestFile(context);
+    if(manifestFile != null && manifestFile.exists() && !manifestFile.delete()) {
+      log.warn("Could not delete local repository manifest " + manifestFile.getAbsolutePath()); //$NON-NLS-1$
+    }
+  }
+
+  /**
+   * Purges the index of the given context and scans its repository basedir in full. Callers must hold repository
+   * lock.
+   */
+  private void rebuild(IndexingContext context, String details, IProgressMonitor monitor) throws IOException {
+    File basedir = context.getRepository();
+    File manifestFile = getManifestFile(context);
+    // a rebuild that does not complete leaves no manifest behind
+    deleteManifest(context);
+    context.purge();
+    if(basedir.isDirectory()) {
+      indexManager.getIndexer().scan(context, new ArtifactScanningMonitor(basedir, monitor), false);
+    }
+    writeManifest(manifestFile, details, walk(basedir));
+  }
+
+  /**
+   * Brings the index in sync with the repository basedir of the given context, rebuilds it if there is no manifest for
+   * the given details. Callers must hold repository lock.
+   */
+  void sync(IndexingContext context, String details, IProgressMonitor monitor) throws IOException {
+    File basedir = context.getRepository();
+    File manifestFile = getManifestFile(context);
+    Map<String, FileState> previous = readManifest(manifestFile, details);
+
+    if(previous == null) {
+      // the index content is unknown
+      rebuild(context, details, monitor);
+      return;
+    }
+
+    Map<String, FileState> current = walk(basedir);
+
+    Set<String> changedDirectories = new HashSet<String>();
+    List<File> removed = new ArrayList<File>();
+    for(Map.Entry<String, FileState> entry : current.entrySet()) {
+      if(!entry.getValue().equals(previous.get(entry.getKey()))) {
+        changedDirectories.add(getParent(entry.getKey()));
+      }
+    }
+    for(String path : previous.keySet()) {
+      if(!current.containsKey(path)) {
+        removed.add(new File(basedir, path));
+        changedDirectories.add(getParent(path));
+      }
+    }
+
+    // reindex all remaining artifacts of changed version directories, siblings may share the document of a removed file
+    List<File> added = new ArrayList<File>();
+    for(String path : current.keySet()) {
+      if(changedDirectories.contains(getParent(path))) {
+        added.add(new File(basedir, path));
+      }
+    }
+
+    if(!added.isEmpty() || !removed.isEmpty()) {
+      log.info("Local repository changes: {} files to index, {} files removed", added.size(), removed.size()); //$NON-NLS-1$
+      apply(context, added, removed, monitor);
+    }
+
+    // the manifest is only updated after the index has been committed successfully
+    writeManifest(manifestFile, details, current);
+  }
+
+  /**
+   * Adds files to and removes files from the index of the given context with a single commit. Callers must hold
+   * repository lock.
+   */
+  void apply(IndexingContext context, Collection<File> added, Collection<File> removed, IProgressMonitor monitor)
+      throws IOException {
+    Map<String, ArtifactContext> additions = getArtifactContexts(context, added, monitor);
+    Map<String, ArtifactContext> removals = getArtifactContexts(context, removed, monitor);
+
+    // updated documents replace existing ones, no need to delete them first
+    removals.keySet().removeAll(additions.keySet());
+
+    IndexBatch.apply(context, additions.values(), removals.values());
+  }
+
+  private Map<String, ArtifactContext> getArtifactContexts(IndexingContext context, Collection<File> files,
+      IProgressMonitor monitor) {
+    ArtifactScanningMonitor scanningMonitor = monitor != null ? new ArtifactScanningMonitor(context.getRepository(),
+        monitor) : null;
+    Map<String, ArtifactContext> contexts = new LinkedHashMap<String, ArtifactContext>();
+    for(File file : files) {
+      try {
+        ArtifactContext artifactContext = indexManager.getArtifactContextProducer().getArtifactContext(context, file);
+        if(artifactContext != null) {
+          // pom and main artifact resolve to the same document
+          contexts.put(artifactContext.getArtifactInfo().getUinfo(), artifactContext);
+          if(scanningMonitor != null) {
+            scanningMonitor.artifactDiscovered(artifactContext);
+          }
+        }
+      } catch(Exception ex) {
+        log.error("Unable to index " + file.getAbsolutePath(), ex); //$NON-NLS-1$
+      }
+    }
+    return contexts;
+  }
+
+  /**
+   * Queues a file installed in the local repository to be added to the index with the next {@link #drain()}.
+   *
+   * @return {@code true} if the caller is responsible to schedule the flush of queued files
+   */
+  boolean enqueue(File file) {
+    installedFiles.add(file);
+    return flushScheduled.compareAndSet(false, true);
+  }
+
+  /**
+   * Returns and removes all queued files.
+   */
+  List<File> drain() {
+    // reset first, files queued while draining schedule another flush
+    flushScheduled.set(false);
+    List<File> files = new ArrayList<File>();
+    File file;
+    while((file = installedFiles.poll()) != null) {
+      files.add(file);
+    }
+    return files;
+  }
+
+  private static String getParent(String path) {
+    int idx = path.lastIndexOf('/');
+    return idx > 0 ? path.substring(0, idx) : ""; //$NON-NLS-1$
+  }
+
+  static Map<String, FileState> walk(File basedir) {
+    if(!basedir.isDirectory()) {
+      return Collections.emptyMap();
+    }
+    Map<String, FileState> result = new ConcurrentHashMap<String, FileState>();
+    ForkJoinPool.commonPool().invoke(new DirectoryWalk(basedir, "", result)); //$NON-NLS-1$
+    return result;
+  }
+
+  static boolean isIndexable(String name) {
+    return !name.startsWith(".") //$NON-NLS-1$
+        && !name.startsWith("maven-metadata") //$NON-NLS-1$
+        && !name.startsWith("_") //$NON-NLS-1$
+        && !name.endsWith(".sha1") //$NON-NLS-1$
+        && !name.endsWith(".md5") //$NON-NLS-1$
+        && !name.endsWith(".asc") //$NON-NLS-1$
+        && !name.endsWith(".properties") //$NON-NLS-1$
+        && !name.endsWith(".lastUpdated") //$NON-NLS-1$
+        && !name.endsWith(".part"); //$NON-NLS-1$
+  }
+
+  private static File getManifestFile(IndexingContext context) {
+    File indexDirectory = context.getIndexDirectoryFile();
+    return indexDirectory != null ? new File(indexDirectory, MANIFEST_FILENAME) : null;
+  }
+
+  /**
+   * Returns the manifest if it was written for an index with the given details, {@code null} otherwise.
+   */
+  private static Map<String, FileState> readManifest(File manifestFile, String details) {
+    if(manifestFile == null || !manifestFile.isFile()) {
+      return null;
+    }
+    try (DataInputStream is = new DataInputStream(new BufferedInputStream(new FileInputStream(manifestFile)))) {
+      if(is.readInt() != MANIFEST_VERSION || !is.readUTF().equals(details)) {
+        return null;
+      }
+      int size = is.readInt();
+      Map<String, FileState> manifest = new HashMap<String, FileState>(size * 4 / 3 + 1);
+      for(int i = 0; i < size; i++ ) {
+        String path = is.readUTF();
+        manifest.put(path, new FileState(is.readLong(), is.readLong()));
+      }
+      return manifest;
+    } catch(IOException ex) {
+      log.warn("Could not read local repository manifest " + manifestFile.getAbsolutePath(), ex); //$NON-NLS-1$
+      return null;
+    }
+  }
+
+  private static void writeManifest(File manifestFile, String details, Map<String, FileState> manifest)
+      throws IOException {
+    if(manifestFile == null) {
+      return;
+    }
+    manifestFile.getParentFile().mkdirs();
+    File tmp = new File(manifestFile.getParentFile(), manifestFile.getName() + ".tmp"); //$NON-NLS-1$
+    try (DataOutputStream os = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+      os.writeInt(MANIFEST_VERSION);
+      os.writeUTF(details);
+      os.writeInt(manifest.size());
+      for(Map.Entry<String, FileState> entry : manifest.entrySet()) {
+        os.writeUTF(entry.getKey());
+        os.writeLong(entry.getValue().size);
+        os.writeLong(entry.getValue().lastModified);
+      }
+    }
+    if(manifestFile.exists() && !manifestFile.delete() || !tmp.renameTo(manifestFile)) {
+      tmp.delete();
+      throw new IOException("Could not write " + manifestFile.getAbsolutePath()); //$NON-NLS-1$
+    }
+  }
+
+  static final class FileState {
+    final long size;
+
+    final long lastModified;
+
+    FileState(long size, long lastModified) {
+      this.size = size;
+      this.lastModified = lastModified;
+    }
+
+    public boolean equals(Object obj) {
+      if(obj == this) {
+        return true;
+      }
+      if(!(obj instanceof FileState)) {
+        return false;
+      }
+      FileState other = (FileState) obj;
+      return size == other.size && lastModified == other.lastModified;
+    }
+
+    public int hashCode() {
+      return (int) (size ^ (size >>> 32)) * 31 + (int) (lastModified ^ (lastModified >>> 32));
+    }
+  }
+
+  private static class DirectoryWalk extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final File directory;
+
+    private final String path;
+
+    private final Map<String, FileState> result;
+
+    DirectoryWalk(File directory, String path, Map<String, FileState> result) {
+      this.directory = directory;
+      this.path = path;
+      this.result = result;
+    }
+
+    protected void compute() {
+      File[] children = directory.listFiles();
+      if(children == null) {
+        return;
+      }
+      List<DirectoryWalk> subdirectories = new ArrayList<DirectoryWalk>();
+      for(File child : children) {
+        String name = child.getName();
+        if(!isIndexable(name)) {
+          continue;
+        }
+        String childPath = path.isEmpty() ? name : path + '/' + name;
+        if(child.isDirectory()) {
+          subdirectories.add(new DirectoryWalk(child, childPath, result));
+        } else {
+          result.put(childPath, new FileState(child.length(), child.lastModified()));
+        }
+      }
+      invokeAll(subdirectories);
+    }
+  }
+}
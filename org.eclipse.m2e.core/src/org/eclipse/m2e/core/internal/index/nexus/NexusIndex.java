@@ -28,6 +28,7 @@ import org.apache.maven.index.MAVEN;
 import org.eclipse.m2e.core.embedder.ArtifactKey;
 import org.eclipse.m2e.core.internal.index.IIndex;
 import org.eclipse.m2e.core.internal.index.IMutableIndex;
+import org.eclipse.m2e.core.internal.index.IndexSearchResult;
 import org.eclipse.m2e.core.internal.index.IndexedArtifact;
 import org.eclipse.m2e.core.internal.index.IndexedArtifactFile;
 import org.eclipse.m2e.core.internal.index.SearchExpression;
@@ -105,6 +106,18 @@ public class NexusIndex implements IIndex, IMutableIndex {
   public Collection<IndexedArtifact> find(Collection<SearchExpression> groupId,
       Collection<SearchExpression> artifactId, Collection<SearchExpression> version,
       Collection<SearchExpression> packaging) throws CoreException {
+    return indexManager.search(repository, constructFindQuery(groupId, artifactId, version, packaging)).values();
+  }
+
+  public IndexSearchResult find(Collection<SearchExpression> groupId, Collection<SearchExpression> artifactId,
+      Collection<SearchExpression> version, Collection<SearchExpression> packaging, int offset, int limit)
+      throws CoreException {
+    return indexManager.search(repository, constructFindQuery(groupId, artifactId, version, packaging), offset, limit);
+  }
+
+  private BooleanQuery constructFindQuery(Collection<SearchExpression> groupId,
+      Collection<SearchExpression> artifactId, Collection<SearchExpression> version,
+      Collection<SearchExpression> packaging) {
     BooleanQuery query = new BooleanQuery();
 
     addQueryFromSearchExpressionCollection(query, MAVEN.PACKAGING, packaging);
@@ -115,7 +128,7 @@ public class NexusIndex implements IIndex, IMutableIndex {
 
     addQueryFromSearchExpressionCollection(query, MAVEN.VERSION, version);
 
-    return indexManager.search(repository, query).values();
+    return query;
   }
 
   private void addQueryFromSearchExpressionCollection(final BooleanQuery query, final Field field,
@@ -177,4 +190,9 @@ public class NexusIndex implements IIndex, IMutableIndex {
       throws CoreException {
     return indexManager.search(getRepository(), term, searchType, classifier);
   }
+
+  public IndexSearchResult search(SearchExpression term, String searchType, int classifier, int offset, int limit)
+      throws CoreException {
+    return indexManager.search(getRepository(), term, searchType, classifier, offset, limit);
+  }
 }
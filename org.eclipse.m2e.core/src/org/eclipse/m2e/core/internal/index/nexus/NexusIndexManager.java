@@ -21,10 +21,12 @@ import java.io.IOException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +34,7 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -96,6 +99,7 @@ import org.eclipse.m2e.core.internal.equinox.EquinoxLocker;
 import org.eclipse.m2e.core.internal.index.IIndex;
 import org.eclipse.m2e.core.internal.index.IndexListener;
 import org.eclipse.m2e.core.internal.index.IndexManager;
+import org.eclipse.m2e.core.internal.index.IndexSearchResult;
 import org.eclipse.m2e.core.internal.index.IndexedArtifact;
 import org.eclipse.m2e.core.internal.index.IndexedArtifactFile;
 import org.eclipse.m2e.core.internal.index.MatchTyped;
@@ -120,6 +124,13 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
 
   public static final int MIN_CLASS_QUERY_LENGTH = 6;
 
+  /**
+   * Initial number of index hits collected per artifact requested by paged searches
+   */
+  private static final int HITS_PER_ARTIFACT = 10;
+
+  private static final int MIN_HITS = 100;
+
   /**
    * Lazy instantiated nexus indexer instance.
    */
@@ -160,6 +171,8 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
 
   private final IndexUpdaterJob updaterJob;
 
+  private final LocalRepositoryIndexer localRepositoryIndexer;
+
   private Properties indexDetails = new Properties();
 
   private Set<String> updatingIndexes = new HashSet<String>();
@@ -175,6 +188,11 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
    */
   private final Map<String, Object> indexLocks = new WeakHashMap<String, Object>();
 
+  /**
+   * Group hierarchies by repository uid, see {@link #getGroupHierarchy(IRepository)}
+   */
+  private final Map<String, GroupHierarchy> groupHierarchies = new ConcurrentHashMap<String, GroupHierarchy>();
+
   private final PlexusContainer container;
 
   public NexusIndexManager(PlexusContainer container, IMavenProjectRegistry projectManager,
@@ -194,6 +212,7 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
     }
 
     this.updaterJob = new IndexUpdaterJob(this);
+    this.localRepositoryIndexer = new LocalRepositoryIndexer(this);
 
     this.workspaceIndex = new NexusIndex(this, repositoryRegistry.getWorkspaceRepository(), NexusIndex.DETAILS_MIN);
   }
@@ -361,10 +380,9 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
   }
 
   /**
-   * @return Map<String, IndexedArtifact>
+   * @return query for the given search type or <code>null</code> if the type is not supported
    */
-  protected Map<String, IndexedArtifact> search(IRepository repository, SearchExpression term, String type,
-      int classifier) throws CoreException {
+  private Query constructSearchQuery(SearchExpression term, String type, int classifier) {
     Query query;
     if(IIndex.SEARCH_GROUP.equals(type)) {
       query = constructQuery(MAVEN.GROUP_ID, term);
@@ -420,6 +438,18 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
       query = constructQuery(MAVEN.SHA1, term.getStringValue(), term.getStringValue().length() == 40 ? SearchType.EXACT
           : SearchType.SCORED);
     } else {
+      query = null;
+    }
+    return query;
+  }
+
+  /**
+   * @return Map<String, IndexedArtifact>
+   */
+  protected Map<String, IndexedArtifact> search(IRepository repository, SearchExpression term, String type,
+      int classifier) throws CoreException {
+    Query query = constructSearchQuery(term, type, classifier);
+    if(query == null) {
       return Collections.emptyMap();
     }
 
@@ -498,6 +528,68 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
     return result;
   }
 
+  /**
+   * Paged search, see {@link IIndex#search(SearchExpression, String, int, int, int)}.
+   */
+  protected IndexSearchResult search(IRepository repository, SearchExpression term, String type, int classifier,
+      int offset, int limit) throws CoreException {
+    if(IIndex.SEARCH_GROUP.equals(type)) {
+      // subgroups are matched manually, see above
+      return IndexSearchResult.page(search(repository, term, type, classifier).values(), offset, limit);
+    }
+    Query query = constructSearchQuery(term, type, classifier);
+    if(query == null) {
+      return new IndexSearchResult(Collections.<IndexedArtifact> emptyList(), 0, false);
+    }
+    return search(repository, query, offset, limit);
+  }
+
+  /**
+   * Returns the page of artifacts matching the query, ordered by their best scoring file. Only the top scoring hits are
+   * collected from the index, starting with {@link #HITS_PER_ARTIFACT} hits per requested artifact and growing while
+   * too many hits are files of the same artifacts.
+   */
+  protected IndexSearchResult search(IRepository repository, Query query, int offset, int limit)
+      throws CoreException {
+    int wanted = offset + limit;
+    int count = Math.max(wanted * HITS_PER_ARTIFACT, MIN_HITS);
+    try {
+      while(true) {
+        Map<String, IndexedArtifact> result = new LinkedHashMap<String, IndexedArtifact>();
+        boolean more = false;
+        int totalHits;
+
+        synchronized(getIndexLock(repository)) {
+          IndexingContext context = getIndexingContext(repository);
+          IteratorSearchRequest request = context == null ? new IteratorSearchRequest(query)
+              : new IteratorSearchRequest(query, context);
+          request.setCount(count);
+          IteratorSearchResponse response = getIndexer().searchIterator(request);
+          totalHits = response.getTotalHitsCount();
+
+          for(ArtifactInfo artifactInfo : response.getResults()) {
+            String key = getArtifactFileKey(artifactInfo.groupId, artifactInfo.artifactId, null, null);
+            if(result.size() >= wanted && !result.containsKey(key)) {
+              more = true;
+              break;
+            }
+            addArtifactFile(result, getIndexedArtifactFile(artifactInfo), null, null, artifactInfo.packaging);
+          }
+        }
+
+        if(more || totalHits <= count) {
+          List<IndexedArtifact> artifacts = new ArrayList<IndexedArtifact>(result.values());
+          artifacts = artifacts.subList(Math.min(offset, artifacts.size()), artifacts.size());
+          return new IndexSearchResult(artifacts, totalHits, more);
+        }
+        count *= 4;
+      }
+    } catch(IOException ex) {
+      throw new CoreException(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, -1,
+          Messages.NexusIndexManager_error_search, ex));
+    }
+  }
+
   private void addArtifactFile(Map<String, IndexedArtifact> result, IndexedArtifactFile af, String className,
       String packageName, String packaging) {
     String group = af.group;
@@ -521,17 +613,13 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
 
   private void reindexLocalRepository(IRepository repository, boolean force, final IProgressMonitor monitor)
       throws CoreException {
-    if(!force) {
-      return;
-    }
+    IndexingContext context = getIndexingContext(repository);
+    String details = getIndexDetails(repository);
     try {
       fireIndexUpdating(repository);
       //IndexInfo indexInfo = getIndexInfo(indexName);
-      IndexingContext context = getIndexingContext(repository);
-      purgeCurrentIndex(context);
-      if(context.getRepository().isDirectory()) {
-        getIndexer().scan(context, new ArtifactScanningMonitor(context.getRepository(), monitor), false);
-      }
+      // forced or not, only a missing or outdated manifest requires to purge and scan the repository in full
+      localRepositoryIndexer.sync(context, details, monitor);
       log.info("Updated local repository index");
     } catch(Exception ex) {
       log.error("Unable to re-index " + repository.toString(), ex);
@@ -542,6 +630,39 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
     }
   }
 
+  /**
+   * Queues a file installed in the local repository for indexing. Queued files are added to the index in batches by the
+   * index updater job.
+   */
+  public void localArtifactInstalled(File artifactFile) {
+    if(localRepositoryIndexer.enqueue(artifactFile)) {
+      IndexCommand command = new IndexUpdaterJob.IndexCommand() {
+        public void run(IProgressMonitor monitor) {
+          flushInstalledArtifacts(monitor);
+        }
+      };
+      updaterJob.addCommand(command);
+      updaterJob.schedule(500L);
+    }
+  }
+
+  void flushInstalledArtifacts(IProgressMonitor monitor) {
+    IRepository repository = repositoryRegistry.getLocalRepository();
+    synchronized(getIndexLock(repository)) {
+      List<File> files = localRepositoryIndexer.drain();
+      IndexingContext context = getIndexingContext(repository);
+      if(context == null || files.isEmpty()) {
+        return;
+      }
+      try {
+        localRepositoryIndexer.apply(context, files, Collections.<File> emptyList(), null);
+      } catch(IOException ex) {
+        log.error("Unable to index installed artifacts " + files, ex);
+      }
+    }
+    fireIndexChanged(repository);
+  }
+
   private void reindexWorkspace(boolean force, IProgressMonitor monitor) throws CoreException {
     IRepository workspaceRepository = repositoryRegistry.getWorkspaceRepository();
     if(!force)
@@ -549,10 +670,8 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
     try {
       IndexingContext context = getIndexingContext(workspaceRepository);
       purgeCurrentIndex(context);
-      for(IMavenProjectFacade facade : projectManager.getProjects()) {
-        addDocument(workspaceRepository, facade.getPomFile(), //
-            facade.getArtifactKey());
-      }
+      updateWorkspaceDocuments(context, Arrays.asList(projectManager.getProjects()),
+          Collections.<IMavenProjectFacade> emptyList());
     } catch(Exception ex) {
       log.error("Unable to re-index " + workspaceRepository.toString(), ex);
       throw new CoreException(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, -1,
@@ -683,6 +802,53 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
     }
   }
 
+  /**
+   * Returns the group hierarchy of the repository index, which is built from all groups of the index once per index
+   * change and persisted next to the index.
+   *
+   * @return the hierarchy or <code>null</code> if the repository has no index
+   */
+  GroupHierarchy getGroupHierarchy(IRepository repository) throws CoreException {
+    GroupHierarchy hierarchy = groupHierarchies.get(repository.getUid());
+    if(hierarchy != null) {
+      return hierarchy;
+    }
+    synchronized(getIndexLock(repository)) {
+      IndexingContext context = getIndexingContext(repository);
+      if(context == null) {
+        return null;
+      }
+      Date timestamp = context.getTimestamp();
+      long stamp = timestamp != null ? timestamp.getTime() : 0L;
+      File file = getGroupHierarchyFile(repository);
+      hierarchy = GroupHierarchy.read(file, stamp);
+      if(hierarchy == null) {
+        try {
+          hierarchy = GroupHierarchy.build(context.getAllGroups());
+        } catch(IOException ex) {
+          throw new CoreException(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, -1, //
+              NLS.bind(Messages.NexusIndexManager_error_root_grp, repository.toString()), ex));
+        }
+        try {
+          hierarchy.write(file, stamp);
+        } catch(IOException ex) {
+          log.warn("Unable to persist group hierarchy of " + repository.toString(), ex); //$NON-NLS-1$
+        }
+      }
+      groupHierarchies.put(repository.getUid(), hierarchy);
+      return hierarchy;
+    }
+  }
+
+  private File getGroupHierarchyFile(IRepository repository) {
+    return new File(baseIndexDir, repository.getUid() + ".groups"); //$NON-NLS-1$
+  }
+
+  private void invalidateGroupHierarchy(IRepository repository) {
+    groupHierarchies.remove(repository.getUid());
+    getGroupHierarchyFile(repository).delete();
+  }
+
   /** public for unit tests only! */
   public IndexingContext getIndexingContext(IRepository repository) {
     return repository == null ? null : getIndexer().getIndexingContexts().get(repository.getUid());
@@ -745,29 +911,82 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
      * This method is called while holding workspace lock. Avoid long-running operations if possible. 
      */
 
-    synchronized(getIndexLock(repositoryRegistry.getWorkspaceRepository())) {
-      IndexingContext context = getIndexingContext(repositoryRegistry.getWorkspaceRepository());
+    IRepository workspaceRepository = repositoryRegistry.getWorkspaceRepository();
+    boolean added = false, changed = false, removed = false;
+    synchronized(getIndexLock(workspaceRepository)) {
+      IndexingContext context = getIndexingContext(workspaceRepository);
 
-      if(context != null) {
+      if(context == null) {
         // workspace indexing context can by null during startup due to MNGECLIPSE-1633
-        for(MavenProjectChangedEvent event : events) {
-          IMavenProjectFacade oldFacade = event.getOldMavenProject();
-          IMavenProjectFacade facade = event.getMavenProject();
-          if(oldFacade != null) {
-            if(facade != null) {
-              addDocument(repositoryRegistry.getWorkspaceRepository(), facade.getPomFile(), facade.getArtifactKey());
-              fireIndexChanged(repositoryRegistry.getWorkspaceRepository());
-            } else {
-              removeDocument(repositoryRegistry.getWorkspaceRepository(), oldFacade.getPomFile(),
-                  oldFacade.getArtifactKey(), oldFacade);
-              fireIndexRemoved(repositoryRegistry.getWorkspaceRepository());
+        return;
+      }
+
+      // collect all changes of the batch, the last event for a pom wins
+      Map<File, IMavenProjectFacade> additions = new LinkedHashMap<File, IMavenProjectFacade>();
+      Map<ArtifactKey, IMavenProjectFacade> removals = new LinkedHashMap<ArtifactKey, IMavenProjectFacade>();
+      for(MavenProjectChangedEvent event : events) {
+        IMavenProjectFacade oldFacade = event.getOldMavenProject();
+        IMavenProjectFacade facade = event.getMavenProject();
+        if(oldFacade != null) {
+          if(facade != null) {
+            if(!oldFacade.getArtifactKey().equals(facade.getArtifactKey())) {
+              removals.put(oldFacade.getArtifactKey(), oldFacade);
             }
-          } else if(facade != null) {
-            addDocument(repositoryRegistry.getWorkspaceRepository(), facade.getPomFile(), facade.getArtifactKey());
-            fireIndexAdded(repositoryRegistry.getWorkspaceRepository());
+            additions.put(facade.getPomFile(), facade);
+            changed = true;
+          } else {
+            additions.remove(oldFacade.getPomFile());
+            removals.put(oldFacade.getArtifactKey(), oldFacade);
+            removed = true;
           }
+        } else if(facade != null) {
+          additions.put(facade.getPomFile(), facade);
+          added = true;
         }
       }
+
+      updateWorkspaceDocuments(context, additions.values(), removals.values());
+    }
+
+    if(added) {
+      fireIndexAdded(workspaceRepository);
+    }
+    if(changed) {
+      fireIndexChanged(workspaceRepository);
+    }
+    if(removed) {
+      fireIndexRemoved(workspaceRepository);
+    }
+  }
+
+  /**
+   * Adds and removes workspace project documents with a single index commit. Callers must hold workspace repository
+   * lock.
+   */
+  private void updateWorkspaceDocuments(IndexingContext context, Collection<IMavenProjectFacade> added,
+      Collection<IMavenProjectFacade> removed) {
+    Map<String, ArtifactContext> additions = new LinkedHashMap<String, ArtifactContext>();
+    Map<String, ArtifactContext> removals = new LinkedHashMap<String, ArtifactContext>();
+    collectWorkspaceArtifactContexts(context, added, additions);
+    collectWorkspaceArtifactContexts(context, removed, removals);
+    // updated documents replace existing ones, no need to delete them first
+    removals.keySet().removeAll(additions.keySet());
+    try {
+      IndexBatch.apply(context, additions.values(), removals.values());
+    } catch(IOException ex) {
+      log.error("Unable to update workspace index", ex);
+    }
+  }
+
+  private void collectWorkspaceArtifactContexts(IndexingContext context, Collection<IMavenProjectFacade> facades,
+      Map<String, ArtifactContext> contexts) {
+    for(IMavenProjectFacade facade : facades) {
+      try {
+        ArtifactContext artifactContext = getWorkspaceArtifactContext(facade, context);
+        contexts.put(artifactContext.getArtifactInfo().getUinfo(), artifactContext);
+      } catch(CoreException ex) {
+        log.error("Unable to index " + getDocumentKey(facade.getArtifactKey()), ex);
+      }
     }
   }
 
@@ -851,14 +1070,17 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
     String prefix = group.getPrefix();
     try {
       IndexedArtifactGroup g = new IndexedArtifactGroup(repository, prefix);
-      for(IndexedArtifact a : search(repository, new SourcedSearchExpression(prefix), IIndex.SEARCH_GROUP).values()) {
-        String groupId = a.getGroupId();
-        if(groupId.equals(prefix)) {
-          g.getFiles().put(a.getArtifactId(), a);
-        } else if(groupId.startsWith(prefix + ".")) { //$NON-NLS-1$
-          int start = prefix.length() + 1;
-          int end = groupId.indexOf('.', start);
-          String key = end > -1 ? groupId.substring(0, end) : groupId;
+      GroupHierarchy hierarchy = getGroupHierarchy(repository);
+      if(hierarchy == null || hierarchy.isGroup(prefix)) {
+        Query query = constructQuery(MAVEN.GROUP_ID, new SourcedSearchExpression(prefix));
+        for(IndexedArtifact a : search(repository, query).values()) {
+          if(a.getGroupId().equals(prefix)) {
+            g.getFiles().put(a.getArtifactId(), a);
+          }
+        }
+      }
+      if(hierarchy != null) {
+        for(String key : hierarchy.getChildren(prefix)) {
           g.getNodes().put(key, new IndexedArtifactGroup(repository, key));
         }
       }
@@ -921,11 +1143,14 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
       try {
         if(NexusIndex.DETAILS_DISABLED.equals(details)) {
           if(indexingContext != null) {
+            // the index files are kept but no longer maintained
+            LocalRepositoryIndexer.deleteManifest(indexingContext);
             getIndexer().removeIndexingContext(indexingContext, false /*removeFiles*/);
             fireIndexRemoved(repository);
           }
         } else {
           if(indexingContext != null) {
+            // a manifest written for other details no longer matches, see LocalRepositoryIndexer#readManifest
             getIndexer().removeIndexingContext(indexingContext, false);
           }
 
@@ -986,6 +1211,7 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
         if(context == null) {
           return;
         }
+        LocalRepositoryIndexer.deleteManifest(context);
         getIndexer().removeIndexingContext(context, false);
       } catch(IOException ie) {
         String msg = "Unable to delete files for index";
@@ -993,6 +1219,7 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
       }
     }
 
+    groupHierarchies.remove(repository.getUid());
     fireIndexRemoved(repository);
   }
 
@@ -1042,6 +1269,7 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
     if(repository == null) {
       return;
     }
+    invalidateGroupHierarchy(repository);
     synchronized(updatingIndexes) {
       updatingIndexes.remove(repository.getUid());
     }
@@ -1182,12 +1410,14 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
     ProxyInfo proxyInfo = maven.getProxyInfo(repository.getProtocol());
     AuthenticationInfo authenticationInfo = repository.getAuthenticationInfo();
 
-    IndexUpdateRequest request = new IndexUpdateRequest(context, new AetherClientResourceFetcher(authenticationInfo,
-        proxyInfo, monitor));
     File localRepo = repositoryRegistry.getLocalRepository().getBasedir();
     File indexCacheBasedir = new File(localRepo, ".cache/m2e/" + MavenPluginActivator.getVersion()).getCanonicalFile(); //$NON-NLS-1$
     File indexCacheDir = new File(indexCacheBasedir, repository.getUid());
     indexCacheDir.mkdirs();
+    // partial downloads are kept next to the cache so interrupted updates can resume
+    File downloadDir = new File(indexCacheDir, ".download"); //$NON-NLS-1$
+    IndexUpdateRequest request = new IndexUpdateRequest(context, new AetherClientResourceFetcher(authenticationInfo,
+        proxyInfo, monitor, downloadDir));
     request.setLocalIndexCacheDir(indexCacheDir);
     return request;
   }
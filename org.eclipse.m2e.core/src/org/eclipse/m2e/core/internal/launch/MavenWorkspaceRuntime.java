@@ -12,15 +12,13 @@
 package org.eclipse.m2e.core.internal.launch;
 
 import java.io.File;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 
 import org.apache.maven.artifact.Artifact;
-import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
-import org.apache.maven.artifact.versioning.InvalidVersionSpecificationException;
-import org.apache.maven.artifact.versioning.VersionRange;
 import org.apache.maven.project.MavenProject;
 
 import org.eclipse.m2e.core.MavenPlugin;
@@ -77,20 +75,9 @@ public class MavenWorkspaceRuntime extends AbstractMavenRuntime {
   }
 
   protected IMavenProjectFacade getMavenDistribution() {
-    try {
-      VersionRange range = VersionRange.createFromVersionSpec(getDistributionArtifactKey().getVersion());
-      for(IMavenProjectFacade facade : projectManager.getProjects()) {
-        ArtifactKey artifactKey = facade.getArtifactKey();
-        if(getDistributionArtifactKey().getGroupId().equals(artifactKey.getGroupId()) //
-            && getDistributionArtifactKey().getArtifactId().equals(artifactKey.getArtifactId())//
-            && range.containsVersion(new DefaultArtifactVersion(artifactKey.getVersion()))) {
-          return facade;
-        }
-      }
-    } catch(InvalidVersionSpecificationException e) {
-      // can't happen
-    }
-    return null;
+    List<IMavenProjectFacade> facades = projectManager.getMavenProjects(getDistributionArtifactKey().getGroupId(),
+        getDistributionArtifactKey().getArtifactId(), getDistributionArtifactKey().getVersion());
+    return !facades.isEmpty() ? facades.get(facades.size() - 1) : null;
   }
 
   public void createLauncherConfiguration(IMavenLauncherConfiguration collector, IProgressMonitor monitor)
@@ -117,14 +104,11 @@ public class MavenWorkspaceRuntime extends AbstractMavenRuntime {
       // plexus.core is the current realm, and now we want the add the SLF4J loggging configuration if 
       // we have a verion>3.1.x Maven-like runtime
       //
-      for(IMavenProjectFacade facade : projectManager.getProjects()) {
-        ArtifactKey artifactKey = facade.getArtifactKey();
-        if(getDistributionArtifactKey().getGroupId().equals(artifactKey.getGroupId()) //
-            && getDistributionArtifactKey().getArtifactId().equals(artifactKey.getArtifactId())) {
-          File loggingConfigurationDirectory = new File(facade.getPomFile().getParentFile(), "src/conf/logging");
-          if(loggingConfigurationDirectory.exists()) {
-            collector.addArchiveEntry(loggingConfigurationDirectory.getAbsolutePath());
-          }
+      for(IMavenProjectFacade facade : projectManager.getMavenProjects(getDistributionArtifactKey().getGroupId(),
+          getDistributionArtifactKey().getArtifactId(), null)) {
+        File loggingConfigurationDirectory = new File(facade.getPomFile().getParentFile(), "src/conf/logging");
+        if(loggingConfigurationDirectory.exists()) {
+          collector.addArchiveEntry(loggingConfigurationDirectory.getAbsolutePath());
         }
       }
       Set<Artifact> artifacts = mavenProject.getArtifacts();
@@ -333,4 +333,14 @@ public class MavenConfigurationImpl implements IMavenConfiguration, IPreferenceC
     return Boolean.parseBoolean(
         preferenceStore.get(MavenPreferenceConstants.P_BUILDER_USE_NULL_SCHEDULING_RULE, null, preferencesLookup));
   }
+
+  @Override
+  public boolean isParallelProjectConfiguration() {
+    return Boolean.parseBoolean(
+        preferenceStore.get(MavenPreferenceConstants.P_PARALLEL_PROJECT_CONFIGURATION, null, preferencesLookup));
+  }
+
+  public void setParallelProjectConfiguration(boolean value) {
+    preferencesLookup[0].putBoolean(MavenPreferenceConstants.P_PARALLEL_PROJECT_CONFIGURATION, value);
+  }
 }
@@ -86,6 +86,13 @@ public interface MavenPreferenceConstants {
 
   public static final String P_SHOW_CONSOLE_ON_OUTPUT = PREFIX + "showConsoleOnOutput"; //$NON-NLS-1$
 
+  /**
+   * int, maximum number of log lines buffered for the Maven console, additional lines are dropped
+   *
+   * @since 1.12
+   */
+  public static final String P_CONSOLE_BUFFER_SIZE = PREFIX + "consoleBufferSize"; //$NON-NLS-1$
+
   /** boolean */
   public static final String P_FULL_INDEX = PREFIX + "fullIndex"; //$NON-NLS-1$
 
@@ -173,4 +180,12 @@ public interface MavenPreferenceConstants {
    */
   static final String P_BUILDER_USE_NULL_SCHEDULING_RULE = "builderUsesNullSchedulingRule"; //$NON-NLS-1$
 
+  /**
+   * boolean.
+   * 
+   * @experimental
+   * @since 1.12
+   */
+  public static final String P_PARALLEL_PROJECT_CONFIGURATION = PREFIX + "parallelProjectConfiguration"; //$NON-NLS-1$
+
 }
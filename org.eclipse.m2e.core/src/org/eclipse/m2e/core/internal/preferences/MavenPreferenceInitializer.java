@@ -50,6 +50,7 @@ public class MavenPreferenceInitializer extends AbstractPreferenceInitializer {
 
     store.putBoolean(MavenPreferenceConstants.P_SHOW_CONSOLE_ON_ERR, true);
     store.putBoolean(MavenPreferenceConstants.P_SHOW_CONSOLE_ON_OUTPUT, false);
+    store.putInt(MavenPreferenceConstants.P_CONSOLE_BUFFER_SIZE, 10000);
 
     store.put(MavenPreferenceConstants.P_DUP_OF_PARENT_GROUPID_PB, ProblemSeverity.warning.toString());
     store.put(MavenPreferenceConstants.P_DUP_OF_PARENT_VERSION_PB, ProblemSeverity.warning.toString());
@@ -62,5 +63,6 @@ public class MavenPreferenceInitializer extends AbstractPreferenceInitializer {
 
     //Setting to false until bug #462898 is fixed
     store.putBoolean(MavenPreferenceConstants.P_AUTO_UPDATE_CONFIGURATION, false);
+    store.putBoolean(MavenPreferenceConstants.P_PARALLEL_PROJECT_CONFIGURATION, false);
   }
 }
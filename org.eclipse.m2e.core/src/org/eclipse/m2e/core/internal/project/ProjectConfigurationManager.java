@@ -29,6 +29,16 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,6 +58,7 @@ import org.eclipse.core.resources.IResourceChangeListener;
 import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IWorkspace.ProjectOrder;
 import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -61,6 +72,8 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.SubProgressMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.osgi.util.NLS;
 
 import org.codehaus.plexus.util.StringUtils;
@@ -70,11 +83,15 @@ import org.apache.maven.archetype.ArchetypeGenerationResult;
 import org.apache.maven.archetype.catalog.Archetype;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Extension;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Parent;
+import org.apache.maven.model.Plugin;
 import org.apache.maven.project.MavenProject;
 
 import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.embedder.ArtifactKey;
 import org.eclipse.m2e.core.embedder.ICallable;
 import org.eclipse.m2e.core.embedder.IMaven;
 import org.eclipse.m2e.core.embedder.IMavenConfiguration;
@@ -124,6 +141,8 @@ public class ProjectConfigurationManager implements IProjectConfigurationManager
 
   private static final int WORK_CLEAN_PROJECTS = 1;
 
+  private static final int MAX_CONFIGURATION_THREADS = 8;
+
   final ProjectRegistryManager projectManager;
 
   final MavenModelManager mavenModelManager;
@@ -176,19 +195,53 @@ public class ProjectConfigurationManager implements IProjectConfigurationManager
         ArrayList<IMavenProjectImportResult> result = new ArrayList<IMavenProjectImportResult>();
         int total = projectInfos.size();
         ArrayList<IProject> projects = new ArrayList<IProject>(total);
-        int i = 0;
 
         List<IProject> existingProjects = findExistingProjectsToHideFrom();
 
         // first, create all projects with basic configuration
+        createProjects(projectInfos, configuration, listener, result, projects, progress.newChild(10));
+
+        hideNestedProjectsFromParents(projects, existingProjects, monitor);
+        // then configure maven for all projects
+        configureNewMavenProjects(projects, progress.newChild(90));
+
+        long t2 = System.currentTimeMillis();
+        log.info("Imported and configured {} project(s) in {} sec", total, ((t2 - t1) / 1000));
+
+        return result;
+      }
+    }, monitor);
+
+  }
+
+  /**
+   * Creates all projects inside a single workspace operation. Resource change notifications are deferred until all
+   * projects are created and the project preferences of all projects are written at the end in one pass, listeners get
+   * one coalesced delta for the whole import.
+   */
+  private void createProjects(final Collection<MavenProjectInfo> projectInfos,
+      final ProjectImportConfiguration configuration, final IProjectCreationListener listener,
+      final List<IMavenProjectImportResult> result, final List<IProject> projects, IProgressMonitor monitor)
+      throws CoreException {
+    IWorkspace workspace = ResourcesPlugin.getWorkspace();
+    ISchedulingRule rule = workspace.getRoot();
+    ISchedulingRule currentRule = Job.getJobManager().currentRule();
+    if(currentRule != null && !currentRule.contains(rule)) {
+      rule = currentRule;
+    }
+    workspace.run(new IWorkspaceRunnable() {
+      public void run(IProgressMonitor monitor) throws CoreException {
+        SubMonitor progress = SubMonitor.convert(monitor, projectInfos.size() * 100 + 10);
+        List<IEclipsePreferences> preferences = new ArrayList<IEclipsePreferences>(projectInfos.size());
+        int total = projectInfos.size();
+        int i = 0;
         for(MavenProjectInfo projectInfo : projectInfos) {
           long t11 = System.currentTimeMillis();
-          if(monitor.isCanceled()) {
+          if(progress.isCanceled()) {
             throw new OperationCanceledException();
           }
 
-          SubMonitor subProgress = SubMonitor.convert(progress.newChild(10), projectInfos.size() * 100);
-          IProject project = create(projectInfo, configuration, listener, subProgress.newChild(100));
+          IProject project = create(projectInfo, configuration, listener, preferences, progress.newChild(100));
 
           result.add(new MavenProjectImportResult(projectInfo, project));
 
@@ -198,18 +251,10 @@ public class ProjectConfigurationManager implements IProjectConfigurationManager
             log.debug("Imported project {} ({}/{}) in {} ms", project.getName(), ++i, total, importTime);
           }
         }
-
-        hideNestedProjectsFromParents(projects, existingProjects, monitor);
-        // then configure maven for all projects
-        configureNewMavenProjects(projects, progress.newChild(90));
-
-        long t2 = System.currentTimeMillis();
-        log.info("Imported and configured {} project(s) in {} sec", total, ((t2 - t1) / 1000));
-
-        return result;
+        ResolverConfigurationIO.flush(preferences);
+        progress.worked(10);
       }
-    }, monitor);
-
+    }, rule, IWorkspace.AVOID_UPDATE, monitor);
   }
 
   private void setHidden(IResource resource) {
@@ -307,6 +352,13 @@ public class ProjectConfigurationManager implements IProjectConfigurationManager
     sortProjects(facades, progress.newChild(5));
     //Then, perform detailed project configuration
     subProgress = SubMonitor.convert(progress.newChild(15), facades.size() * 100);
+    if(isParallelConfiguration()) {
+      Map<IMavenProjectFacade, CoreException> failures = configureProjectsInParallel(facades, true, subProgress);
+      if(!failures.isEmpty()) {
+        throw failures.values().iterator().next();
+      }
+      return;
+    }
     for(IMavenProjectFacade facade : facades) {
       if(progress.isCanceled()) {
         throw new OperationCanceledException();
@@ -476,7 +528,27 @@ public class ProjectConfigurationManager implements IProjectConfigurationManager
     }
 
     // update project configuration
-    if(updateConfiguration) {
+    if(updateConfiguration && isParallelConfiguration()) {
+      SubProgressMonitor submonitor = new SubProgressMonitor(monitor, projects.size(),
+          SubProgressMonitor.SUPPRESS_SUBTASK_LABEL);
+      List<IMavenProjectFacade> facades = new ArrayList<IMavenProjectFacade>(projects.values());
+      Map<IMavenProjectFacade, CoreException> failures;
+      try {
+        // levels are derived from the maven build order
+        sortProjects(facades, submonitor);
+        failures = configureProjectsInParallel(facades, false, submonitor);
+      } catch(CoreException ex) {
+        failures = new LinkedHashMap<IMavenProjectFacade, CoreException>();
+        for(IMavenProjectFacade facade : facades) {
+          failures.put(facade, ex);
+        }
+      }
+      for(Map.Entry<IMavenProjectFacade, CoreException> failure : failures.entrySet()) {
+        IMavenProjectFacade facade = failure.getKey();
+        projects.remove(facade.getPom());
+        updateStatus.put(facade.getProject().getName(), failure.getValue().getStatus());
+      }
+    } else if(updateConfiguration) {
       Iterator<Entry<IFile, IMavenProjectFacade>> iterator = projects.entrySet().iterator();
       while(iterator.hasNext()) {
         if(monitor.isCanceled()) {
@@ -497,6 +569,8 @@ public class ProjectConfigurationManager implements IProjectConfigurationManager
           updateStatus.put(facade.getProject().getName(), ex.getStatus());
         }
       }
+    }
+    if(updateConfiguration) {
       // refresh build order
       for(IFile pom : pomFiles) {
     	// clear cached dynamic references for all projects
@@ -547,8 +621,187 @@ public class ProjectConfigurationManager implements IProjectConfigurationManager
     return updateStatus;
   }
 
+  /**
+   * Parallel configuration is only possible if the calling thread does not hold a scheduling rule, the per-project
+   * rules of the worker threads would conflict with it otherwise.
+   */
+  private boolean isParallelConfiguration() {
+    return mavenConfiguration.isParallelProjectConfiguration() && Job.getJobManager().currentRule() == null;
+  }
+
+  /**
+   * Configures build-ordered projects level by level. Projects of the same level do not depend on each other and are
+   * configured concurrently, each under its own project scheduling rule. Projects that need a broader rule before any
+   * of their configurators ran are configured afterwards from the calling thread. A rule violation from a configurator
+   * fails the project, running the configurators a second time on a partly configured project is not safe.
+   * 
+   * @param failFast stop after the first level with a failed project
+   * @return configuration failures by project
+   */
+  private Map<IMavenProjectFacade, CoreException> configureProjectsInParallel(List<IMavenProjectFacade> facades,
+      boolean failFast, IProgressMonitor monitor) throws CoreException {
+    SubMonitor progress = SubMonitor.convert(monitor, facades.size());
+    Map<IMavenProjectFacade, CoreException> failures = new LinkedHashMap<IMavenProjectFacade, CoreException>();
+    List<List<IMavenProjectFacade>> levels = getConfigurationLevels(facades, progress);
+    // configuration also waits on the file system, use at least two threads
+    int threads = Math.min(Math.max(Runtime.getRuntime().availableProcessors(), 2), MAX_CONFIGURATION_THREADS);
+    ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+      private final AtomicInteger count = new AtomicInteger();
+
+      public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, "M2E Project Configuration " + count.incrementAndGet()); //$NON-NLS-1$
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    try {
+      for(List<IMavenProjectFacade> level : levels) {
+        Map<IMavenProjectFacade, Future<?>> futures = new LinkedHashMap<IMavenProjectFacade, Future<?>>();
+        final Map<IMavenProjectFacade, AtomicBoolean> configuring = new HashMap<IMavenProjectFacade, AtomicBoolean>();
+        for(final IMavenProjectFacade facade : level) {
+          final AtomicBoolean started = new AtomicBoolean();
+          configuring.put(facade, started);
+          futures.put(facade, executor.submit(new Callable<Void>() {
+            public Void call() throws CoreException {
+              configureProject(facade, facade.getProject(), started, new NullProgressMonitor());
+              return null;
+            }
+          }));
+        }
+        List<IMavenProjectFacade> retry = new ArrayList<IMavenProjectFacade>();
+        for(Map.Entry<IMavenProjectFacade, Future<?>> entry : futures.entrySet()) {
+          IMavenProjectFacade facade = entry.getKey();
+          progress.subTask(NLS.bind(Messages.ProjectConfigurationManager_task_updating, facade.getProject().getName()));
+          try {
+            waitFor(entry.getValue(), progress);
+          } catch(ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if(cause instanceof CoreException) {
+              failures.put(facade, (CoreException) cause);
+            } else if(cause instanceof IllegalArgumentException && !configuring.get(facade).get()) {
+              // touched resources outside of the project rule before any configurator ran
+              log.debug("Project {} can not be configured in parallel: {}", facade.getProject().getName(), //$NON-NLS-1$
+                  cause.getMessage());
+              retry.add(facade);
+            } else if(cause instanceof IllegalArgumentException) {
+              // a configurator touched resources outside of the project rule
+              failures.put(facade, new CoreException(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, -1,
+                  NLS.bind(Messages.ProjectConfigurationManager_error_parallel, facade.getProject().getName()), cause)));
+            } else if(cause instanceof OperationCanceledException) {
+              throw (OperationCanceledException) cause;
+            } else {
+              failures.put(facade, new CoreException(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, -1,
+                  cause.getMessage(), cause)));
+            }
+          }
+          progress.worked(1);
+        }
+        for(IMavenProjectFacade facade : retry) {
+          try {
+            configureProject(facade, ResourcesPlugin.getWorkspace().getRoot(), null, progress.newChild(0));
+          } catch(CoreException ex) {
+            failures.put(facade, ex);
+          }
+        }
+        if(failFast && !failures.isEmpty()) {
+          break;
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    return failures;
+  }
+
+  private static void waitFor(Future<?> future, IProgressMonitor monitor) throws ExecutionException {
+    while(true) {
+      if(monitor.isCanceled()) {
+        future.cancel(true);
+        throw new OperationCanceledException();
+      }
+      try {
+        future.get(100, TimeUnit.MILLISECONDS);
+        return;
+      } catch(TimeoutException ex) {
+        // check cancellation again
+      } catch(InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new OperationCanceledException();
+      }
+    }
+  }
+
+  /**
+   * Configures a single project under the given scheduling rule.
+   * 
+   * @param configuring if not <code>null</code>, set right before the project configurators run
+   */
+  private void configureProject(final IMavenProjectFacade facade, ISchedulingRule rule,
+      final AtomicBoolean configuring, IProgressMonitor monitor) throws CoreException {
+    ResourcesPlugin.getWorkspace().run(new IWorkspaceRunnable() {
+      public void run(IProgressMonitor monitor) throws CoreException {
+        MavenProject mavenProject = facade.getMavenProject(monitor);
+        updateProjectConfiguration(new ProjectConfigurationRequest(facade, mavenProject), configuring, monitor);
+      }
+    }, rule, IWorkspace.AVOID_UPDATE, monitor);
+  }
+
+  /**
+   * Groups build-ordered projects into levels, projects only reference projects of lower levels. References are matched
+   * on groupId and artifactId, which may put a project on a higher level than necessary but never too low.
+   */
+  /*package*/static List<List<IMavenProjectFacade>> getConfigurationLevels(List<IMavenProjectFacade> facades,
+      IProgressMonitor monitor) throws CoreException {
+    List<List<IMavenProjectFacade>> levels = new ArrayList<List<IMavenProjectFacade>>();
+    Map<String, Integer> projectLevels = new HashMap<String, Integer>();
+    for(IMavenProjectFacade facade : facades) {
+      int level = 0;
+      for(String reference : getProjectReferences(facade.getMavenProject(monitor))) {
+        Integer referenceLevel = projectLevels.get(reference);
+        if(referenceLevel != null) {
+          level = Math.max(level, referenceLevel + 1);
+        }
+      }
+      ArtifactKey key = facade.getArtifactKey();
+      String projectKey = key.getGroupId() + ':' + key.getArtifactId();
+      Integer previous = projectLevels.get(projectKey);
+      projectLevels.put(projectKey, previous != null ? Math.max(previous, level) : level);
+      while(levels.size() <= level) {
+        levels.add(new ArrayList<IMavenProjectFacade>());
+      }
+      levels.get(level).add(facade);
+    }
+    return levels;
+  }
+
+  private static Set<String> getProjectReferences(MavenProject mavenProject) {
+    Set<String> references = new HashSet<String>();
+    Parent parent = mavenProject.getModel().getParent();
+    if(parent != null) {
+      references.add(parent.getGroupId() + ':' + parent.getArtifactId());
+    }
+    for(Dependency dependency : mavenProject.getDependencies()) {
+      references.add(dependency.getGroupId() + ':' + dependency.getArtifactId());
+    }
+    for(Plugin plugin : mavenProject.getBuildPlugins()) {
+      references.add(plugin.getGroupId() + ':' + plugin.getArtifactId());
+      for(Dependency dependency : plugin.getDependencies()) {
+        references.add(dependency.getGroupId() + ':' + dependency.getArtifactId());
+      }
+    }
+    for(Extension extension : mavenProject.getBuildExtensions()) {
+      references.add(extension.getGroupId() + ':' + extension.getArtifactId());
+    }
+    return references;
+  }
+
   private void updateProjectConfiguration(final ProjectConfigurationRequest request, IProgressMonitor monitor)
       throws CoreException {
+    updateProjectConfiguration(request, null, monitor);
+  }
+
+  private void updateProjectConfiguration(final ProjectConfigurationRequest request,
+      final AtomicBoolean configuring, IProgressMonitor monitor) throws CoreException {
     final IProject project = request.getProject();
     long start = System.currentTimeMillis();
     final IMavenProjectFacade mavenProjectFacade = request.getMavenProjectFacade();
@@ -575,6 +828,9 @@ public class ProjectConfigurationManager implements IProjectConfigurationManager
         if(lifecycleMapping != null) {
           mavenMarkerManager.deleteMarkers(mavenProjectFacade.getProject(), IMavenConstants.MARKER_CONFIGURATION_ID);
 
+          if(configuring != null) {
+            configuring.set(true);
+          }
           lifecycleMapping.configure(request, monitor);
 
           LifecycleMappingConfiguration.persist(request.getMavenProjectFacade(), monitor);
@@ -602,7 +858,22 @@ public class ProjectConfigurationManager implements IProjectConfigurationManager
 
   /*package*/void enableBasicMavenNature(IProject project, ResolverConfiguration configuration,
       IProgressMonitor monitor) throws CoreException {
-    ResolverConfigurationIO.saveResolverConfiguration(project, configuration);
+    enableBasicMavenNature(project, configuration, null, monitor);
+  }
+
+  /**
+   * @param preferences if not <code>null</code>, the project preferences are not written to disk but added to this list
+   */
+  private void enableBasicMavenNature(IProject project, ResolverConfiguration configuration,
+      List<IEclipsePreferences> preferences, IProgressMonitor monitor) throws CoreException {
+    if(preferences != null) {
+      IEclipsePreferences projectNode = ResolverConfigurationIO.setResolverConfiguration(project, configuration);
+      if(projectNode != null) {
+        preferences.add(projectNode);
+      }
+    } else {
+      ResolverConfigurationIO.saveResolverConfiguration(project, configuration);
+    }
 
     // add maven nature even for projects without valid pom.xml file
     addMavenNature(project, monitor);
@@ -1011,8 +1282,28 @@ public class ProjectConfigurationManager implements IProjectConfigurationManager
     return ResourcesPlugin.getWorkspace().getRuleFactory().buildRule();
   }
 
+  /**
+   * Returns the scheduling rule for jobs that import projects or update the configuration of existing projects. With
+   * parallel project configuration the job must not hold a rule, projects are created under the workspace root rule
+   * and configured under their own project rules.
+   * 
+   * @since 1.12
+   */
+  public ISchedulingRule getConfigurationRule() {
+    if(mavenConfiguration.isParallelProjectConfiguration()) {
+      return null;
+    }
+    return getRule();
+  }
+
   /*package*/IProject create(MavenProjectInfo projectInfo, ProjectImportConfiguration configuration,
       IProjectCreationListener listener, IProgressMonitor monitor) throws CoreException {
+    return create(projectInfo, configuration, listener, null, monitor);
+  }
+
+  private IProject create(MavenProjectInfo projectInfo, ProjectImportConfiguration configuration,
+      IProjectCreationListener listener, List<IEclipsePreferences> preferences, IProgressMonitor monitor)
+      throws CoreException {
     IWorkspace workspace = ResourcesPlugin.getWorkspace();
     IWorkspaceRoot root = workspace.getRoot();
 
@@ -1090,7 +1381,7 @@ public class ProjectConfigurationManager implements IProjectConfigurationManager
 
     ResolverConfiguration resolverConfiguration = ResolverConfigurationIO.readResolverConfiguration(project,
         configuration.getResolverConfiguration());
-    enableBasicMavenNature(project, resolverConfiguration, monitor);
+    enableBasicMavenNature(project, resolverConfiguration, preferences, monitor);
 
     // create empty/marker persistent configuration
     // 1 project with bad pom.xml gets imported in workspace
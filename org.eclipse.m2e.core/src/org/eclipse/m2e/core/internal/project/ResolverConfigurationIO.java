@@ -14,6 +14,7 @@ package org.eclipse.m2e.core.internal.project;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
+import java.util.Collection;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.stream.Collectors;
@@ -74,6 +75,26 @@ public class ResolverConfigurationIO {
   private static final String VERSION = "1"; //$NON-NLS-1$
 
   public static boolean saveResolverConfiguration(IProject project, ResolverConfiguration configuration) {
+    IEclipsePreferences projectNode = setResolverConfiguration(project, configuration);
+    if(projectNode != null) {
+      try {
+        projectNode.flush();
+        return true;
+      } catch(BackingStoreException ex) {
+        log.error("Failed to save resolver configuration", ex);
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Updates the resolver configuration of the project preferences without writing them to disk, callers are expected to
+   * {@link #flush(Collection)} the returned preference node. Used to write the preferences of many projects in one go.
+   * 
+   * @return the updated project preferences node or <code>null</code> if project preferences are not available
+   */
+  static IEclipsePreferences setResolverConfiguration(IProject project, ResolverConfiguration configuration) {
     IScopeContext projectScope = new ProjectScope(project);
     IEclipsePreferences projectNode = projectScope.getNode(IMavenConstants.PLUGIN_ID);
     if(projectNode != null) {
@@ -94,16 +115,26 @@ public class ResolverConfigurationIO {
       } else {
         projectNode.remove(P_PROPERTIES);
       }
+    }
+    return projectNode;
+  }
 
+  /**
+   * Writes the given project preference nodes to disk.
+   * 
+   * @return <code>true</code> if all nodes were written successfully
+   */
+  static boolean flush(Collection<IEclipsePreferences> projectNodes) {
+    boolean result = true;
+    for(IEclipsePreferences projectNode : projectNodes) {
       try {
         projectNode.flush();
-        return true;
       } catch(BackingStoreException ex) {
         log.error("Failed to save resolver configuration", ex);
+        result = false;
       }
     }
-
-    return false;
+    return result;
   }
 
   public static ResolverConfiguration readResolverConfiguration(IProject project) {
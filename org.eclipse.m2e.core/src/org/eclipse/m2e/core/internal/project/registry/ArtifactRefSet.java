@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+
+import org.eclipse.m2e.core.embedder.ArtifactRef;
+
+
+/**
+ * Immutable insertion ordered set of canonical {@link ArtifactRef}s backed by a plain array. Facades of projects with
+ * the same dependencies only pay for one reference per artifact instead of a hash set of their own artifact copies.
+ *
+ * @since 1.12
+ */
+class ArtifactRefSet extends AbstractSet<ArtifactRef> implements Serializable {
+  private static final long serialVersionUID = 5071467217520478337L;
+
+  private final ArtifactRef[] refs;
+
+  /**
+   * @param refs distinct canonical references, see {@link ArtifactRef#fromArtifact(java.util.Set)}
+   */
+  ArtifactRefSet(Collection<ArtifactRef> refs) {
+    this.refs = refs.toArray(new ArtifactRef[refs.size()]);
+  }
+
+  public Iterator<ArtifactRef> iterator() {
+    return Arrays.asList(refs).iterator();
+  }
+
+  public int size() {
+    return refs.length;
+  }
+}
@@ -13,17 +13,25 @@ package org.eclipse.m2e.core.internal.project.registry;
 
 import java.io.File;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 
+import org.eclipse.aether.util.version.GenericVersionScheme;
+import org.eclipse.aether.version.InvalidVersionSpecificationException;
+import org.eclipse.aether.version.Version;
+import org.eclipse.aether.version.VersionConstraint;
 import org.eclipse.core.resources.IFile;
 
 import org.eclipse.m2e.core.embedder.ArtifactKey;
@@ -39,6 +47,8 @@ abstract class BasicProjectRegistry implements Serializable {
 
   private static final long serialVersionUID = 6232274446642339434L;
 
+  private static final GenericVersionScheme versionScheme = new GenericVersionScheme();
+
   private final String m2e_version = MavenPluginActivator.getQualifiedVersion();
 
   /**
@@ -71,6 +81,12 @@ abstract class BasicProjectRegistry implements Serializable {
    */
   protected final Map<IFile, Set<RequiredCapability>> projectRequirements = new HashMap<>();
 
+  /**
+   * Maps groupId:artifactId to the keys of {@link #workspaceArtifacts} with that groupId and artifactId and their
+   * parsed versions. Derived from workspaceArtifacts, lazily recreated after deserialization.
+   */
+  private transient Map<String, Map<ArtifactKey, Version>> workspaceArtifactsIndex;
+
   protected BasicProjectRegistry() {
   }
 
@@ -90,6 +106,13 @@ abstract class BasicProjectRegistry implements Serializable {
     for(MavenProjectFacade facade : workspacePoms.values()) {
       workspacePomFiles.put(facade.getPomFile(), facade);
     }
+
+    if(other.workspaceArtifactsIndex != null) {
+      workspaceArtifactsIndex = new HashMap<>();
+      for(Map.Entry<String, Map<ArtifactKey, Version>> entry : other.workspaceArtifactsIndex.entrySet()) {
+        workspaceArtifactsIndex.put(entry.getKey(), new LinkedHashMap<>(entry.getValue()));
+      }
+    }
   }
 
   /**
@@ -149,15 +172,124 @@ abstract class BasicProjectRegistry implements Serializable {
 
   public Map<ArtifactKey, Collection<IFile>> getWorkspaceArtifacts(String groupId, String artifactId) {
     Multimap<ArtifactKey, IFile> artifacts = HashMultimap.create();
-    for(Map.Entry<ArtifactKey, Set<IFile>> entry : workspaceArtifacts.entrySet()) {
-      ArtifactKey workspaceKey = entry.getKey();
-      if(groupId.equals(workspaceKey.getGroupId()) && artifactId.equals(workspaceKey.getArtifactId())) {
-        artifacts.putAll(workspaceKey, entry.getValue());
+    for(ArtifactKey workspaceKey : getIndexedArtifacts(groupId, artifactId).keySet()) {
+      Set<IFile> poms = workspaceArtifacts.get(workspaceKey);
+      if(poms != null) {
+        artifacts.putAll(workspaceKey, poms);
       }
     }
     return artifacts.asMap();
   }
 
+  /**
+   * Returns the parsed version of the given workspace artifact, parsed versions of all workspace artifacts are cached.
+   */
+  public Version getWorkspaceArtifactVersion(ArtifactKey artifactKey) {
+    Version version = getIndexedArtifacts(artifactKey.getGroupId(), artifactKey.getArtifactId()).get(artifactKey);
+    return version != null ? version : parseVersion(artifactKey.getVersion());
+  }
+
+  /**
+   * Returns workspace projects with the given groupId and artifactId and a version matching the given constraint,
+   * ordered by ascending version. A <code>null</code> constraint matches all versions.
+   */
+  public List<MavenProjectFacade> getProjectFacades(String groupId, String artifactId, VersionConstraint constraint) {
+    Map<ArtifactKey, Version> indexed = getIndexedArtifacts(groupId, artifactId);
+    if(indexed.isEmpty()) {
+      return Collections.emptyList();
+    }
+    TreeMap<Version, List<MavenProjectFacade>> matching = new TreeMap<>();
+    for(Map.Entry<ArtifactKey, Version> entry : indexed.entrySet()) {
+      Version version = entry.getValue();
+      if(version == null || (constraint != null && !constraint.containsVersion(version))) {
+        continue;
+      }
+      Set<IFile> poms = workspaceArtifacts.get(entry.getKey());
+      if(poms == null) {
+        continue;
+      }
+      for(IFile pom : poms) {
+        MavenProjectFacade facade = workspacePoms.get(pom);
+        if(facade != null && facade.getArtifactKey().equals(entry.getKey())) {
+          matching.computeIfAbsent(version, v -> new ArrayList<>()).add(facade);
+        }
+      }
+    }
+    List<MavenProjectFacade> result = new ArrayList<>();
+    for(List<MavenProjectFacade> facades : matching.values()) {
+      result.addAll(facades);
+    }
+    return result;
+  }
+
+  /**
+   * Adds pom to the poms that define the given artifact.
+   */
+  protected void addWorkspaceArtifact(ArtifactKey artifactKey, IFile pom) {
+    Set<IFile> paths = workspaceArtifacts.get(artifactKey);
+    if(paths == null) {
+      paths = new LinkedHashSet<IFile>();
+      workspaceArtifacts.put(artifactKey, paths);
+      if(workspaceArtifactsIndex != null) {
+        index(workspaceArtifactsIndex, artifactKey);
+      }
+    }
+    paths.add(pom);
+  }
+
+  /**
+   * Removes pom from the poms that define the given artifact, the artifact is dropped when no pom defines it anymore.
+   */
+  protected void removeWorkspaceArtifact(ArtifactKey artifactKey, IFile pom) {
+    Set<IFile> paths = workspaceArtifacts.get(artifactKey);
+    if(paths == null) {
+      return;
+    }
+    paths.remove(pom);
+    if(paths.isEmpty()) {
+      workspaceArtifacts.remove(artifactKey);
+      if(workspaceArtifactsIndex != null) {
+        String key = artifactKey.getGroupId() + ':' + artifactKey.getArtifactId();
+        Map<ArtifactKey, Version> artifacts = workspaceArtifactsIndex.get(key);
+        if(artifacts != null) {
+          artifacts.remove(artifactKey);
+          if(artifacts.isEmpty()) {
+            workspaceArtifactsIndex.remove(key);
+          }
+        }
+      }
+    }
+  }
+
+  private Map<ArtifactKey, Version> getIndexedArtifacts(String groupId, String artifactId) {
+    if(workspaceArtifactsIndex == null) {
+      Map<String, Map<ArtifactKey, Version>> index = new HashMap<>();
+      for(ArtifactKey artifactKey : workspaceArtifacts.keySet()) {
+        index(index, artifactKey);
+      }
+      workspaceArtifactsIndex = index;
+    }
+    Map<ArtifactKey, Version> artifacts = workspaceArtifactsIndex.get(groupId + ':' + artifactId);
+    return artifacts != null ? artifacts : Collections.<ArtifactKey, Version> emptyMap();
+  }
+
+  private static void index(Map<String, Map<ArtifactKey, Version>> index, ArtifactKey artifactKey) {
+    index.computeIfAbsent(artifactKey.getGroupId() + ':' + artifactKey.getArtifactId(), k -> new LinkedHashMap<>())
+        .put(artifactKey, parseVersion(artifactKey.getVersion()));
+  }
+
+  private static Version parseVersion(String version) {
+    if(version == null) {
+      return null;
+    }
+    try {
+      return versionScheme.parseVersion(version);
+    } catch(InvalidVersionSpecificationException e) {
+      // this can't happen with GenericVersionScheme
+      return null;
+    }
+  }
+
   protected void clear() {
     workspaceArtifacts.clear();
     workspacePoms.clear();
@@ -165,6 +297,7 @@ abstract class BasicProjectRegistry implements Serializable {
     requiredCapabilities.clear();
     projectCapabilities.clear();
     projectRequirements.clear();
+    workspaceArtifactsIndex = null;
   }
 
   public boolean isValid() {
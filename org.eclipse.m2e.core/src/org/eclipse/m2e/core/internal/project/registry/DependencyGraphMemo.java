@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.repository.RemoteRepository;
+
+
+/**
+ * Dependency subtrees collected during one registry refresh, shared by the dependency resolution of all refreshed
+ * projects. See {@link MemoizingDependencyCollector}.
+ *
+ * @since 1.12
+ */
+public class DependencyGraphMemo implements AutoCloseable {
+  private static final Logger log = LoggerFactory.getLogger(DependencyGraphMemo.class);
+
+  private static final ThreadLocal<DependencyGraphMemo> current = new ThreadLocal<DependencyGraphMemo>();
+
+  private final DependencyGraphMemo previous;
+
+  private final ConcurrentMap<Key, Subtree> subtrees;
+
+  private final AtomicInteger hits = new AtomicInteger();
+
+  private final AtomicInteger misses = new AtomicInteger();
+
+  private DependencyGraphMemo(DependencyGraphMemo previous, ConcurrentMap<Key, Subtree> subtrees) {
+    this.previous = previous;
+    this.subtrees = subtrees;
+  }
+
+  /**
+   * Makes a new memo current for the calling thread until it is closed.
+   */
+  public static DependencyGraphMemo open() {
+    DependencyGraphMemo memo = new DependencyGraphMemo(current.get(), new ConcurrentHashMap<Key, Subtree>());
+    current.set(memo);
+    return memo;
+  }
+
+  /**
+   * Makes the subtrees of this memo available to the calling thread, typically a worker collecting dependencies for
+   * the thread that opened this memo, until the returned memo is closed.
+   */
+  public DependencyGraphMemo share() {
+    DependencyGraphMemo memo = new DependencyGraphMemo(current.get(), subtrees);
+    current.set(memo);
+    return memo;
+  }
+
+  /**
+   * Returns the memo of the calling thread or <code>null</code>.
+   */
+  static DependencyGraphMemo getCurrent() {
+    return current.get();
+  }
+
+  public void close() {
+    if(previous != null) {
+      current.set(previous);
+    } else {
+      current.remove();
+    }
+    log.debug("Dependency graph memo: {} hits, {} misses", hits.get(), misses.get()); //$NON-NLS-1$
+  }
+
+  Subtree get(Key key) {
+    Subtree subtree = subtrees.get(key);
+    if(subtree != null) {
+      hits.incrementAndGet();
+    } else {
+      misses.incrementAndGet();
+    }
+    return subtree;
+  }
+
+  int getHits() {
+    return hits.get();
+  }
+
+  void put(Key key, Subtree subtree) {
+    subtrees.putIfAbsent(key, subtree);
+  }
+
+  /**
+   * Drops all subtrees, e.g. after a dependency pom changed in the local repository.
+   */
+  void clear() {
+    subtrees.clear();
+  }
+
+  /**
+   * Identifies the subtree of a direct dependency, which only depends on the dependency itself and the context it is
+   * collected in, but not on its siblings.
+   */
+  static final class Key {
+    private final Dependency dependency;
+
+    private final List<Dependency> managedDependencies;
+
+    private final List<RemoteRepository> repositories;
+
+    private final String requestContext;
+
+    private final Object workspace;
+
+    private final boolean offline;
+
+    private final int hash;
+
+    Key(Dependency dependency, List<Dependency> managedDependencies, List<RemoteRepository> repositories,
+        String requestContext, Object workspace, boolean offline) {
+      this.dependency = dependency;
+      this.managedDependencies = managedDependencies;
+      this.repositories = repositories;
+      this.requestContext = requestContext;
+      this.workspace = workspace;
+      this.offline = offline;
+      int hash = dependency.hashCode();
+      hash = hash * 31 + managedDependencies.hashCode();
+      hash = hash * 31 + repositories.hashCode();
+      hash = hash * 31 + (requestContext != null ? requestContext.hashCode() : 0);
+      hash = hash * 31 + (workspace != null ? workspace.hashCode() : 0);
+      this.hash = hash * 31 + (offline ? 1 : 0);
+    }
+
+    public int hashCode() {
+      return hash;
+    }
+
+    public boolean equals(Object obj) {
+      if(obj == this) {
+        return true;
+      }
+      if(!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return hash == other.hash && offline == other.offline && dependency.equals(other.dependency)
+          && managedDependencies.equals(other.managedDependencies) && repositories.equals(other.repositories)
+          && eq(requestContext, other.requestContext) && eq(workspace, other.workspace);
+    }
+
+    private static boolean eq(Object o1, Object o2) {
+      return o1 == null ? o2 == null : o1.equals(o2);
+    }
+  }
+
+  /**
+   * A collected, not yet transformed subtree. Must not be modified, users work on clones.
+   */
+  static final class Subtree {
+    final DependencyNode root;
+
+    /** groupId:artifactId of all artifacts in the subtree */
+    final Set<String> artifacts;
+
+    Subtree(DependencyNode root, Set<String> artifacts) {
+      this.root = root;
+      this.artifacts = artifacts;
+    }
+  }
+}
@@ -172,13 +172,10 @@ public final class EclipseWorkspaceArtifactRepository extends LocalArtifactRepos
     TreeMap<Version, ArtifactKey> matchingArtifacts = new TreeMap<>();
     // in vast majority of cases there will be single workspace artifact with matching groupId and artifactId
     for(ArtifactKey workspaceArtifact : workspaceArtifacts.keySet()) {
-      try {
-        Version workspaceVersion = versionScheme.parseVersion(workspaceArtifact.getVersion());
-        if(constraint.containsVersion(workspaceVersion)) {
-          matchingArtifacts.put(workspaceVersion, workspaceArtifact);
-        }
-      } catch(InvalidVersionSpecificationException e) {
-        // this can't happen with GenericVersionScheme
+      // parsed versions are cached by the registry
+      Version workspaceVersion = context.state.getWorkspaceArtifactVersion(workspaceArtifact);
+      if(workspaceVersion != null && constraint.containsVersion(workspaceVersion)) {
+        matchingArtifacts.put(workspaceVersion, workspaceArtifact);
       }
     }
     if(matchingArtifacts.isEmpty()) {
@@ -264,6 +261,20 @@ public final class EclipseWorkspaceArtifactRepository extends LocalArtifactRepos
     return versions;
   }
 
+  /**
+   * Returns whether workspace projects are resolved in addition to the modules of the project itself.
+   */
+  boolean isResolveWorkspaceProjects() {
+    return context != null && context.resolverConfiguration.shouldResolveWorkspaceProjects();
+  }
+
+  /**
+   * Returns the registry state workspace artifacts are resolved from.
+   */
+  IProjectRegistry getProjectRegistry() {
+    return context != null ? context.state : null;
+  }
+
   public WorkspaceRepository getRepository() {
     return workspaceRepository;
   }
@@ -12,8 +12,11 @@
 package org.eclipse.m2e.core.internal.project.registry;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
+import org.eclipse.aether.version.Version;
+import org.eclipse.aether.version.VersionConstraint;
 import org.eclipse.core.resources.IFile;
 
 import org.eclipse.m2e.core.embedder.ArtifactKey;
@@ -34,4 +37,14 @@ public interface IProjectRegistry {
 
   public Map<ArtifactKey, Collection<IFile>> getWorkspaceArtifacts(String groupId, String artifactId);
 
+  /**
+   * @since 1.12
+   */
+  public Version getWorkspaceArtifactVersion(ArtifactKey artifactKey);
+
+  /**
+   * @since 1.12
+   */
+  public List<MavenProjectFacade> getProjectFacades(String groupId, String artifactId, VersionConstraint constraint);
+
 }
@@ -15,7 +15,6 @@ import java.io.File;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -126,9 +125,9 @@ public class MavenProjectFacade implements IMavenProjectFacade, Serializable {
     this.pomFile = location == null ? null : location.toFile(); // save pom file
     this.resolverConfiguration = resolverConfiguration;
 
-    this.artifactKey = new ArtifactKey(mavenProject.getArtifact());
-    this.parentArtifactKey = mavenProject.getParent() != null ? new ArtifactKey(mavenProject.getParent().getArtifact())
-        : null;
+    this.artifactKey = ArtifactKey.intern(new ArtifactKey(mavenProject.getArtifact()));
+    this.parentArtifactKey = mavenProject.getParent() != null
+        ? ArtifactKey.intern(new ArtifactKey(mavenProject.getParent().getArtifact())) : null;
     this.packaging = mavenProject.getPackaging();
     this.modules = mavenProject.getModules();
 
@@ -364,7 +363,7 @@ public class MavenProjectFacade implements IMavenProjectFacade, Serializable {
   }
 
   void setMavenProjectArtifacts(MavenProject mavenProject) {
-    this.artifacts = Collections.unmodifiableSet(ArtifactRef.fromArtifact(mavenProject.getArtifacts()));
+    this.artifacts = new ArtifactRefSet(ArtifactRef.fromArtifact(mavenProject.getArtifacts()));
   }
 
   public ResolverConfiguration getResolverConfiguration() {
@@ -13,6 +13,7 @@ package org.eclipse.m2e.core.internal.project.registry;
 
 import java.io.File;
 import java.util.Collection;
+import java.util.List;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -98,6 +99,10 @@ public class MavenProjectManager implements IMavenProjectRegistry {
     return manager.getMavenProject(groupId, artifactId, version);
   }
 
+  public List<IMavenProjectFacade> getMavenProjects(String groupId, String artifactId, String versionRange) {
+    return manager.getMavenProjects(groupId, artifactId, versionRange);
+  }
+
   public File getWorkspaceStateFile() {
     return workspaceStateFile;
   }
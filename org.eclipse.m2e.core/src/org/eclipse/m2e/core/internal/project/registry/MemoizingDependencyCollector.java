@@ -0,0 +1,246 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.project.registry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.eclipse.aether.AbstractForwardingRepositorySystemSession;
+import org.eclipse.aether.RepositoryException;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.collection.CollectResult;
+import org.eclipse.aether.collection.DependencyCollectionException;
+import org.eclipse.aether.collection.DependencyGraphTransformationContext;
+import org.eclipse.aether.collection.DependencyGraphTransformer;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyCycle;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.impl.DependencyCollector;
+import org.eclipse.aether.internal.impl.DefaultDependencyCollector;
+import org.eclipse.aether.repository.WorkspaceReader;
+import org.eclipse.aether.util.graph.visitor.CloningDependencyVisitor;
+
+
+/**
+ * Dependency collector that reuses the collected subtrees of direct dependencies while a {@link DependencyGraphMemo} is
+ * current, i.e. during the dependency resolution phase of a registry refresh.
+ * <p>
+ * Before graph transformation, the subtree of a direct dependency only depends on the dependency itself, the managed
+ * dependencies and repositories of the request and the workspace it is resolved from, so it is collected once and
+ * shared by all projects with the same dependency and management. Subtrees are collected without transformation, the
+ * combined graph of each project is transformed (conflict resolution etc.) afterwards on a private copy. Requests
+ * without a current memo are delegated unchanged.
+ *
+ * @since 1.12
+ */
+@Singleton
+public class MemoizingDependencyCollector implements DependencyCollector {
+
+  private final DependencyCollector delegate;
+
+  @Inject
+  public MemoizingDependencyCollector(DefaultDependencyCollector delegate) {
+    this.delegate = delegate;
+  }
+
+  public CollectResult collectDependencies(RepositorySystemSession session, CollectRequest request)
+      throws DependencyCollectionException {
+    DependencyGraphMemo memo = DependencyGraphMemo.getCurrent();
+    Artifact rootArtifact = request.getRootArtifact();
+    if(memo == null || request.getRoot() != null || rootArtifact == null) {
+      return delegate.collectDependencies(session, request);
+    }
+
+    String rootKey = getKey(rootArtifact);
+    RepositorySystemSession collectSession = new UntransformedSession(session);
+    Object workspace = getWorkspace(session);
+
+    CollectResult result = new CollectResult(request);
+    DefaultDependencyNode root = new DefaultDependencyNode(rootArtifact);
+    root.setRequestContext(request.getRequestContext());
+    root.setRepositories(request.getRepositories());
+    List<DependencyNode> children = new ArrayList<DependencyNode>();
+
+    for(Dependency dependency : request.getDependencies()) {
+      DependencyGraphMemo.Key key = new DependencyGraphMemo.Key(dependency, request.getManagedDependencies(),
+          request.getRepositories(), request.getRequestContext(), workspace, session.isOffline());
+      DependencyGraphMemo.Subtree subtree = memo.get(key);
+      if(subtree == null || subtree.artifacts.contains(rootKey)) {
+        // the project does not resolve itself from the workspace, subtrees that contain it are not shared
+        CollectRequest subRequest = new CollectRequest();
+        subRequest.setRootArtifact(rootArtifact);
+        subRequest.setDependencies(Collections.singletonList(dependency));
+        subRequest.setManagedDependencies(request.getManagedDependencies());
+        subRequest.setRepositories(request.getRepositories());
+        subRequest.setRequestContext(request.getRequestContext());
+        subRequest.setTrace(request.getTrace());
+        CollectResult subResult;
+        try {
+          subResult = delegate.collectDependencies(collectSession, subRequest);
+        } catch(DependencyCollectionException ex) {
+          subResult = ex.getResult();
+        }
+        for(Exception exception : subResult.getExceptions()) {
+          result.addException(exception);
+        }
+        for(DependencyCycle cycle : subResult.getCycles()) {
+          result.addCycle(cycle);
+        }
+        if(subResult.getRoot() == null) {
+          continue;
+        }
+        subtree = new DependencyGraphMemo.Subtree(subResult.getRoot(), getArtifacts(subResult.getRoot()));
+        if(subResult.getExceptions().isEmpty() && !subtree.artifacts.contains(rootKey)) {
+          memo.put(key, subtree);
+        }
+      }
+      // transformation modifies the graph, the memo keeps the pristine subtree
+      CloningDependencyVisitor cloner = new CloningDependencyVisitor();
+      subtree.root.accept(cloner);
+      children.addAll(cloner.getRootNode().getChildren());
+    }
+    root.setChildren(children);
+
+    DependencyNode node = root;
+    DependencyGraphTransformer transformer = session.getDependencyGraphTransformer();
+    if(transformer != null) {
+      try {
+        node = transformer.transformGraph(node, new TransformationContext(session));
+      } catch(RepositoryException ex) {
+        result.addException(ex);
+      }
+    }
+    result.setRoot(node);
+
+    if(!result.getExceptions().isEmpty()) {
+      throw new DependencyCollectionException(result);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the memo key of the workspace the session resolves from. All {@link EclipseWorkspaceArtifactRepository}
+   * instances are equal, their key is the registry state they read, so the readers of one state share subtrees.
+   */
+  /*package*/static Object getWorkspace(RepositorySystemSession session) {
+    WorkspaceReader workspaceReader = session.getWorkspaceReader();
+    if(workspaceReader instanceof EclipseWorkspaceArtifactRepository) {
+      EclipseWorkspaceArtifactRepository workspace = (EclipseWorkspaceArtifactRepository) workspaceReader;
+      boolean resolveWorkspace = workspace.isResolveWorkspaceProjects()
+          && !EclipseWorkspaceArtifactRepository.isDisabled();
+      return new WorkspaceKey(workspace.getProjectRegistry(), resolveWorkspace);
+    }
+    return workspaceReader != null ? new WorkspaceKey(workspaceReader, true) : null;
+  }
+
+  private static Set<String> getArtifacts(DependencyNode root) {
+    Set<String> artifacts = new HashSet<String>();
+    Set<DependencyNode> visited = Collections.newSetFromMap(new IdentityHashMap<DependencyNode, Boolean>());
+    List<DependencyNode> queue = new ArrayList<DependencyNode>(root.getChildren());
+    while(!queue.isEmpty()) {
+      DependencyNode node = queue.remove(queue.size() - 1);
+      if(visited.add(node)) {
+        if(node.getArtifact() != null) {
+          artifacts.add(getKey(node.getArtifact()));
+        }
+        queue.addAll(node.getChildren());
+      }
+    }
+    return artifacts;
+  }
+
+  private static String getKey(Artifact artifact) {
+    return artifact.getGroupId() + ':' + artifact.getArtifactId();
+  }
+
+  /**
+   * Workspace reader or registry state, compared by identity, and whether workspace projects are resolved.
+   */
+  private static final class WorkspaceKey {
+    private final Object workspace;
+
+    private final boolean resolveWorkspace;
+
+    WorkspaceKey(Object workspace, boolean resolveWorkspace) {
+      this.workspace = workspace;
+      this.resolveWorkspace = resolveWorkspace;
+    }
+
+    public int hashCode() {
+      return System.identityHashCode(workspace) * 31 + (resolveWorkspace ? 1 : 0);
+    }
+
+    public boolean equals(Object obj) {
+      if(obj == this) {
+        return true;
+      }
+      if(!(obj instanceof WorkspaceKey)) {
+        return false;
+      }
+      WorkspaceKey other = (WorkspaceKey) obj;
+      return workspace == other.workspace && resolveWorkspace == other.resolveWorkspace;
+    }
+  }
+
+  /**
+   * Session that collects raw graphs, the graph transformer is applied to the combined graph.
+   */
+  private static class UntransformedSession extends AbstractForwardingRepositorySystemSession {
+    private final RepositorySystemSession session;
+
+    UntransformedSession(RepositorySystemSession session) {
+      this.session = session;
+    }
+
+    protected RepositorySystemSession getSession() {
+      return session;
+    }
+
+    public DependencyGraphTransformer getDependencyGraphTransformer() {
+      return null;
+    }
+  }
+
+  private static class TransformationContext implements DependencyGraphTransformationContext {
+    private final RepositorySystemSession session;
+
+    private final Map<Object, Object> values = new HashMap<Object, Object>();
+
+    TransformationContext(RepositorySystemSession session) {
+      this.session = session;
+    }
+
+    public RepositorySystemSession getSession() {
+      return session;
+    }
+
+    public Object get(Object key) {
+      return values.get(key);
+    }
+
+    public Object put(Object key, Object value) {
+      return value != null ? values.put(key, value) : values.remove(key);
+    }
+  }
+}
@@ -18,6 +18,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -25,6 +26,8 @@ import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.eclipse.aether.version.Version;
+import org.eclipse.aether.version.VersionConstraint;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
 
@@ -66,10 +69,7 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
     // remove
     MavenProjectFacade oldFacade = workspacePoms.remove(pom);
     if(oldFacade != null) {
-      Set<IFile> paths = workspaceArtifacts.get(oldFacade.getArtifactKey());
-      if(paths != null) {
-        paths.remove(pom);
-      }
+      removeWorkspaceArtifact(oldFacade.getArtifactKey(), pom);
     }
     if(facade != null) {
       // sanity check
@@ -87,12 +87,7 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
       workspacePoms.put(pom, facade);
 
       // Add the project to workspaceArtifacts map
-      Set<IFile> paths = workspaceArtifacts.get(facade.getArtifactKey());
-      if(paths == null) {
-        paths = new LinkedHashSet<IFile>();
-        workspaceArtifacts.put(facade.getArtifactKey(), paths);
-      }
-      paths.add(pom);
+      addWorkspaceArtifact(facade.getArtifactKey(), pom);
     }
   }
 
@@ -109,10 +104,7 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
 
     // Remove the project from workspaceArtifacts map
     if(mavenProject != null) {
-      Set<IFile> paths = workspaceArtifacts.get(mavenProject);
-      if(paths != null) {
-        paths.remove(pom);
-      }
+      removeWorkspaceArtifact(mavenProject, pom);
     }
 
     if(facade != null) {
@@ -184,6 +176,20 @@ public class MutableProjectRegistry extends BasicProjectRegistry implements IPro
     return super.getWorkspaceArtifacts(groupId, artifactId);
   }
 
+  public Version getWorkspaceArtifactVersion(ArtifactKey artifactKey) {
+    if(isClosed()) {
+      return parent.getWorkspaceArtifactVersion(artifactKey);
+    }
+    return super.getWorkspaceArtifactVersion(artifactKey);
+  }
+
+  public List<MavenProjectFacade> getProjectFacades(String groupId, String artifactId, VersionConstraint constraint) {
+    if(isClosed()) {
+      return parent.getProjectFacades(groupId, artifactId, constraint);
+    }
+    return super.getProjectFacades(groupId, artifactId, constraint);
+  }
+
   // low level access and manipulation
 
   /**
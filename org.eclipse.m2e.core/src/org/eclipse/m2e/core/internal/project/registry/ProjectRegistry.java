@@ -18,6 +18,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.eclipse.aether.version.Version;
+import org.eclipse.aether.version.VersionConstraint;
 import org.eclipse.core.resources.IFile;
 
 import org.eclipse.m2e.core.embedder.ArtifactKey;
@@ -53,6 +55,15 @@ public class ProjectRegistry extends BasicProjectRegistry implements Serializabl
     return super.getWorkspaceArtifacts(groupId, artifactId);
   }
 
+  public synchronized Version getWorkspaceArtifactVersion(ArtifactKey artifactKey) {
+    return super.getWorkspaceArtifactVersion(artifactKey);
+  }
+
+  public synchronized List<MavenProjectFacade> getProjectFacades(String groupId, String artifactId,
+      VersionConstraint constraint) {
+    return super.getProjectFacades(groupId, artifactId, constraint);
+  }
+
   public synchronized List<MavenProjectChangedEvent> apply(MutableProjectRegistry newState)
       throws StaleMutableProjectRegistryException {
     if(newState.isStale()) {
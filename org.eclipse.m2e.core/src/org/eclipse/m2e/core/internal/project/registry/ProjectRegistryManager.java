@@ -45,6 +45,9 @@ import com.google.common.cache.RemovalNotification;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 
+import org.eclipse.aether.util.version.GenericVersionScheme;
+import org.eclipse.aether.version.InvalidVersionSpecificationException;
+import org.eclipse.aether.version.VersionConstraint;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -64,6 +67,7 @@ import org.eclipse.osgi.util.NLS;
 
 import org.codehaus.plexus.component.repository.exception.ComponentLookupException;
 
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.repository.MavenArtifactRepository;
 import org.apache.maven.execution.DefaultMavenExecutionResult;
 import org.apache.maven.execution.MavenExecutionRequest;
@@ -144,6 +148,8 @@ public class ProjectRegistryManager {
       new Path("pom.xml"), // //$NON-NLS-1$
       new Path(".settings/" + IMavenConstants.PLUGIN_ID + ".prefs")); // dirty trick! //$NON-NLS-1$ //$NON-NLS-2$
 
+  private static final GenericVersionScheme versionScheme = new GenericVersionScheme();
+
   private static final String CTX_MAVENPROJECTS = ProjectRegistryManager.class.getName() + "/mavenProjects";
 
   private final ProjectRegistry projectRegistry;
@@ -337,6 +343,9 @@ public class ProjectRegistryManager {
 
     final DependencyResolutionContext context = new DependencyResolutionContext(pomFiles);
 
+    // dependency subtrees collected during this refresh are shared by all refreshed projects
+    final DependencyGraphMemo memo = DependencyGraphMemo.open();
+
     // safety net -- do not force refresh of the same installed/resolved artifact more than once
     final Set<ArtifactKey> installedArtifacts = new HashSet<ArtifactKey>();
 
@@ -360,6 +369,10 @@ public class ProjectRegistryManager {
           refresh
               .addAll(newState.getVersionedDependents(MavenCapability.createMavenArtifactImport(baseArtifact), true));
         }
+        if(isSnapshotPom(baseArtifact, artifactFile)) {
+          // collected dependency subtrees may use the previous model
+          memo.clear();
+        }
         if(!refresh.isEmpty()) {
           log.debug("Automatic refresh. artifact={}/{}. projects={}", new Object[] {baseArtifact, artifact, refresh});
           context.forcePomFiles(refresh);
@@ -381,11 +394,17 @@ public class ProjectRegistryManager {
       refresh(newState, context, monitor);
     } finally {
       maven.removeLocalRepositoryListener(listener);
+      memo.close();
     }
 
     log.debug("Refreshed: {}", pomFiles); //$NON-NLS-1$
   }
 
+  private static boolean isSnapshotPom(ArtifactKey artifact, File artifactFile) {
+    return artifactFile.getName().endsWith(".pom") && artifact.getVersion() != null //$NON-NLS-1$
+        && artifact.getVersion().endsWith(Artifact.SNAPSHOT_VERSION);
+  }
+
   private void refresh(final MutableProjectRegistry newState, final DependencyResolutionContext context,
       IProgressMonitor monitor) throws CoreException {
     Set<IFile> allProcessedPoms = new HashSet<>();
@@ -852,6 +871,19 @@ public class ProjectRegistryManager {
     return projectRegistry.getProjectFacade(groupId, artifactId, version);
   }
 
+  public List<IMavenProjectFacade> getMavenProjects(String groupId, String artifactId, String versionRange) {
+    VersionConstraint constraint = null;
+    if(versionRange != null) {
+      try {
+        constraint = versionScheme.parseVersionConstraint(versionRange);
+      } catch(InvalidVersionSpecificationException ex) {
+        // broken version range spec does not match anything
+        return Collections.emptyList();
+      }
+    }
+    return new ArrayList<IMavenProjectFacade>(projectRegistry.getProjectFacades(groupId, artifactId, constraint));
+  }
+
   MavenProject readProjectWithDependencies(IFile pomFile, ResolverConfiguration resolverConfiguration,
       IProgressMonitor monitor) throws CoreException {
     Map<File, MavenExecutionResult> results = readProjectsWithDependencies(projectRegistry,
@@ -12,7 +12,10 @@
 package org.eclipse.m2e.core.project;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 
@@ -24,9 +27,11 @@ import org.eclipse.core.runtime.IProgressMonitor;
  */
 public abstract class AbstractProjectScanner<T extends MavenProjectInfo> {
 
-  private final List<T> projects = new ArrayList<T>();
+  private final List<T> projects = Collections.synchronizedList(new ArrayList<T>());
 
-  private final List<Throwable> errors = new ArrayList<Throwable>();
+  private final List<Throwable> errors = Collections.synchronizedList(new ArrayList<Throwable>());
+
+  private final List<Consumer<? super T>> projectListeners = new CopyOnWriteArrayList<Consumer<? super T>>();
 
   /**
    * Returns <code>List</code> of {@link MavenProjectInfo}
@@ -42,8 +47,21 @@ public abstract class AbstractProjectScanner<T extends MavenProjectInfo> {
     return this.errors;
   }
 
+  /**
+   * Registers a listener that is notified about every project as soon as it has been found, while the scan is still
+   * running. Listeners may be called from a background thread.
+   * 
+   * @since 1.12
+   */
+  public void addProjectListener(Consumer<? super T> listener) {
+    projectListeners.add(listener);
+  }
+
   protected void addProject(T mavenProjectInfo) {
     projects.add(mavenProjectInfo);
+    for(Consumer<? super T> listener : projectListeners) {
+      listener.accept(mavenProjectInfo);
+    }
   }
 
   protected void addError(Throwable exception) {
@@ -12,6 +12,7 @@
 package org.eclipse.m2e.core.project;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -83,6 +84,16 @@ public interface IMavenProjectRegistry {
    */
   public IMavenProjectFacade getMavenProject(String groupId, String artifactId, String version);
 
+  /**
+   * Returns IMavenProjectFacade of all Maven workspace projects with given groupId and artifactId and a version that
+   * matches the given version range, ordered by ascending version. <code>null</code> version range matches all
+   * versions. Workspace projects are indexed by groupId and artifactId, so this is considerably cheaper than iterating
+   * over {@link #getProjects()}.
+   * 
+   * @since 1.12
+   */
+  public List<IMavenProjectFacade> getMavenProjects(String groupId, String artifactId, String versionRange);
+
   /**
    * @deprecated This method does not properly join {@link IMavenExecutionContext}
    */
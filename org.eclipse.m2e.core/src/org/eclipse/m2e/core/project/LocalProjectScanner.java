@@ -13,12 +13,26 @@ package org.eclipse.m2e.core.project;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -46,8 +60,17 @@ public class LocalProjectScanner extends AbstractProjectScanner<MavenProjectInfo
 
   private final boolean basedirRemameRequired;
 
+  private static final int MAX_THREADS = 8;
+
   private Set<File> scannedFolders = new HashSet<File>();
 
+  /**
+   * Models read ahead by the pool, by canonical project folder
+   */
+  private final ConcurrentMap<File, ReadModelTask> models = new ConcurrentHashMap<File, ReadModelTask>();
+
+  private ForkJoinPool pool;
+
   private final MavenModelManager modelManager;
 
   public LocalProjectScanner(File workspaceRoot, String folder, boolean needsRename, MavenModelManager modelManager) {
@@ -66,63 +89,149 @@ public class LocalProjectScanner extends AbstractProjectScanner<MavenProjectInfo
     SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.LocalProjectScanner_task_scanning, 1);
 
     subMonitor.beginTask(Messages.LocalProjectScanner_task_scanning, IProgressMonitor.UNKNOWN);
+    pool = new ForkJoinPool(Math.min(Runtime.getRuntime().availableProcessors(), MAX_THREADS));
     try {
       for(String folderName : folders) {
         try {
           File folder = new File(folderName).getCanonicalFile();
-          scanFolder(folder, "", new SubProgressMonitor(subMonitor, IProgressMonitor.UNKNOWN)); //$NON-NLS-1$
+          scanFolder(folder, new SubProgressMonitor(subMonitor, IProgressMonitor.UNKNOWN));
         } catch(IOException ex) {
           addError(ex);
         }
       }
     } finally {
+      pool.shutdownNow();
+      models.clear();
       subMonitor.done();
     }
   }
 
-  private void scanFolder(File baseDir, String rootRelPath, IProgressMonitor monitor) throws InterruptedException {
-    if(monitor.isCanceled()) {
-      throw new InterruptedException();
+  /**
+   * Walks the folder on the calling thread. Each Maven project found is read together with its modules and reported
+   * before the walk continues, subfolders of a project that was read successfully are not scanned. The poms of a
+   * project and its modules are parsed ahead by the pool, while the project tree is assembled on the calling thread in
+   * declaration order, so the result does not depend on the timing of the pool.
+   */
+  private void scanFolder(final File baseDir, final IProgressMonitor monitor) throws InterruptedException,
+      IOException {
+    if(!baseDir.isDirectory()) {
+      return;
     }
+    final Path root = baseDir.toPath();
+    final boolean[] canceled = new boolean[1];
+    Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
+        new SimpleFileVisitor<Path>() {
+          public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+            if(monitor.isCanceled()) {
+              canceled[0] = true;
+              return FileVisitResult.TERMINATE;
+            }
+
+            monitor.subTask(dir.toString());
+            monitor.worked(1);
+
+            // Don't scan the .metadata folder
+            if(IMavenConstants.METADATA_FOLDER.equals(dir.getFileName().toString())) {
+              return FileVisitResult.SKIP_SUBTREE;
+            }
+
+            if(Files.isRegularFile(dir.resolve(IMavenConstants.POM_FILE_NAME))) {
+              File projectDir;
+              try {
+                projectDir = dir.toFile().getCanonicalFile();
+              } catch(IOException ex) {
+                addError(ex);
+                return FileVisitResult.SKIP_SUBTREE;
+              }
+              if(scannedFolders.contains(projectDir)) {
+                return FileVisitResult.SKIP_SUBTREE; // already read as a module
+              }
+              String rootRelPath = ""; //$NON-NLS-1$
+              if(!dir.equals(root)) {
+                rootRelPath = "/" + root.relativize(dir).toString().replace(File.separatorChar, '/'); //$NON-NLS-1$
+              }
+              MavenProjectInfo projectInfo = readMavenProjectInfo(projectDir, rootRelPath, null);
+              if(projectInfo != null) {
+                addProject(projectInfo);
+                return FileVisitResult.SKIP_SUBTREE; // don't scan subfolders of the Maven project
+              }
+            }
+            return FileVisitResult.CONTINUE;
+          }
 
-    monitor.subTask(baseDir.toString());
-    monitor.worked(1);
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            return FileVisitResult.CONTINUE;
+          }
 
-    // Don't scan the .metadata folder
-    if(!baseDir.exists() || !baseDir.isDirectory() || IMavenConstants.METADATA_FOLDER.equals(baseDir.getName())) {
-      return;
+          public FileVisitResult visitFileFailed(Path file, IOException exc) {
+            if(exc instanceof AccessDeniedException) {
+              addError(new Exception(NLS.bind(Messages.LocalProjectScanner_accessDeniedFromFolder, file.toString())));
+            } else if(!(exc instanceof FileSystemLoopException) && !(exc instanceof NoSuchFileException)) {
+              addError(exc);
+            }
+            return FileVisitResult.CONTINUE;
+          }
+        });
+    if(canceled[0]) {
+      throw new InterruptedException();
     }
+  }
 
-    try {
-      if(scannedFolders.contains(baseDir.getCanonicalFile())) {
-        return;
-      }
-    } catch(IOException ex1) {
-      addError(ex1);
-      return;
-    }
+  /**
+   * Starts reading the model of the given canonical project folder unless it is already read or being read.
+   */
+  private ReadModelTask readModelAhead(File baseDir) {
+    return models.computeIfAbsent(baseDir, dir -> {
+      ReadModelTask task = new ReadModelTask(dir);
+      pool.execute(task);
+      return task;
+    });
+  }
 
-    MavenProjectInfo projectInfo = readMavenProjectInfo(baseDir, rootRelPath, null); //$NON-NLS-1$
-    if(projectInfo != null) {
-      addProject(projectInfo);
-      return; // don't scan subfolders of the Maven project
+  private Model readModel(File baseDir) throws CoreException {
+    ReadModelTask task = readModelAhead(baseDir);
+    Model model = task.join();
+    if(task.exception != null) {
+      throw task.exception;
     }
+    return model;
+  }
 
-    File[] files = baseDir.listFiles();
-    if(files == null) {
-      addError(new Exception(NLS.bind(Messages.LocalProjectScanner_accessDeniedFromFolder, baseDir.getAbsolutePath())));
-      return;
+  /**
+   * Reads the model of a project folder and starts reading its modules, any errors are reported when the project
+   * tree is assembled.
+   */
+  private class ReadModelTask extends RecursiveTask<Model> {
+    private static final long serialVersionUID = 1L;
+
+    private final File baseDir;
+
+    CoreException exception;
+
+    ReadModelTask(File baseDir) {
+      this.baseDir = baseDir;
     }
-    for(int i = 0; i < files.length; i++ ) {
-      File file;
+
+    protected Model compute() {
+      File pomFile = new File(baseDir, IMavenConstants.POM_FILE_NAME);
+      if(!pomFile.exists()) {
+        return null;
+      }
+      Model model;
       try {
-        file = files[i].getCanonicalFile();
-        if(file.isDirectory()) {
-          scanFolder(file, rootRelPath + "/" + file.getName(), monitor); //$NON-NLS-1$
+        model = modelManager.readMavenModel(pomFile);
+      } catch(CoreException ex) {
+        exception = ex;
+        return null;
+      }
+      for(String module : getModules(model).keySet()) {
+        try {
+          readModelAhead(new File(baseDir, module).getCanonicalFile());
+        } catch(IOException ex) {
+          // reported when the module is read
         }
-      } catch(IOException ex) {
-        addError(ex);
       }
+      return model;
     }
   }
 
@@ -140,7 +249,7 @@ public class LocalProjectScanner extends AbstractProjectScanner<MavenProjectInfo
         return null;
       }
 
-      Model model = modelManager.readMavenModel(pomFile);
+      Model model = readModel(baseDir);
 
       String pomName = modulePath + "/" + IMavenConstants.POM_FILE_NAME; //$NON-NLS-1$
 
@@ -155,29 +264,7 @@ public class LocalProjectScanner extends AbstractProjectScanner<MavenProjectInfo
         projectInfo.setBasedirRename(getBasedirRename(projectInfo));
       }
 
-      Map<String, Set<String>> modules = new LinkedHashMap<String, Set<String>>();
-      for(String module : model.getModules()) {
-        if(module.endsWith("/pom.xml")) { //$NON-NLS-1$
-          module = module.substring(0, module.length() - "/pom.xml".length()); //$NON-NLS-1$
-        }
-        modules.put(module, new HashSet<String>());
-      }
-
-      for(Profile profile : model.getProfiles()) {
-        for(String module : profile.getModules()) {
-          if(module.endsWith("/pom.xml")) { //$NON-NLS-1$
-            module = module.substring(0, module.length() - "/pom.xml".length()); //$NON-NLS-1$
-          }
-          Set<String> profiles = modules.get(module);
-          if(profiles == null) {
-            profiles = new HashSet<String>();
-            modules.put(module, profiles);
-          }
-          profiles.add(profile.getId());
-        }
-      }
-
-      for(Map.Entry<String, Set<String>> e : modules.entrySet()) {
+      for(Map.Entry<String, Set<String>> e : getModules(model).entrySet()) {
         String module = e.getKey();
         Set<String> profiles = e.getValue();
 
@@ -200,6 +287,34 @@ public class LocalProjectScanner extends AbstractProjectScanner<MavenProjectInfo
     return null;
   }
 
+  /**
+   * Returns the modules of the model in declaration order, with the ids of the profiles that declare them.
+   */
+  private static Map<String, Set<String>> getModules(Model model) {
+    Map<String, Set<String>> modules = new LinkedHashMap<String, Set<String>>();
+    for(String module : model.getModules()) {
+      if(module.endsWith("/pom.xml")) { //$NON-NLS-1$
+        module = module.substring(0, module.length() - "/pom.xml".length()); //$NON-NLS-1$
+      }
+      modules.put(module, new HashSet<String>());
+    }
+
+    for(Profile profile : model.getProfiles()) {
+      for(String module : profile.getModules()) {
+        if(module.endsWith("/pom.xml")) { //$NON-NLS-1$
+          module = module.substring(0, module.length() - "/pom.xml".length()); //$NON-NLS-1$
+        }
+        Set<String> profiles = modules.get(module);
+        if(profiles == null) {
+          profiles = new HashSet<String>();
+          modules.put(module, profiles);
+        }
+        profiles.add(profile.getId());
+      }
+    }
+    return modules;
+  }
+
   protected MavenProjectInfo newMavenProjectInfo(String label, File pomFile, Model model, MavenProjectInfo parent) {
     return new MavenProjectInfo(label, pomFile, model, parent);
   }
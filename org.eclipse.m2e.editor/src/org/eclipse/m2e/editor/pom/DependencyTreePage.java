@@ -27,6 +27,7 @@ import org.eclipse.aether.util.graph.transformer.ConflictResolver;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.action.Action;
@@ -210,8 +211,12 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
     FormUtils.setMessage(getManagedForm().getForm(), Messages.DependencyTreePage_message_resolving,
         IMessageProvider.WARNING);
 
+    if(dataLoadingJob != null) {
+      // superseded, e.g. the scope changed or the pom was saved again
+      dataLoadingJob.cancel();
+    }
     dataLoadingJob = new Job(Messages.DependencyTreePage_job_loading) {
-      protected IStatus run(IProgressMonitor monitor) {
+      protected IStatus run(final IProgressMonitor monitor) {
         try {
           mavenProject = pomEditor.readMavenProject(force, monitor);
           if(mavenProject == null) {
@@ -220,7 +225,7 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
           }
 
           final DependencyNode dependencyNode = pomEditor.readDependencyTree(force, currentClasspath, monitor);
-          if(dependencyNode == null) {
+          if(dependencyNode == null || monitor.isCanceled()) {
             return Status.CANCEL_STATUS;
           }
           dependencyNode.accept(new DependencyVisitor() {
@@ -238,6 +243,9 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
 
           getPartControl().getDisplay().syncExec(new Runnable() {
             public void run() {
+              if(monitor.isCanceled()) {
+                return;
+              }
               FormUtils.setMessage(getManagedForm().getForm(), null, IMessageProvider.NONE);
               if(treeViewer.getTree().isDisposed()) {
                 return;
@@ -256,6 +264,8 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
               listViewer.setInput(mavenProject);
             }
           });
+        } catch(OperationCanceledException ex) {
+          return Status.CANCEL_STATUS;
         } catch(final CoreException ex) {
           log.error(ex.getMessage(), ex);
           getPartControl().getDisplay().asyncExec(new Runnable() {
@@ -1036,6 +1046,9 @@ public class DependencyTreePage extends FormPage implements IMavenProjectChanged
   @Override
   public void dispose() {
     MavenPluginActivator.getDefault().getMavenProjectManager().removeMavenProjectChangedListener(this);
+    if(dataLoadingJob != null) {
+      dataLoadingJob.cancel();
+    }
 
     if(searchHighlightColor != null) {
       searchHighlightColor.dispose();
@@ -15,9 +15,14 @@ import java.io.IOException;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,6 +44,7 @@ import org.eclipse.core.runtime.IExtensionPoint;
 import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
@@ -143,7 +149,7 @@ public class MavenPomEditor extends FormEditor implements IResourceChangeListene
 
   private List<MavenPomEditorPage> mavenpomEditorPages = new ArrayList<MavenPomEditorPage>();
 
-  private Map<String, org.eclipse.aether.graph.DependencyNode> rootNodes = new HashMap<String, org.eclipse.aether.graph.DependencyNode>();
+  private Map<String, org.eclipse.aether.graph.DependencyNode> rootNodes = new ConcurrentHashMap<>();
 
   IDOMModel structuredModel;
 
@@ -676,7 +682,7 @@ public class MavenPomEditor extends FormEditor implements IResourceChangeListene
     }
   }
 
-  public synchronized org.eclipse.aether.graph.DependencyNode readDependencyTree(boolean force, String classpath,
+  public org.eclipse.aether.graph.DependencyNode readDependencyTree(boolean force, String classpath,
       IProgressMonitor monitor) throws CoreException {
     if(force || !rootNodes.containsKey(classpath)) {
       monitor.setTaskName(Messages.MavenPomEditor_task_reading);
@@ -692,8 +698,8 @@ public class MavenPomEditor extends FormEditor implements IResourceChangeListene
         facade = MavenPlugin.getMavenProjectRegistry().getProject(pomFile.getProject());
       }
 
-      DependencyNode root = MavenPlugin.getMavenModelManager().readDependencyTree(facade, mavenProject, classpath,
-          monitor);
+      DependencyNode root = waitFor(
+          MavenPlugin.getMavenModelManager().readDependencyTreeAsync(facade, mavenProject, classpath), monitor);
       root.setData("LEVEL", "ROOT");
       for(DependencyNode nd : root.getChildren()) {
         nd.setData("LEVEL", "DIRECT");
@@ -704,6 +710,32 @@ public class MavenPomEditor extends FormEditor implements IResourceChangeListene
     return rootNodes.get(classpath);
   }
 
+  private static <T> T waitFor(CompletableFuture<T> future, IProgressMonitor monitor) throws CoreException {
+    while(true) {
+      if(monitor.isCanceled()) {
+        // lets the model manager cancel the computation if nobody else waits for it
+        future.cancel(false);
+        throw new OperationCanceledException();
+      }
+      try {
+        return future.get(100, TimeUnit.MILLISECONDS);
+      } catch(TimeoutException ex) {
+        // check for cancellation
+      } catch(InterruptedException ex) {
+        future.cancel(false);
+        throw new OperationCanceledException();
+      } catch(CancellationException ex) {
+        throw new OperationCanceledException();
+      } catch(ExecutionException ex) {
+        if(ex.getCause() instanceof CoreException) {
+          throw (CoreException) ex.getCause();
+        }
+        throw new CoreException(new Status(IStatus.ERROR, MavenEditorPlugin.PLUGIN_ID, -1, ex.getCause().getMessage(),
+            ex.getCause()));
+      }
+    }
+  }
+
   /**
    * this method is safer than readMavenProject for instances that shall return fast and don't mind not having the
    * MavenProject instance around.
@@ -39,6 +39,19 @@ public interface IClasspathDescriptor {
    */
   public boolean containsPath(IPath path);
 
+  /**
+   * @return the first entry with specified path or <code>null</code> if classpath does not contain such entry.
+   * @since 1.12
+   */
+  public default IClasspathEntryDescriptor findEntryDescriptor(IPath path) {
+    for(IClasspathEntryDescriptor descriptor : getEntryDescriptors()) {
+      if(path.equals(descriptor.getPath())) {
+        return descriptor;
+      }
+    }
+    return null;
+  }
+
   /**
    * Convenience method, equivalent to
    * <code>addSourceEntry(sourcePath, outputLocation, new IPath[0], new IPath[0], generated)</code>
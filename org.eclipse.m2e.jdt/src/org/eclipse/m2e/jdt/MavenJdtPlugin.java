@@ -25,6 +25,8 @@ import org.osgi.framework.BundleContext;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.ISaveContext;
+import org.eclipse.core.resources.ISaveParticipant;
 import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -71,6 +73,29 @@ public class MavenJdtPlugin extends Plugin {
 
   WorkspaceSourceDownloadJob workspaceSourceDownloadJob;
 
+  private ISaveParticipant saveParticipant = new ISaveParticipant() {
+
+    @Override
+    public void saving(ISaveContext context) throws CoreException {
+      BuildPathManager buildpathManager = MavenJdtPlugin.this.buildpathManager;
+      if(buildpathManager != null) {
+        buildpathManager.saveAttachmentCache();
+      }
+    }
+
+    @Override
+    public void rollback(ISaveContext context) {
+    }
+
+    @Override
+    public void prepareToSave(ISaveContext context) throws CoreException {
+    }
+
+    @Override
+    public void doneSaving(ISaveContext context) {
+    }
+  };
+
   /**
    * @noreference see class javadoc
    */
@@ -107,6 +132,7 @@ public class MavenJdtPlugin extends Plugin {
         IResourceChangeEvent.PRE_DELETE | IResourceChangeEvent.POST_CHANGE);
 
     projectManager.addMavenProjectChangedListener(this.buildpathManager);
+    workspace.addSaveParticipant(PLUGIN_ID, saveParticipant);
 
     workspaceSourceDownloadJob = new WorkspaceSourceDownloadJob();
 
@@ -158,7 +184,9 @@ public class MavenJdtPlugin extends Plugin {
     super.stop(context);
 
     IWorkspace workspace = ResourcesPlugin.getWorkspace();
+    workspace.removeSaveParticipant(PLUGIN_ID);
     workspace.removeResourceChangeListener(this.buildpathManager);
+    buildpathManager.saveState();
     workspaceSourceDownloadJob = null;
     MavenPluginActivator mplugin = MavenPluginActivator.getDefault();
     if(mplugin != null) {
@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.jdt.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.apache.maven.artifact.repository.ArtifactRepository;
+
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.eclipse.m2e.core.embedder.IMaven;
+
+
+/**
+ * Workspace wide cache of source and javadoc attachments found in the local repository, keyed by the artifact key of
+ * the attachment itself, e.g. <code>g:a:v:sources</code>.
+ * <p>
+ * Each entry remembers the attachment file if it exists, or the directory it is expected in otherwise, together with
+ * its last modification time. An entry is only used as long as that timestamp is unchanged, so a cache hit costs a
+ * single file system stat instead of resolving, canonicalizing and reading the attachment again. Entries are also
+ * evicted when the attachment gets installed in the local repository. The cache holds at most {@link #MAX_ENTRIES}
+ * entries and is persisted across sessions with every workspace save.
+ *
+ * @since 1.12
+ */
+class AttachmentCache {
+  private static final Logger log = LoggerFactory.getLogger(AttachmentCache.class);
+
+  private static final int VERSION = 1;
+
+  /**
+   * Maximum number of cached attachments, a quarter of the entries is dropped when the cache is full.
+   */
+  static final int MAX_ENTRIES = 20000;
+
+  private static final class Entry {
+    /** attachment value or <code>null</code> if the attachment is not available */
+    final String value;
+
+    final File checkedFile;
+
+    final long lastModified;
+
+    Entry(String value, File checkedFile, long lastModified) {
+      this.value = value;
+      this.checkedFile = checkedFile;
+      this.lastModified = lastModified;
+    }
+
+    boolean isValid() {
+      return checkedFile.lastModified() == lastModified;
+    }
+  }
+
+  private final IMaven maven;
+
+  private final File stateFile;
+
+  private final Map<ArtifactKey, Entry> entries = new ConcurrentHashMap<ArtifactKey, Entry>();
+
+  private String repositoryPath;
+
+  private volatile boolean loaded;
+
+  private volatile boolean dirty;
+
+  AttachmentCache(IMaven maven, File stateFile) {
+    this.maven = maven;
+    this.stateFile = stateFile;
+  }
+
+  /**
+   * Returns the cached value of the attachment with the given classifier of the given artifact, computing it from the
+   * canonical attachment file if necessary. Returns <code>null</code> if the attachment is not available locally.
+   */
+  String get(ArtifactKey artifact, String classifier, Function<File, String> valueFunction) {
+    ensureLoaded();
+
+    ArtifactKey key = new ArtifactKey(artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion(),
+        classifier);
+    Entry entry = entries.get(key);
+    if(entry != null && entry.isValid()) {
+      return entry.value;
+    }
+
+    // can't use Maven resolve methods since they mark artifacts as not-found even if they could be resolved remotely
+    File file;
+    try {
+      ArtifactRepository localRepository = maven.getLocalRepository();
+      String relPath = maven.getArtifactPath(localRepository, key.getGroupId(), key.getArtifactId(),
+          key.getVersion(), "jar", classifier); //$NON-NLS-1$
+      file = new File(localRepository.getBasedir(), relPath);
+    } catch(CoreException ex) {
+      return null;
+    }
+
+    String value = null;
+    File checkedFile = file.getParentFile();
+    if(file.canRead()) {
+      try {
+        value = valueFunction.apply(file.getCanonicalFile());
+        checkedFile = file;
+      } catch(IOException ex) {
+        // treat as not available
+      }
+    }
+    if(entries.size() >= MAX_ENTRIES) {
+      trim();
+    }
+    entries.put(key, new Entry(value, checkedFile, checkedFile.lastModified()));
+    dirty = true;
+    return value;
+  }
+
+  /**
+   * Drops arbitrary entries until the cache is three quarters full, dropped attachments are simply looked up again.
+   */
+  private void trim() {
+    Iterator<ArtifactKey> keys = entries.keySet().iterator();
+    while(entries.size() > MAX_ENTRIES * 3 / 4 && keys.hasNext()) {
+      keys.next();
+      keys.remove();
+    }
+    dirty = true;
+  }
+
+  /**
+   * Evicts the cached attachment, called when an artifact is installed in the local repository.
+   */
+  void invalidate(ArtifactKey attachment) {
+    if(entries.remove(attachment) != null) {
+      dirty = true;
+    }
+  }
+
+  /**
+   * Clears the cache if the location of the local repository changed.
+   */
+  synchronized void checkRepository(String repositoryPath) {
+    ensureLoaded();
+    if(!repositoryPath.equals(this.repositoryPath)) {
+      entries.clear();
+      this.repositoryPath = repositoryPath;
+      dirty = true;
+    }
+  }
+
+  private void ensureLoaded() {
+    if(loaded) {
+      return;
+    }
+    synchronized(this) {
+      if(!loaded) {
+        load();
+        loaded = true;
+      }
+    }
+  }
+
+  private void load() {
+    if(!stateFile.isFile()) {
+      return;
+    }
+    try (DataInputStream is = new DataInputStream(new BufferedInputStream(new FileInputStream(stateFile)))) {
+      if(is.readInt() != VERSION) {
+        return;
+      }
+      repositoryPath = is.readUTF();
+      int size = Math.min(is.readInt(), MAX_ENTRIES);
+      for(int i = 0; i < size; i++ ) {
+        ArtifactKey key = new ArtifactKey(is.readUTF(), is.readUTF(), is.readUTF(), readString(is));
+        String value = readString(is);
+        File checkedFile = new File(is.readUTF());
+        entries.put(key, new Entry(value, checkedFile, is.readLong()));
+      }
+    } catch(IOException ex) {
+      log.warn("Could not read attachment cache " + stateFile.getAbsolutePath(), ex); //$NON-NLS-1$
+      entries.clear();
+      repositoryPath = null;
+    }
+  }
+
+  /**
+   * Writes the cache to disk if it changed since it has been loaded.
+   */
+  synchronized void save() {
+    if(!dirty || repositoryPath == null) {
+      return;
+    }
+    dirty = false;
+    try (DataOutputStream os = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(stateFile)))) {
+      os.writeInt(VERSION);
+      os.writeUTF(repositoryPath);
+      Map<ArtifactKey, Entry> snapshot = new HashMap<ArtifactKey, Entry>(entries);
+      os.writeInt(snapshot.size());
+      for(Map.Entry<ArtifactKey, Entry> e : snapshot.entrySet()) {
+        ArtifactKey key = e.getKey();
+        os.writeUTF(key.getGroupId());
+        os.writeUTF(key.getArtifactId());
+        os.writeUTF(key.getVersion());
+        writeString(os, key.getClassifier());
+        writeString(os, e.getValue().value);
+        os.writeUTF(e.getValue().checkedFile.getAbsolutePath());
+        os.writeLong(e.getValue().lastModified);
+      }
+    } catch(IOException ex) {
+      log.error("Could not write attachment cache " + stateFile.getAbsolutePath(), ex); //$NON-NLS-1$
+      stateFile.delete();
+    }
+  }
+
+  private static String readString(DataInputStream is) throws IOException {
+    return is.readBoolean() ? is.readUTF() : null;
+  }
+
+  private static void writeString(DataOutputStream os, String str) throws IOException {
+    os.writeBoolean(str != null);
+    if(str != null) {
+      os.writeUTF(str);
+    }
+  }
+}
@@ -13,6 +13,7 @@ package org.eclipse.m2e.jdt.internal;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -21,9 +22,11 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -33,7 +36,17 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -58,6 +71,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
@@ -106,6 +120,8 @@ import org.eclipse.m2e.jdt.MavenJdtPlugin;
 public class BuildPathManager implements IMavenProjectChangedListener, IResourceChangeListener, IClasspathManager {
   private static final Logger log = LoggerFactory.getLogger(BuildPathManager.class);
 
+  private static final int MAX_CLASSPATH_THREADS = 8;
+
   public static final int SOURCE_DOWNLOAD_PRIORITY = Job.DECORATE;//Low priority 
 
   // local repository variable
@@ -151,6 +167,15 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
 
   private Set<ArtifactKey> needSourceAndJavadocRefresh = new HashSet<>();
 
+  private final AttachmentCache attachmentCache;
+
+  private final SaveContainerStateJob saveContainerStateJob;
+
+  /**
+   * Checksums of the container state files written during this session, by project name
+   */
+  private final Map<String, Long> containerStateHashes = new ConcurrentHashMap<String, Long>();
+
   public BuildPathManager(IMavenProjectRegistry projectManager, IndexManager indexManager, BundleContext bundleContext,
       File stateLocationDir) {
     this.projectManager = projectManager;
@@ -162,11 +187,14 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
     this.downloadSourcesJob = new DownloadSourcesJob(this);
     downloadSourcesJob.setPriority(SOURCE_DOWNLOAD_PRIORITY);
     this.defaultDelegate = new DefaultClasspathManagerDelegate();
+    this.saveContainerStateJob = new SaveContainerStateJob(this);
+    this.attachmentCache = new AttachmentCache(maven, new File(stateLocationDir, "attachments.cache")); //$NON-NLS-1$
 
     MavenPlugin.getMaven().addLocalRepositoryListener(new ILocalRepositoryListener() {
 
       public void artifactInstalled(File repositoryBasedir, ArtifactKey baseArtifact, ArtifactKey artifact,
           File artifactFile) {
+        attachmentCache.invalidate(artifact);
         if(considerForSourceAndJavadocRefresh(artifact)) {
           addForSourceAndJavadocRefresh(artifact);
         }
@@ -243,37 +271,162 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
   }
 
   public void mavenProjectChanged(MavenProjectChangedEvent[] events, IProgressMonitor monitor) {
-    Set<IProject> projects = new HashSet<IProject>();
+    Set<IProject> projects = new LinkedHashSet<IProject>();
     monitor.setTaskName(Messages.BuildPathManager_monitor_setting_cp);
     for(int i = 0; i < events.length; i++ ) {
       MavenProjectChangedEvent event = events[i];
       IFile pom = event.getSource();
       IProject project = pom.getProject();
-      if(project.isAccessible() && projects.add(project)) {
-        updateClasspath(project, monitor);
+      if(project.isAccessible()) {
+        projects.add(project);
       }
     }
+    if(projects.size() == 1) {
+      updateClasspath(projects.iterator().next(), monitor);
+    } else if(!projects.isEmpty()) {
+      updateClasspath(projects, monitor);
+    }
   }
 
   public void updateClasspath(IProject project, IProgressMonitor monitor) {
     IJavaProject javaProject = JavaCore.create(project);
     if(javaProject != null) {
       try {
-        IClasspathEntry containerEntry = getMavenContainerEntry(javaProject);
-        IPath path = containerEntry != null ? containerEntry.getPath() : new Path(CONTAINER_ID);
-        IClasspathEntry[] classpath = getClasspath(project, monitor);
-        IClasspathContainer container = new MavenClasspathContainer(path, classpath);
+        IClasspathContainer container = computeContainer(javaProject, monitor);
         JavaCore.setClasspathContainer(container.getPath(), new IJavaProject[] {javaProject},
             new IClasspathContainer[] {container}, monitor);
         fixDynamicProjectReferences(javaProject, monitor);
 
-        saveContainerState(project, container);
+        saveContainerStateJob.schedule(project, container);
       } catch(CoreException ex) {
         log.error(ex.getMessage(), ex);
       }
     }
   }
 
+  /**
+   * Updates the classpath containers of several projects. Containers are computed concurrently if parallel project
+   * configuration is enabled, and set with one JDT call per container path, so JDT updates dependent state and
+   * triggers reindexing once for all projects.
+   */
+  private void updateClasspath(Collection<IProject> projects, IProgressMonitor monitor) {
+    List<IJavaProject> javaProjects = new ArrayList<IJavaProject>(projects.size());
+    for(IProject project : projects) {
+      IJavaProject javaProject = JavaCore.create(project);
+      if(javaProject != null) {
+        javaProjects.add(javaProject);
+      }
+    }
+
+    Map<IJavaProject, IClasspathContainer> containers;
+    if(mavenConfiguration.isParallelProjectConfiguration() && javaProjects.size() > 1) {
+      containers = computeContainersInParallel(javaProjects, monitor);
+    } else {
+      containers = new LinkedHashMap<IJavaProject, IClasspathContainer>();
+      for(IJavaProject javaProject : javaProjects) {
+        if(monitor.isCanceled()) {
+          throw new OperationCanceledException();
+        }
+        try {
+          containers.put(javaProject, computeContainer(javaProject, monitor));
+        } catch(CoreException ex) {
+          log.error(ex.getMessage(), ex);
+        }
+      }
+    }
+
+    // projects may use custom container paths
+    Map<IPath, Map<IJavaProject, IClasspathContainer>> byPath = new LinkedHashMap<>();
+    for(Map.Entry<IJavaProject, IClasspathContainer> entry : containers.entrySet()) {
+      Map<IJavaProject, IClasspathContainer> group = byPath.get(entry.getValue().getPath());
+      if(group == null) {
+        group = new LinkedHashMap<IJavaProject, IClasspathContainer>();
+        byPath.put(entry.getValue().getPath(), group);
+      }
+      group.put(entry.getKey(), entry.getValue());
+    }
+    for(Map.Entry<IPath, Map<IJavaProject, IClasspathContainer>> entry : byPath.entrySet()) {
+      Map<IJavaProject, IClasspathContainer> group = entry.getValue();
+      try {
+        JavaCore.setClasspathContainer(entry.getKey(), group.keySet().toArray(new IJavaProject[group.size()]),
+            group.values().toArray(new IClasspathContainer[group.size()]), monitor);
+      } catch(CoreException ex) {
+        log.error(ex.getMessage(), ex);
+        containers.keySet().removeAll(group.keySet());
+      }
+    }
+
+    for(Map.Entry<IJavaProject, IClasspathContainer> entry : containers.entrySet()) {
+      fixDynamicProjectReferences(entry.getKey(), monitor);
+      saveContainerStateJob.schedule(entry.getKey().getProject(), entry.getValue());
+    }
+  }
+
+  private Map<IJavaProject, IClasspathContainer> computeContainersInParallel(List<IJavaProject> javaProjects,
+      IProgressMonitor monitor) {
+    int threads = Math.min(Math.min(Runtime.getRuntime().availableProcessors(), MAX_CLASSPATH_THREADS),
+        javaProjects.size());
+    ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+      private final AtomicInteger count = new AtomicInteger();
+
+      public Thread newThread(Runnable r) {
+        Thread thread = new Thread(r, "M2E Classpath Computation " + count.incrementAndGet()); //$NON-NLS-1$
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    try {
+      Map<IJavaProject, Future<IClasspathContainer>> futures = new LinkedHashMap<>();
+      for(final IJavaProject javaProject : javaProjects) {
+        futures.put(javaProject, executor.submit(new Callable<IClasspathContainer>() {
+          public IClasspathContainer call() throws CoreException {
+            return computeContainer(javaProject, new NullProgressMonitor());
+          }
+        }));
+      }
+      Map<IJavaProject, IClasspathContainer> containers = new LinkedHashMap<IJavaProject, IClasspathContainer>();
+      for(Map.Entry<IJavaProject, Future<IClasspathContainer>> entry : futures.entrySet()) {
+        try {
+          containers.put(entry.getKey(), waitFor(entry.getValue(), monitor));
+        } catch(ExecutionException ex) {
+          Throwable cause = ex.getCause();
+          if(cause instanceof OperationCanceledException) {
+            throw (OperationCanceledException) cause;
+          }
+          log.error(cause.getMessage(), cause);
+        }
+      }
+      return containers;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static <T> T waitFor(Future<T> future, IProgressMonitor monitor) throws ExecutionException {
+    while(true) {
+      if(monitor.isCanceled()) {
+        future.cancel(true);
+        throw new OperationCanceledException();
+      }
+      try {
+        return future.get(100, TimeUnit.MILLISECONDS);
+      } catch(TimeoutException ex) {
+        // check cancellation again
+      } catch(InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new OperationCanceledException();
+      }
+    }
+  }
+
+  private IClasspathContainer computeContainer(IJavaProject javaProject, IProgressMonitor monitor)
+      throws CoreException {
+    IClasspathEntry containerEntry = getMavenContainerEntry(javaProject);
+    IPath path = containerEntry != null ? containerEntry.getPath() : new Path(CONTAINER_ID);
+    IClasspathEntry[] classpath = getClasspath(javaProject.getProject(), monitor);
+    return new MavenClasspathContainer(path, classpath);
+  }
+
   /**
    * JDT keeps old dynamic project references alive which sometimes cause build errors. This method removes those
    * references, if necessary.
@@ -331,13 +484,30 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
     }
   }
 
-  private void saveContainerState(IProject project, IClasspathContainer container) {
+  void saveContainerState(IProject project, IClasspathContainer container) {
     File containerStateFile = getContainerStateFile(project);
     FileOutputStream is = null;
     try {
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+      new MavenClasspathContainerSaveHelper().writeContainer(container, buffer);
+      byte[] state = buffer.toByteArray();
+      long hash = getHash(state);
+      if(containerStateFile.length() == state.length) {
+        Long savedHash = containerStateHashes.get(project.getName());
+        if(savedHash == null) {
+          savedHash = getHash(Files.readAllBytes(containerStateFile.toPath()));
+        }
+        if(savedHash.longValue() == hash) {
+          // unchanged, e.g. after a pom change that did not affect dependencies
+          containerStateHashes.put(project.getName(), hash);
+          return;
+        }
+      }
       is = new FileOutputStream(containerStateFile);
-      new MavenClasspathContainerSaveHelper().writeContainer(container, is);
+      is.write(state);
+      containerStateHashes.put(project.getName(), hash);
     } catch(IOException ex) {
+      containerStateHashes.remove(project.getName());
       log.error("Can't save classpath container state for " + project.getName(), ex); //$NON-NLS-1$
     } finally {
       if(is != null) {
@@ -350,7 +520,18 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
     }
   }
 
+  private static long getHash(byte[] bytes) {
+    CRC32 crc = new CRC32();
+    crc.update(bytes);
+    return crc.getValue();
+  }
+
   public IClasspathContainer getSavedContainer(IProject project) throws CoreException {
+    IClasspathContainer pending = saveContainerStateJob.getPending(project);
+    if(pending != null) {
+      return pending;
+    }
+
     File containerStateFile = getContainerStateFile(project);
     if(!containerStateFile.exists()) {
       return null;
@@ -412,6 +593,7 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
 
   private void configureAttachedSourcesAndJavadoc(IMavenProjectFacade facade, Properties sourceAttachment,
       ClasspathDescriptor classpath, IProgressMonitor monitor) throws CoreException {
+    attachmentCache.checkRepository(maven.getLocalRepositoryPath());
     for(IClasspathEntryDescriptor desc : classpath.getEntryDescriptors()) {
       if(IClasspathEntry.CPE_LIBRARY == desc.getEntryKind() && desc.getSourceAttachmentPath() == null) {
         ArtifactKey a = desc.getArtifactKey();
@@ -467,9 +649,21 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
     }
   }
 
-  private boolean isUnavailable(ArtifactKey a, List<ArtifactRepository> repositories) throws CoreException {
-    return maven.isUnavailable(a.getGroupId(), a.getArtifactId(), a.getVersion(), "jar" /*type*/, a.getClassifier(), //$NON-NLS-1$
-        repositories);
+  /**
+   * Returns the unavailable sources and javadoc artifacts of the given artifacts, checked in one batch.
+   */
+  private Set<ArtifactKey> getUnavailableAttachments(Collection<ArtifactKey> artifacts,
+      List<ArtifactRepository> repositories) throws CoreException {
+    if(repositories == null) {
+      return Collections.emptySet();
+    }
+    List<ArtifactKey> attachments = new ArrayList<ArtifactKey>(artifacts.size() * 2);
+    for(ArtifactKey a : artifacts) {
+      attachments.add(new ArtifactKey(a.getGroupId(), a.getArtifactId(), a.getVersion(),
+          getSourcesClassifier(a.getClassifier())));
+      attachments.add(new ArtifactKey(a.getGroupId(), a.getArtifactId(), a.getVersion(), CLASSIFIER_JAVADOC));
+    }
+    return maven.getUnavailableArtifacts(attachments, "jar" /*type*/, repositories); //$NON-NLS-1$
   }
 
 //  public void downloadSources(IProject project, ArtifactKey artifact, boolean downloadSources, boolean downloadJavaDoc) throws CoreException {
@@ -728,8 +922,10 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
         log.error("Can't delete " + attachmentProperties.getAbsolutePath()); //$NON-NLS-1$
       }
 
-      // remove classpath container state
+      // remove classpath container state, a pending or running write must not recreate it
+      saveContainerStateJob.remove(project);
       File containerState = getContainerStateFile(project);
+      containerStateHashes.remove(project.getName());
       if(containerState.exists() && !containerState.delete()) {
         log.error("Can't delete " + containerState.getAbsolutePath()); //$NON-NLS-1$
       }
@@ -854,10 +1050,10 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
   }
 
   private IPath getSourcePath(ArtifactKey a) {
-    File file = getAttachedArtifactFile(a, getSourcesClassifier(a.getClassifier()));
+    String path = attachmentCache.get(a, getSourcesClassifier(a.getClassifier()), file -> file.getAbsolutePath());
 
-    if(file != null) {
-      return Path.fromOSString(file.getAbsolutePath());
+    if(path != null) {
+      return Path.fromOSString(path);
     }
 
     return null;
@@ -885,9 +1081,29 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
   }
 
   private String getJavaDocUrl(ArtifactKey base) {
-    File file = getAttachedArtifactFile(base, CLASSIFIER_JAVADOC);
+    return attachmentCache.get(base, CLASSIFIER_JAVADOC, BuildPathManager::getJavaDocUrl);
+  }
 
-    return getJavaDocUrl(file);
+  /**
+   * Persists pending classpath container states and the source and javadoc attachment cache.
+   */
+  public void saveState() {
+    saveContainerStateJob.cancel();
+    try {
+      // a running job finishes the container it is writing and whatever was queued meanwhile
+      saveContainerStateJob.join();
+    } catch(InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    saveContainerStateJob.flush();
+    attachmentCache.save();
+  }
+
+  /**
+   * Persists the source and javadoc attachment cache if it changed, called with every workspace save.
+   */
+  public void saveAttachmentCache() {
+    attachmentCache.save();
   }
 
   static String getJavaDocUrl(File file) {
@@ -976,10 +1192,19 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
         IMavenProjectFacade facade = projectManager.getProject(project);
         MavenProject mavenProject = facade != null ? facade.getMavenProject() : null;
         if(mavenProject != null) {
+          List<ArtifactKey> artifactKeys = new ArrayList<ArtifactKey>();
           for(Artifact artifact : mavenProject.getArtifacts()) {
-            ArtifactKey artifactKey = new ArtifactKey(artifact.getGroupId(), artifact.getArtifactId(),
-                artifact.getBaseVersion(), artifact.getClassifier());
-            scheduleDownload(project, mavenProject, artifactKey, downloadSources, downloadJavadoc);
+            artifactKeys.add(new ArtifactKey(artifact.getGroupId(), artifact.getArtifactId(),
+                artifact.getBaseVersion(), artifact.getClassifier()));
+          }
+          List<ArtifactRepository> repositories = mavenProject.getRemoteArtifactRepositories();
+          Set<ArtifactKey> unavailable = getUnavailableAttachments(artifactKeys, repositories);
+          for(ArtifactKey artifactKey : artifactKeys) {
+            ArtifactKey[] attached = getAttachedSourcesAndJavadoc(artifactKey, repositories, unavailable,
+                downloadSources, downloadJavadoc);
+            if(attached[0] != null || attached[1] != null) {
+              downloadSourcesJob.scheduleDownload(project, artifactKey, downloadSources, downloadJavadoc);
+            }
           }
         } else {
           // project is not in the cache, push all processing to the background job
@@ -1008,6 +1233,15 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
    */
   ArtifactKey[] getAttachedSourcesAndJavadoc(ArtifactKey a, List<ArtifactRepository> repositories,
       boolean downloadSources, boolean downloadJavaDoc) throws CoreException {
+    if(repositories == null) {
+      return new ArtifactKey[2];
+    }
+    return getAttachedSourcesAndJavadoc(a, repositories,
+        getUnavailableAttachments(Collections.singletonList(a), repositories), downloadSources, downloadJavaDoc);
+  }
+
+  private ArtifactKey[] getAttachedSourcesAndJavadoc(ArtifactKey a, List<ArtifactRepository> repositories,
+      Set<ArtifactKey> unavailable, boolean downloadSources, boolean downloadJavaDoc) {
     ArtifactKey[] result = new ArtifactKey[2];
     if(repositories != null) {
       ArtifactKey sourcesArtifact = new ArtifactKey(a.getGroupId(), a.getArtifactId(), a.getVersion(),
@@ -1015,7 +1249,7 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
       ArtifactKey javadocArtifact = new ArtifactKey(a.getGroupId(), a.getArtifactId(), a.getVersion(),
           CLASSIFIER_JAVADOC);
       if(downloadSources) {
-        if(isUnavailable(sourcesArtifact, repositories)) {
+        if(unavailable.contains(sourcesArtifact)) {
           // 501553: fall back to requesting JavaDoc, if requested sources are missing, 
           // but only if it doesn't exist locally
           if(getAttachedArtifactFile(a, CLASSIFIER_JAVADOC) == null) {
@@ -1025,7 +1259,7 @@ public class BuildPathManager implements IMavenProjectChangedListener, IResource
           result[0] = sourcesArtifact;
         }
       }
-      if(downloadJavaDoc && !isUnavailable(javadocArtifact, repositories)) {
+      if(downloadJavaDoc && !unavailable.contains(javadocArtifact)) {
         result[1] = javadocArtifact;
       }
     }
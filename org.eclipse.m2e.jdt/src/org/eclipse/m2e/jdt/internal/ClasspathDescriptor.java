@@ -11,13 +11,16 @@
 
 package org.eclipse.m2e.jdt.internal;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.RandomAccess;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
@@ -43,8 +46,27 @@ import org.eclipse.m2e.jdt.IClasspathEntryDescriptor;
  */
 public class ClasspathDescriptor implements IClasspathDescriptor {
 
+  /**
+   * Entries in classpath order. Removed entries leave a <code>null</code> slot behind that is compacted lazily, this
+   * keeps the slot numbers in {@link #pathIndex} stable and removal constant time.
+   */
   private final ArrayList<IClasspathEntryDescriptor> entries = new ArrayList<IClasspathEntryDescriptor>();
 
+  private int removedEntries;
+
+  /**
+   * Slots of entries by entry path, in classpath order. <code>null</code> if the index needs to be rebuilt.
+   */
+  private Map<IPath, List<Integer>> pathIndex = new HashMap<IPath, List<Integer>>();
+
+  private final EntryList entryList = new EntryList();
+
+  /**
+   * Number of slots occupied by each attached entry.
+   */
+  private final Map<IClasspathEntryDescriptor, Integer> slotCounts = //
+      new IdentityHashMap<IClasspathEntryDescriptor, Integer>();
+
   private final Map<IPath, IClasspathEntryDescriptor> staleEntries = new LinkedHashMap<IPath, IClasspathEntryDescriptor>();
 
   private final boolean uniquePaths;
@@ -58,7 +80,7 @@ public class ClasspathDescriptor implements IClasspathDescriptor {
     for(IClasspathEntry cpe : javaProject.getRawClasspath()) {
       if(!javaProject.getProject().getFullPath().equals(cpe.getPath())) {
         ClasspathEntryDescriptor entry = new ClasspathEntryDescriptor(cpe);
-        entries.add(entry);
+        appendEntry(entry);
         staleEntries.put(entry.getPath(), entry);
       }
     }
@@ -68,12 +90,12 @@ public class ClasspathDescriptor implements IClasspathDescriptor {
    * @return true if classpath contains entry with specified path, false otherwise.
    */
   public boolean containsPath(IPath path) {
-    for(IClasspathEntryDescriptor descriptor : entries) {
-      if(path.equals(descriptor.getPath())) {
-        return true;
-      }
-    }
-    return false;
+    return getSlots(path) != null;
+  }
+
+  public IClasspathEntryDescriptor findEntryDescriptor(IPath path) {
+    List<Integer> slots = getSlots(path);
+    return slots != null ? entries.get(slots.get(0)) : null;
   }
 
   public ClasspathEntryDescriptor addSourceEntry(IPath sourcePath, IPath outputLocation, boolean generated) {
@@ -85,23 +107,23 @@ public class ClasspathDescriptor implements IClasspathDescriptor {
   }
 
   public List<IClasspathEntryDescriptor> removeEntry(final IPath path) {
-    return removeEntry(new EntryFilter() {
-      public boolean accept(IClasspathEntryDescriptor descriptor) {
-        return path.equals(descriptor.getPath());
+    ArrayList<IClasspathEntryDescriptor> result = new ArrayList<IClasspathEntryDescriptor>();
+    List<Integer> slots = getSlots(path);
+    if(slots != null) {
+      for(int slot : new ArrayList<Integer>(slots)) {
+        result.add(removeSlot(slot));
       }
-    });
+    }
+    return result;
   }
 
   public List<IClasspathEntryDescriptor> removeEntry(EntryFilter filter) {
     ArrayList<IClasspathEntryDescriptor> result = new ArrayList<IClasspathEntryDescriptor>();
 
-    Iterator<IClasspathEntryDescriptor> iter = entries.iterator();
-    while(iter.hasNext()) {
-      IClasspathEntryDescriptor descriptor = iter.next();
-      if(filter.accept(descriptor)) {
-        staleEntries.remove(descriptor.getPath());
-        result.add(descriptor);
-        iter.remove();
+    for(int slot = 0; slot < entries.size(); slot++ ) {
+      IClasspathEntryDescriptor descriptor = entries.get(slot);
+      if(descriptor != null && filter.accept(descriptor)) {
+        result.add(removeSlot(slot));
       }
     }
 
@@ -143,7 +165,7 @@ public class ClasspathDescriptor implements IClasspathDescriptor {
     List<IClasspathEntry> result = new ArrayList<IClasspathEntry>();
 
     for(IClasspathEntryDescriptor entry : entries) {
-      if(!entry.isPomDerived() || !staleEntries.containsKey(entry.getPath())) {
+      if(entry != null && (!entry.isPomDerived() || !staleEntries.containsKey(entry.getPath()))) {
         result.add(entry.toClasspathEntry());
       }
     }
@@ -151,8 +173,11 @@ public class ClasspathDescriptor implements IClasspathDescriptor {
     return result.toArray(new IClasspathEntry[result.size()]);
   }
 
+  /**
+   * Returns a live view of the entries, changes to the returned list are reflected in this descriptor.
+   */
   public List<IClasspathEntryDescriptor> getEntryDescriptors() {
-    return entries;
+    return entryList;
   }
 
   public ClasspathEntryDescriptor addEntry(IClasspathEntry cpe) {
@@ -162,15 +187,13 @@ public class ClasspathDescriptor implements IClasspathDescriptor {
   }
 
   public IClasspathEntryDescriptor replaceEntry(EntryFilter filter, IClasspathEntry cpe) {
-
-    ListIterator<IClasspathEntryDescriptor> iter = entries.listIterator();
-    while(iter.hasNext()) {
-      IClasspathEntryDescriptor descriptor = iter.next();
-      if(filter.accept(descriptor)) {
+    for(int slot = 0; slot < entries.size(); slot++ ) {
+      IClasspathEntryDescriptor descriptor = entries.get(slot);
+      if(descriptor != null && filter.accept(descriptor)) {
         staleEntries.remove(descriptor.getPath());
         ClasspathEntryDescriptor entry = new ClasspathEntryDescriptor(cpe);
         entry.setPomDerived(true);
-        iter.set(entry);
+        replaceSlot(slot, entry);
         return entry;
       }
     }
@@ -216,15 +239,172 @@ public class ClasspathDescriptor implements IClasspathDescriptor {
   private void addEntryDescriptor(ClasspathEntryDescriptor descriptor) {
     staleEntries.remove(descriptor.getPath());
     descriptor.setPomDerived(true);
-    ListIterator<IClasspathEntryDescriptor> iter = entries.listIterator();
     if(uniquePaths) {
-      while(iter.hasNext()) {
-        if(iter.next().getPath().equals(descriptor.getPath())) {
-          iter.set(descriptor);
-          return; // PAY ATTENTION to this early return. Ain't pretty, but works.
-        }
+      List<Integer> slots = getSlots(descriptor.getPath());
+      if(slots != null) {
+        replaceSlot(slots.get(0), descriptor);
+        return;
       }
     }
+    appendEntry(descriptor);
+  }
+
+  /**
+   * Called by entries of this classpath when their path changes.
+   */
+  void pathChanged() {
+    pathIndex = null;
+  }
+
+  private void appendEntry(IClasspathEntryDescriptor descriptor) {
     entries.add(descriptor);
+    attach(descriptor);
+    if(pathIndex != null) {
+      addToIndex(descriptor.getPath(), entries.size() - 1);
+    }
+    entryList.changed();
+  }
+
+  private IClasspathEntryDescriptor removeSlot(int slot) {
+    IClasspathEntryDescriptor descriptor = entries.set(slot, null);
+    removedEntries++ ;
+    staleEntries.remove(descriptor.getPath());
+    if(pathIndex != null) {
+      removeFromIndex(descriptor.getPath(), slot);
+    }
+    detach(descriptor);
+    entryList.changed();
+    return descriptor;
+  }
+
+  private IClasspathEntryDescriptor replaceSlot(int slot, IClasspathEntryDescriptor descriptor) {
+    IClasspathEntryDescriptor previous = entries.set(slot, descriptor);
+    detach(previous);
+    attach(descriptor);
+    if(pathIndex != null) {
+      removeFromIndex(previous.getPath(), slot);
+      addToIndex(descriptor.getPath(), slot);
+    }
+    return previous;
+  }
+
+  /**
+   * Called after the entry entered a slot.
+   */
+  private void attach(IClasspathEntryDescriptor descriptor) {
+    if(descriptor instanceof ClasspathEntryDescriptor) {
+      Integer count = slotCounts.get(descriptor);
+      slotCounts.put(descriptor, count != null ? count + 1 : 1);
+      ((ClasspathEntryDescriptor) descriptor).owner = this;
+    }
+  }
+
+  /**
+   * Called after the entry left a slot. Entries that still occupy another slot, e.g. while the list is permuted by
+   * {@link Collections#sort(List)} or {@link Collections#swap(List, int, int)}, stay attached.
+   */
+  private void detach(IClasspathEntryDescriptor descriptor) {
+    if(descriptor instanceof ClasspathEntryDescriptor) {
+      Integer count = slotCounts.get(descriptor);
+      if(count != null && count > 1) {
+        slotCounts.put(descriptor, count - 1);
+      } else {
+        slotCounts.remove(descriptor);
+        if(((ClasspathEntryDescriptor) descriptor).owner == this) {
+          ((ClasspathEntryDescriptor) descriptor).owner = null;
+        }
+      }
+    }
+  }
+
+  /**
+   * @return slots of entries with the given path in classpath order or <code>null</code> if there are none
+   */
+  private List<Integer> getSlots(IPath path) {
+    if(pathIndex == null) {
+      pathIndex = new HashMap<IPath, List<Integer>>();
+      for(int slot = 0; slot < entries.size(); slot++ ) {
+        IClasspathEntryDescriptor descriptor = entries.get(slot);
+        if(descriptor != null) {
+          addToIndex(descriptor.getPath(), slot);
+        }
+      }
+    }
+    return pathIndex.get(path);
+  }
+
+  private void addToIndex(IPath path, int slot) {
+    List<Integer> slots = pathIndex.get(path);
+    if(slots == null) {
+      slots = new ArrayList<Integer>(1);
+      pathIndex.put(path, slots);
+    }
+    int i = slots.size();
+    while(i > 0 && slots.get(i - 1) > slot) {
+      i-- ;
+    }
+    slots.add(i, slot);
+  }
+
+  private void removeFromIndex(IPath path, int slot) {
+    List<Integer> slots = pathIndex.get(path);
+    if(slots != null) {
+      slots.remove(Integer.valueOf(slot));
+      if(slots.isEmpty()) {
+        pathIndex.remove(path);
+      }
+    }
+  }
+
+  /**
+   * Removes the slots of removed entries, invalidates slot numbers.
+   */
+  private void compact() {
+    if(removedEntries > 0) {
+      entries.removeAll(Collections.singleton(null));
+      removedEntries = 0;
+      pathIndex = null;
+    }
+  }
+
+  /**
+   * Live list view of the entries.
+   */
+  private class EntryList extends AbstractList<IClasspathEntryDescriptor> implements RandomAccess {
+
+    void changed() {
+      modCount++ ;
+    }
+
+    public IClasspathEntryDescriptor get(int index) {
+      compact();
+      return entries.get(index);
+    }
+
+    public int size() {
+      return entries.size() - removedEntries;
+    }
+
+    public IClasspathEntryDescriptor set(int index, IClasspathEntryDescriptor element) {
+      compact();
+      return replaceSlot(index, element);
+    }
+
+    public void add(int index, IClasspathEntryDescriptor element) {
+      compact();
+      entries.add(index, element);
+      attach(element);
+      pathIndex = null;
+      changed();
+    }
+
+    public IClasspathEntryDescriptor remove(int index) {
+      compact();
+      IClasspathEntryDescriptor descriptor = entries.remove(index);
+      detach(descriptor);
+      pathIndex = null;
+      changed();
+      return descriptor;
+    }
   }
 }
@@ -66,6 +66,11 @@ public class ClasspathEntryDescriptor implements IClasspathEntryDescriptor {
 
   private boolean optionalDependency;
 
+  /**
+   * Classpath descriptor that indexes this entry by path, notified about path changes.
+   */
+  ClasspathDescriptor owner;
+
   public ClasspathEntryDescriptor(int entryKind, IPath path) {
     this.entryKind = entryKind;
     this.path = path;
@@ -218,6 +223,9 @@ public class ClasspathEntryDescriptor implements IClasspathEntryDescriptor {
       throw new NullPointerException();
     }
     this.path = path;
+    if(owner != null) {
+      owner.pathChanged();
+    }
   }
 
   public int getEntryKind() {
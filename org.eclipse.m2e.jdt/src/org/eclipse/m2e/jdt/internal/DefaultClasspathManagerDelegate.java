@@ -172,7 +172,7 @@ public class DefaultClasspathManagerDelegate implements IClasspathManagerDelegat
   }
 
   private IClasspathEntryDescriptor findClasspathDescriptor(IClasspathDescriptor classpath, IPath p) {
-    return classpath.getEntryDescriptors().stream().filter(e -> p.equals(e.getPath())).findFirst().orElse(null);
+    return classpath.findEntryDescriptor(p);
   }
 
   static class ProjectTestAttributes {
@@ -13,12 +13,18 @@ package org.eclipse.m2e.jdt.internal;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
@@ -31,13 +37,45 @@ import org.eclipse.jdt.core.JavaCore;
 
 /**
  * BuildPath save helper
- * 
+ * <p>
+ * Containers are written in a compact binary format. Strings, i.e. path segments, attribute names and values, are
+ * written once per container and referenced by index afterwards, which keeps state files of projects with many
+ * dependencies from the same local repository small. Containers saved with java object serialization by older versions
+ * are still read.
+ *
  * @author Eugene Kuleshov
  */
 public class MavenClasspathContainerSaveHelper {
 
+  private static final int MAGIC = 0x4d32434b; // M2CK
+
+  private static final int VERSION = 1;
+
+  private static final int FLAG_ABSOLUTE = 1;
+
+  private static final int FLAG_TRAILING_SEPARATOR = 2;
+
+  private static final int FLAG_UNC = 4;
+
   public IClasspathContainer readContainer(InputStream input) throws IOException, ClassNotFoundException {
-    ObjectInputStream is = new ObjectInputStream(new BufferedInputStream(input)) {
+    BufferedInputStream bis = new BufferedInputStream(input);
+    bis.mark(4);
+    DataInputStream dis = new DataInputStream(bis);
+    int magic;
+    try {
+      magic = dis.readInt();
+    } catch(EOFException ex) {
+      magic = 0;
+    }
+    if(magic == MAGIC) {
+      return new ContainerReader(dis).readContainer();
+    }
+    bis.reset();
+    return readSerializedContainer(bis);
+  }
+
+  private IClasspathContainer readSerializedContainer(InputStream input) throws IOException, ClassNotFoundException {
+    ObjectInputStream is = new ObjectInputStream(input) {
       {
         enableResolveObject(true);
       }
@@ -61,31 +99,200 @@ public class MavenClasspathContainerSaveHelper {
   }
 
   public void writeContainer(IClasspathContainer container, OutputStream output) throws IOException {
-    ObjectOutputStream os = new ObjectOutputStream(new BufferedOutputStream(output)) {
-      {
-        enableReplaceObject(true);
-      }
-
-      protected Object replaceObject(Object o) throws IOException {
-        if(o instanceof IClasspathEntry) {
-          IClasspathEntry e = (IClasspathEntry) o;
-          if(e.getEntryKind() == IClasspathEntry.CPE_PROJECT) {
-            return new ProjectEntryReplace(e);
-          } else if(e.getEntryKind() == IClasspathEntry.CPE_LIBRARY) {
-            return new LibraryEntryReplace(e);
-          }
-        } else if(o instanceof IClasspathAttribute) {
-          return new ClasspathAttributeReplace((IClasspathAttribute) o);
-        } else if(o instanceof IAccessRule) {
-          return new AccessRuleReplace((IAccessRule) o);
-        } else if(o instanceof IPath) {
-          return new PathReplace((IPath) o);
+    DataOutputStream os = new DataOutputStream(new BufferedOutputStream(output));
+    os.writeInt(MAGIC);
+    new ContainerWriter(os).writeContainer(container);
+    os.flush();
+  }
+
+  private static final class ContainerWriter {
+    private final DataOutputStream os;
+
+    private final Map<String, Integer> strings = new HashMap<String, Integer>();
+
+    ContainerWriter(DataOutputStream os) {
+      this.os = os;
+    }
+
+    void writeContainer(IClasspathContainer container) throws IOException {
+      writeVarInt(VERSION);
+      writePath(container.getPath());
+      IClasspathEntry[] entries = container.getClasspathEntries();
+      writeVarInt(entries.length);
+      for(IClasspathEntry entry : entries) {
+        int kind = entry.getEntryKind();
+        if(kind != IClasspathEntry.CPE_LIBRARY && kind != IClasspathEntry.CPE_PROJECT) {
+          throw new IOException("Unsupported classpath entry " + entry); //$NON-NLS-1$
+        }
+        writeVarInt(kind);
+        writePath(entry.getPath());
+        if(kind == IClasspathEntry.CPE_LIBRARY) {
+          writePath(entry.getSourceAttachmentPath());
+          writePath(entry.getSourceAttachmentRootPath());
+        } else {
+          os.writeBoolean(entry.combineAccessRules());
+        }
+        IAccessRule[] accessRules = entry.getAccessRules();
+        writeVarInt(accessRules.length);
+        for(IAccessRule accessRule : accessRules) {
+          writePath(accessRule.getPattern());
+          writeVarInt(accessRule.getKind());
         }
-        return super.replaceObject(o);
+        IClasspathAttribute[] attributes = entry.getExtraAttributes();
+        writeVarInt(attributes.length);
+        for(IClasspathAttribute attribute : attributes) {
+          writeString(attribute.getName());
+          writeString(attribute.getValue());
+        }
+        os.writeBoolean(entry.isExported());
       }
-    };
-    os.writeObject(container);
-    os.flush();
+    }
+
+    private void writePath(IPath path) throws IOException {
+      if(path == null) {
+        writeVarInt(0);
+        return;
+      }
+      int flags = (path.isAbsolute() ? FLAG_ABSOLUTE : 0) | (path.hasTrailingSeparator() ? FLAG_TRAILING_SEPARATOR : 0)
+          | (path.isUNC() ? FLAG_UNC : 0);
+      String[] segments = path.segments();
+      writeVarInt(segments.length + 1);
+      writeVarInt(flags);
+      writeString(path.getDevice());
+      for(String segment : segments) {
+        writeString(segment);
+      }
+    }
+
+    /**
+     * Writes <code>0</code> for <code>null</code>, the table index + 2 for known strings or <code>1</code> followed by
+     * the string itself for new ones.
+     */
+    private void writeString(String str) throws IOException {
+      if(str == null) {
+        writeVarInt(0);
+        return;
+      }
+      Integer index = strings.get(str);
+      if(index != null) {
+        writeVarInt(index.intValue() + 2);
+      } else {
+        strings.put(str, strings.size());
+        writeVarInt(1);
+        os.writeUTF(str);
+      }
+    }
+
+    private void writeVarInt(int value) throws IOException {
+      while((value & ~0x7f) != 0) {
+        os.writeByte((value & 0x7f) | 0x80);
+        value >>>= 7;
+      }
+      os.writeByte(value);
+    }
+  }
+
+  private static final class ContainerReader {
+    private final DataInputStream is;
+
+    private final List<String> strings = new ArrayList<String>();
+
+    ContainerReader(DataInputStream is) {
+      this.is = is;
+    }
+
+    IClasspathContainer readContainer() throws IOException {
+      int version = readVarInt();
+      if(version != VERSION) {
+        throw new IOException("Unsupported classpath container state version " + version); //$NON-NLS-1$
+      }
+      IPath path = readPath();
+      IClasspathEntry[] entries = new IClasspathEntry[readVarInt()];
+      for(int i = 0; i < entries.length; i++ ) {
+        int kind = readVarInt();
+        IPath entryPath = readPath();
+        IPath sourceAttachmentPath = null;
+        IPath sourceAttachmentRootPath = null;
+        boolean combineAccessRules = false;
+        if(kind == IClasspathEntry.CPE_LIBRARY) {
+          sourceAttachmentPath = readPath();
+          sourceAttachmentRootPath = readPath();
+        } else if(kind == IClasspathEntry.CPE_PROJECT) {
+          combineAccessRules = is.readBoolean();
+        } else {
+          throw new IOException("Unsupported classpath entry kind " + kind); //$NON-NLS-1$
+        }
+        IAccessRule[] accessRules = new IAccessRule[readVarInt()];
+        for(int j = 0; j < accessRules.length; j++ ) {
+          accessRules[j] = JavaCore.newAccessRule(readPath(), readVarInt());
+        }
+        IClasspathAttribute[] attributes = new IClasspathAttribute[readVarInt()];
+        for(int j = 0; j < attributes.length; j++ ) {
+          attributes[j] = JavaCore.newClasspathAttribute(readString(), readString());
+        }
+        boolean exported = is.readBoolean();
+        if(kind == IClasspathEntry.CPE_LIBRARY) {
+          entries[i] = JavaCore.newLibraryEntry(entryPath, sourceAttachmentPath, sourceAttachmentRootPath,
+              accessRules, attributes, exported);
+        } else {
+          entries[i] = JavaCore.newProjectEntry(entryPath, accessRules, combineAccessRules, attributes, exported);
+        }
+      }
+      return new MavenClasspathContainer(path, entries);
+    }
+
+    private IPath readPath() throws IOException {
+      int segmentCount = readVarInt() - 1;
+      if(segmentCount < 0) {
+        return null;
+      }
+      int flags = readVarInt();
+      String device = readString();
+      StringBuilder sb = new StringBuilder();
+      if((flags & FLAG_UNC) != 0) {
+        sb.append("//"); //$NON-NLS-1$
+      } else if((flags & FLAG_ABSOLUTE) != 0) {
+        sb.append('/');
+      }
+      for(int i = 0; i < segmentCount; i++ ) {
+        if(i > 0) {
+          sb.append('/');
+        }
+        sb.append(readString());
+      }
+      IPath path = new Path(null, sb.toString());
+      if(device != null) {
+        path = path.setDevice(device);
+      }
+      if((flags & FLAG_TRAILING_SEPARATOR) != 0) {
+        path = path.addTrailingSeparator();
+      }
+      return path;
+    }
+
+    private String readString() throws IOException {
+      int ref = readVarInt();
+      if(ref == 0) {
+        return null;
+      } else if(ref == 1) {
+        String str = is.readUTF();
+        strings.add(str);
+        return str;
+      }
+      return strings.get(ref - 2);
+    }
+
+    private int readVarInt() throws IOException {
+      int value = 0;
+      for(int shift = 0; shift < 32; shift += 7) {
+        int b = is.readUnsignedByte();
+        value |= (b & 0x7f) << shift;
+        if((b & 0x80) == 0) {
+          return value;
+        }
+      }
+      throw new IOException("Malformed classpath container state"); //$NON-NLS-1$
+    }
   }
 
   /**
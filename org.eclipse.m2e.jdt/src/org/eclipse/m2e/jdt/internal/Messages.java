@@ -53,6 +53,8 @@ public class Messages extends NLS {
   public static String OpenJavaDocAction_job_open_javadoc;
 
   public static String OpenJavaDocAction_message1;
+
+  public static String SaveContainerStateJob_name;
   static {
     // initialize resource bundle
     NLS.initializeMessages(BUNDLE_NAME, Messages.class);
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.jdt.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.IClasspathContainer;
+
+
+/**
+ * Writes classpath container state files in the background. Only the latest container of each project is written, a
+ * container queued again before it has been written replaces the pending one.
+ *
+ * @since 1.12
+ */
+class SaveContainerStateJob extends Job {
+
+  private final BuildPathManager buildpathManager;
+
+  private final Map<IProject, IClasspathContainer> pending = new LinkedHashMap<IProject, IClasspathContainer>();
+
+  /**
+   * Held while a container is taken from the queue and written, so a container written by the job is never
+   * overwritten by an older one and a removed project is not written afterwards.
+   */
+  private final Object flushLock = new Object();
+
+  SaveContainerStateJob(BuildPathManager buildpathManager) {
+    super(Messages.SaveContainerStateJob_name);
+    this.buildpathManager = buildpathManager;
+    setSystem(true);
+  }
+
+  void schedule(IProject project, IClasspathContainer container) {
+    synchronized(pending) {
+      pending.put(project, container);
+    }
+    schedule();
+  }
+
+  /**
+   * Drops the container queued for the given project and waits for a write of its state in progress, the state file
+   * of the project can be deleted afterwards.
+   */
+  void remove(IProject project) {
+    synchronized(flushLock) {
+      synchronized(pending) {
+        pending.remove(project);
+      }
+    }
+  }
+
+  /**
+   * Returns the container queued for the given project but not yet written, if any.
+   */
+  IClasspathContainer getPending(IProject project) {
+    synchronized(pending) {
+      return pending.get(project);
+    }
+  }
+
+  protected IStatus run(IProgressMonitor monitor) {
+    flush();
+    return Status.OK_STATUS;
+  }
+
+  /**
+   * Writes all pending containers from the calling thread.
+   */
+  void flush() {
+    while(true) {
+      synchronized(flushLock) {
+        IProject project;
+        IClasspathContainer container;
+        synchronized(pending) {
+          Iterator<Map.Entry<IProject, IClasspathContainer>> iter = pending.entrySet().iterator();
+          if(!iter.hasNext()) {
+            return;
+          }
+          Map.Entry<IProject, IClasspathContainer> entry = iter.next();
+          project = entry.getKey();
+          container = entry.getValue();
+        }
+        buildpathManager.saveContainerState(project, container);
+        synchronized(pending) {
+          // keep containers queued again while this one was written
+          if(pending.get(project) == container) {
+            pending.remove(project);
+          }
+        }
+      }
+    }
+  }
+}
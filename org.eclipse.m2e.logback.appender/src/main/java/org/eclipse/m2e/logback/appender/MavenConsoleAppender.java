@@ -24,13 +24,18 @@ public class MavenConsoleAppender extends UnsynchronizedAppenderBase<ILoggingEve
 
   private Bundle m2eCoreUIBundle;
 
+  private MavenConsoleAppenderImpl impl;
+
   @Override
   protected void append(ILoggingEvent logEvent) {
     if(!isActive()) {
       return;
     }
 
-    new MavenConsoleAppenderImpl().append(logEvent);
+    if(impl == null) {
+      impl = new MavenConsoleAppenderImpl();
+    }
+    impl.append(logEvent);
   }
 
   private boolean isActive() {
@@ -15,7 +15,7 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 
 import org.eclipse.m2e.core.ui.internal.M2EUIPluginActivator;
-import org.eclipse.m2e.core.ui.internal.console.MavenConsole;
+import org.eclipse.m2e.core.ui.internal.console.MavenConsoleImpl;
 
 
 @SuppressWarnings("restriction")
@@ -25,18 +25,21 @@ public class MavenConsoleAppenderImpl {
       return;
     }
 
-    MavenConsole mavenConsole = M2EUIPluginActivator.getDefault().getMavenConsole();
+    // the event itself is handed over, it is only formatted if and when the console displays it. Capture the state
+    // that may change until then, e.g. the thread name and mutable message arguments
+    logEvent.prepareForDeferredProcessing();
+    MavenConsoleImpl mavenConsole = M2EUIPluginActivator.getDefault().getMavenConsole();
     switch(logEvent.getLevel().levelInt) {
       case Level.DEBUG_INT:
-        mavenConsole.debug(logEvent.toString());
+        mavenConsole.debug(logEvent.getTimeStamp(), logEvent);
         return;
       case Level.ERROR_INT:
-        mavenConsole.error(logEvent.toString());
+        mavenConsole.error(logEvent.getTimeStamp(), logEvent);
         return;
       case Level.WARN_INT:
       case Level.INFO_INT:
       default:
-        mavenConsole.info(logEvent.toString());
+        mavenConsole.info(logEvent.getTimeStamp(), logEvent);
         return;
     }
   }
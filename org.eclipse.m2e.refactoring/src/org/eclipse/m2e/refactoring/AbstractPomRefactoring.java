@@ -13,10 +13,12 @@ package org.eclipse.m2e.refactoring;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,6 +49,7 @@ import org.eclipse.ltk.core.refactoring.TextFileChange;
 import org.eclipse.ltk.core.refactoring.participants.RenameRefactoring;
 import org.eclipse.osgi.util.NLS;
 
+import org.apache.maven.model.Parent;
 import org.apache.maven.project.MavenProject;
 
 import org.eclipse.m2e.core.MavenPlugin;
@@ -60,6 +63,7 @@ import org.eclipse.m2e.model.edit.pom.util.PomResourceFactoryImpl;
 import org.eclipse.m2e.model.edit.pom.util.PomResourceImpl;
 import org.eclipse.m2e.refactoring.RefactoringModelResources.PropertyInfo;
 import org.eclipse.m2e.refactoring.internal.Activator;
+import org.eclipse.m2e.refactoring.internal.PomReferenceIndex;
 
 
 /**
@@ -106,13 +110,13 @@ public abstract class AbstractPomRefactoring extends Refactoring {
   public Change createChange(IProgressMonitor pm) throws CoreException, OperationCanceledException {
     CompositeChange res = new CompositeChange(getTitle());
     IMavenProjectFacade[] projects = MavenPlugin.getMavenProjectRegistry().getProjects();
-    pm.beginTask(Messages.AbstractPomRefactoring_task, projects.length);
 
     models = new HashMap<String, RefactoringModelResources>();
 
     try {
       // load all models
       // XXX: assumption: artifactId is unique within workspace
+      List<IMavenProjectFacade> toLoad = new ArrayList<IMavenProjectFacade>();
       for(IMavenProjectFacade projectFacade : projects) {
         // skip "other" projects if not requested
         if(!scanAllArtifacts() && !projectFacade.getPom().equals(file)) {
@@ -124,9 +128,17 @@ public abstract class AbstractPomRefactoring extends Refactoring {
           continue;
         }
 
-        loadModel(projectFacade, pm);
+        toLoad.add(projectFacade);
       }
 
+      Collection<String> referencedArtifactIds = getReferencedArtifactIds();
+      if(scanAllArtifacts() && referencedArtifactIds != null) {
+        toLoad = getAffectedProjects(toLoad, referencedArtifactIds);
+      }
+
+      pm.beginTask(Messages.AbstractPomRefactoring_task, toLoad.size());
+      loadModels(toLoad, pm);
+
       // construct properties for all models
       for(IMavenProjectFacade projectFacade : projects) {
         RefactoringModelResources model = models.get(projectFacade.getArtifactKey().getArtifactId());
@@ -141,15 +153,14 @@ public abstract class AbstractPomRefactoring extends Refactoring {
         MavenProject current = model.getProject();
         // add itself
         workspaceParents.add(model);
-        for(MavenProject parentProject = getParentProject(projectFacade, current, pm); parentProject != null;) {
-          String id = parentProject.getArtifactId();
-          RefactoringModelResources parent = models.get(id);
-          if(parent != null) {
-            workspaceParents.add(parent);
-          } else {
+        // the parent element of the effective model identifies the workspace parent without resolving it
+        for(Parent parentElement = current.getModel().getParent(); parentElement != null;) {
+          RefactoringModelResources parent = models.get(parentElement.getArtifactId());
+          if(parent == null || workspaceParents.contains(parent)) {
             break;
           }
-          parentProject = getParentProject(projectFacade, parentProject, pm);
+          workspaceParents.add(parent);
+          parentElement = parent.getEffective().getParent();
         }
 
         //fill properties (from the root)
@@ -259,6 +270,8 @@ public abstract class AbstractPomRefactoring extends Refactoring {
           return false;
         }
       };
+    } catch(OperationCanceledException ex) {
+      throw ex;
     } catch(Exception ex) {
       throw new CoreException(new Status(IStatus.ERROR, Activator.PLUGIN_ID, PROBLEMS_DURING_REFACTORING, ex));
     } finally {
@@ -293,6 +306,51 @@ public abstract class AbstractPomRefactoring extends Refactoring {
     return current;
   }
 
+  /**
+   * Loads the models of the given projects on the calling thread. Creating a model copies the pom into the temporary
+   * project, which needs the workspace rule the refactoring wizard already holds on this thread.
+   */
+  private void loadModels(List<IMavenProjectFacade> projects, IProgressMonitor pm) throws CoreException, IOException {
+    for(IMavenProjectFacade projectFacade : projects) {
+      if(pm.isCanceled()) {
+        throw new OperationCanceledException();
+      }
+      loadModel(projectFacade, pm);
+    }
+  }
+
+  /**
+   * Returns the given projects whose poms reference one of the artifactIds, the main file and the parents providing
+   * their properties, according to the workspace pom reference index.
+   */
+  private List<IMavenProjectFacade> getAffectedProjects(List<IMavenProjectFacade> projects,
+      Collection<String> artifactIds) {
+    PomReferenceIndex index = Activator.getDefault().getPomReferenceIndex();
+    List<IFile> poms = new ArrayList<IFile>();
+    for(IMavenProjectFacade projectFacade : projects) {
+      poms.add(projectFacade.getPom());
+    }
+    Set<IFile> affected = index.getAffectedPoms(poms, artifactIds);
+    index.write();
+    List<IMavenProjectFacade> result = new ArrayList<IMavenProjectFacade>();
+    for(IMavenProjectFacade projectFacade : projects) {
+      if(projectFacade.getPom().equals(file) || affected.contains(projectFacade.getPom())) {
+        result.add(projectFacade);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the artifactIds whose references are changed by this refactoring, so only poms referencing them are
+   * loaded, or <code>null</code> to load all workspace poms if {@link #scanAllArtifacts()}.
+   *
+   * @since 1.12
+   */
+  protected Collection<String> getReferencedArtifactIds() {
+    return null;
+  }
+
   // this method determines whether all artifacts will be sent to visitor or only main one
   public abstract boolean scanAllArtifacts();
 
@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -124,10 +125,19 @@ public class ExcludeArtifactRefactoring extends Refactoring {
     List<IStatus> statuses = new ArrayList<IStatus>();
     SubMonitor monitor = SubMonitor.convert(pm, 3);
 
+    // read the dependency trees of all affected hierarchy members at once
+    Collection<ParentHierarchyEntry> descendants = getWorkspaceDescendants();
+    Collection<ParentHierarchyEntry> ancestors = getWorkspaceAncestors();
+    List<ParentHierarchyEntry> members = new ArrayList<ParentHierarchyEntry>();
+    members.add(exclusionPoint);
+    members.addAll(descendants);
+    members.addAll(ancestors);
+    Map<ParentHierarchyEntry, Map<Dependency, Set<ArtifactKey>>> dependencyExcludes = getDependencyExcludes(members,
+        monitor.newChild(3));
+
     List<Operation> exclusionOp = new ArrayList<Operation>();
     // Exclusion point
-    for(Entry<Dependency, Set<ArtifactKey>> entry : getDependencyExcludes(exclusionPoint, monitor.newChild(1))
-        .entrySet()) {
+    for(Entry<Dependency, Set<ArtifactKey>> entry : dependencyExcludes.get(exclusionPoint).entrySet()) {
       locatedKeys.addAll(entry.getValue());
       Dependency dependency = entry.getKey();
       if(contains(entry.getValue(), dependency)) {
@@ -142,9 +152,9 @@ public class ExcludeArtifactRefactoring extends Refactoring {
     }
 
     // Below exclusion point - pull up dependency to exclusion point
-    for(ParentHierarchyEntry project : getWorkspaceDescendants()) {
+    for(ParentHierarchyEntry project : descendants) {
       List<Operation> operations = new ArrayList<Operation>();
-      for(Entry<Dependency, Set<ArtifactKey>> entry : getDependencyExcludes(project, monitor.newChild(1)).entrySet()) {
+      for(Entry<Dependency, Set<ArtifactKey>> entry : dependencyExcludes.get(project).entrySet()) {
         locatedKeys.addAll(entry.getValue());
         Dependency dependency = entry.getKey();
         operations.add(new RemoveDependencyOperation(dependency));
@@ -167,8 +177,8 @@ public class ExcludeArtifactRefactoring extends Refactoring {
     }
 
     // Above exclusion - Add dep to exclusionPoint
-    for(ParentHierarchyEntry project : getWorkspaceAncestors()) {
-      for(Entry<Dependency, Set<ArtifactKey>> entry : getDependencyExcludes(project, monitor.newChild(1)).entrySet()) {
+    for(ParentHierarchyEntry project : ancestors) {
+      for(Entry<Dependency, Set<ArtifactKey>> entry : dependencyExcludes.get(project).entrySet()) {
         locatedKeys.addAll(entry.getValue());
         Dependency dependency = entry.getKey();
         if(contains(entry.getValue(), dependency)) {
@@ -221,17 +231,25 @@ public class ExcludeArtifactRefactoring extends Refactoring {
 
   /**
    * Map key is one of <dependency> element of specified (workspace) model. Map value is set of <excludes> element keys
-   * to be added to the <dependency>.
+   * to be added to the <dependency>. The dependency trees of all models are read concurrently, sharing the collection
+   * of common dependency subtrees, and then visited in one pass.
    */
-  private Map<Dependency, Set<ArtifactKey>> getDependencyExcludes(ParentHierarchyEntry model, IProgressMonitor monitor)
-      throws CoreException {
-    IMavenProjectFacade facade = model.getFacade();
-    MavenProject project = model.getProject();
-    DependencyNode root = MavenPlugin.getMavenModelManager().readDependencyTree(facade, project, JavaScopes.TEST,
-        monitor);
-    Visitor visitor = new Visitor(model);
-    root.accept(visitor);
-    return visitor.getSourceMap();
+  private Map<ParentHierarchyEntry, Map<Dependency, Set<ArtifactKey>>> getDependencyExcludes(
+      List<ParentHierarchyEntry> models, IProgressMonitor monitor) throws CoreException {
+    Map<MavenProject, IMavenProjectFacade> projects = new LinkedHashMap<MavenProject, IMavenProjectFacade>();
+    for(ParentHierarchyEntry model : models) {
+      projects.put(model.getProject(), model.getFacade());
+    }
+    Map<MavenProject, DependencyNode> roots = MavenPlugin.getMavenModelManager().readDependencyTrees(projects,
+        JavaScopes.TEST, monitor);
+
+    Map<ParentHierarchyEntry, Map<Dependency, Set<ArtifactKey>>> result = new HashMap<>();
+    for(ParentHierarchyEntry model : models) {
+      Visitor visitor = new Visitor(model);
+      roots.get(model.getProject()).accept(visitor);
+      result.put(model, visitor.getSourceMap());
+    }
+    return result;
   }
 
   @Override
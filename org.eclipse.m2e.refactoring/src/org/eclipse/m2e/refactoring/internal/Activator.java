@@ -15,6 +15,8 @@ import org.osgi.framework.BundleContext;
 
 import org.eclipse.ui.plugin.AbstractUIPlugin;
 
+import org.eclipse.m2e.core.MavenPlugin;
+
 
 /**
  * The activator class controls the plug-in life cycle
@@ -26,9 +28,13 @@ public class Activator extends AbstractUIPlugin {
   // The plug-in ID
   public static final String PLUGIN_ID = "org.eclipse.m2e.refactoring"; //$NON-NLS-1$
 
+  private static final String POM_REFERENCE_INDEX = "pom-references.idx"; //$NON-NLS-1$
+
   // The shared instance
   private static Activator plugin;
 
+  private PomReferenceIndex pomReferenceIndex;
+
   /**
    * The constructor
    */
@@ -42,6 +48,8 @@ public class Activator extends AbstractUIPlugin {
   public void start(BundleContext context) throws Exception {
     super.start(context);
     plugin = this;
+    pomReferenceIndex = new PomReferenceIndex(getStateLocation().append(POM_REFERENCE_INDEX).toFile());
+    MavenPlugin.getMavenProjectRegistry().addMavenProjectChangedListener(pomReferenceIndex);
   }
 
   /*
@@ -49,6 +57,9 @@ public class Activator extends AbstractUIPlugin {
    * @see org.eclipse.ui.plugin.AbstractUIPlugin#stop(org.osgi.framework.BundleContext)
    */
   public void stop(BundleContext context) throws Exception {
+    MavenPlugin.getMavenProjectRegistry().removeMavenProjectChangedListener(pomReferenceIndex);
+    pomReferenceIndex.write();
+    pomReferenceIndex = null;
     plugin = null;
     super.stop(context);
   }
@@ -62,4 +73,10 @@ public class Activator extends AbstractUIPlugin {
     return plugin;
   }
 
+  /**
+   * @since 1.12
+   */
+  public PomReferenceIndex getPomReferenceIndex() {
+    return pomReferenceIndex;
+  }
 }
@@ -0,0 +1,340 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.refactoring.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.LocationKind;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Path;
+
+import org.codehaus.plexus.util.ReaderFactory;
+import org.codehaus.plexus.util.xml.pull.MXParser;
+import org.codehaus.plexus.util.xml.pull.XmlPullParser;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+import org.eclipse.m2e.core.project.IMavenProjectChangedListener;
+import org.eclipse.m2e.core.project.MavenProjectChangedEvent;
+
+
+/**
+ * Workspace wide reverse index of pom.xml references, used by refactorings to load only the poms they change. For
+ * every workspace pom it records the artifactIds referenced anywhere in the pom, the properties it defines and uses
+ * and its parent. Entries are kept up to date from project change events, checked against the pom timestamp before
+ * use and persisted in the plugin state location.
+ *
+ * @since 1.12
+ */
+public class PomReferenceIndex implements IMavenProjectChangedListener {
+  private static final Logger log = LoggerFactory.getLogger(PomReferenceIndex.class);
+
+  private static final int VERSION = 1;
+
+  private static final Pattern PROPERTY_REFERENCE = Pattern.compile("\\$\\{([^}]+)\\}"); //$NON-NLS-1$
+
+  private final File file;
+
+  /** workspace path of the pom -> entry */
+  private final Map<IPath, Entry> entries = new ConcurrentHashMap<IPath, Entry>();
+
+  private volatile boolean dirty;
+
+  public PomReferenceIndex(File file) {
+    this.file = file;
+    read();
+  }
+
+  public void mavenProjectChanged(MavenProjectChangedEvent[] events, IProgressMonitor monitor) {
+    for(MavenProjectChangedEvent event : events) {
+      IFile pom = event.getSource();
+      if(event.getKind() == MavenProjectChangedEvent.KIND_REMOVED) {
+        if(entries.remove(pom.getFullPath()) != null) {
+          dirty = true;
+        }
+      } else if(pom.isAccessible()) {
+        getEntry(pom);
+      }
+    }
+  }
+
+  /**
+   * Returns the poms among the given ones that have to be loaded to change references to the given artifactIds, i.e.
+   * the poms referencing one of them and their workspace parents up to the last one defining a property used below
+   * it. Unsaved changes of open editors are taken into account, poms that cannot be read are always included.
+   */
+  public Set<IFile> getAffectedPoms(Collection<IFile> poms, Collection<String> artifactIds) {
+    Map<String, IFile> byArtifactId = new HashMap<String, IFile>();
+    Map<IFile, Entry> current = new HashMap<IFile, Entry>();
+    Set<IFile> result = new LinkedHashSet<IFile>();
+    for(IFile pom : poms) {
+      Entry entry = getEntry(pom);
+      if(entry == null) {
+        // not readable, it may reference anything
+        result.add(pom);
+      } else {
+        current.put(pom, entry);
+        if(entry.artifactId != null) {
+          byArtifactId.put(entry.artifactId, pom);
+        }
+      }
+    }
+
+    for(Map.Entry<IFile, Entry> referencing : current.entrySet()) {
+      if(!intersects(referencing.getValue().references, artifactIds)) {
+        continue;
+      }
+      result.add(referencing.getKey());
+
+      // parents whose properties the pom may use
+      Set<String> used = new HashSet<String>(referencing.getValue().usedProperties);
+      Deque<IFile> parents = new ArrayDeque<IFile>();
+      Set<IFile> include = new HashSet<IFile>();
+      Entry entry = referencing.getValue();
+      while(entry.parentArtifactId != null) {
+        IFile parent = byArtifactId.get(entry.parentArtifactId);
+        if(parent == null || parents.contains(parent)) {
+          break;
+        }
+        parents.add(parent);
+        entry = current.get(parent);
+        if(intersects(entry.definedProperties, used)) {
+          include.addAll(parents);
+        }
+        used.addAll(entry.usedProperties);
+      }
+      result.addAll(include);
+    }
+    return result;
+  }
+
+  private static boolean intersects(Set<String> values, Collection<String> other) {
+    for(String value : other) {
+      if(values.contains(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Entry getEntry(IFile pom) {
+    ITextFileBuffer buffer = FileBuffers.getTextFileBufferManager().getTextFileBuffer(pom.getFullPath(),
+        LocationKind.IFILE);
+    if(buffer != null && buffer.isDirty()) {
+      // unsaved editor changes are scanned but not indexed
+      return scanBuffer(pom, buffer);
+    }
+    IPath path = pom.getFullPath();
+    long timestamp = pom.getLocalTimeStamp();
+    Entry entry = entries.get(path);
+    if(entry != null && entry.timestamp == timestamp) {
+      return entry;
+    }
+    entry = scan(pom, timestamp);
+    if(entry != null) {
+      entries.put(path, entry);
+    } else {
+      entries.remove(path);
+    }
+    dirty = true;
+    return entry;
+  }
+
+  static Entry scan(IFile pom, long timestamp) {
+    if(pom.getLocation() == null) {
+      return null;
+    }
+    try (Reader reader = ReaderFactory.newXmlReader(pom.getLocation().toFile())) {
+      return scan(reader, timestamp);
+    } catch(IOException | XmlPullParserException ex) {
+      log.debug("Unable to index {}", pom, ex); //$NON-NLS-1$
+      return null;
+    }
+  }
+
+  private static Entry scanBuffer(IFile pom, ITextFileBuffer buffer) {
+    try {
+      return scan(new StringReader(buffer.getDocument().get()), IResource.NULL_STAMP);
+    } catch(IOException | XmlPullParserException ex) {
+      log.debug("Unable to index unsaved {}", pom, ex); //$NON-NLS-1$
+      return null;
+    }
+  }
+
+  static Entry scan(Reader reader, long timestamp) throws IOException, XmlPullParserException {
+    Entry entry = new Entry(timestamp);
+    XmlPullParser parser = new MXParser();
+    parser.setInput(reader);
+    Deque<String> path = new ArrayDeque<String>();
+    for(int event = parser.getEventType(); event != XmlPullParser.END_DOCUMENT; event = parser.next()) {
+      if(event == XmlPullParser.START_TAG) {
+        if(path.size() == 2 && "properties".equals(path.peek())) { //$NON-NLS-1$
+          entry.definedProperties.add(parser.getName());
+        }
+        path.push(parser.getName());
+      } else if(event == XmlPullParser.END_TAG) {
+        path.pop();
+      } else if(event == XmlPullParser.TEXT) {
+        String text = parser.getText().trim();
+        if(text.isEmpty()) {
+          continue;
+        }
+        Matcher matcher = PROPERTY_REFERENCE.matcher(text);
+        while(matcher.find()) {
+          entry.usedProperties.add(matcher.group(1).trim());
+        }
+        if("artifactId".equals(path.peek())) { //$NON-NLS-1$
+          entry.references.add(text);
+          if(path.size() == 2) {
+            entry.artifactId = text;
+          } else if(path.size() == 3 && "parent".equals(getParentElement(path))) { //$NON-NLS-1$
+            entry.parentArtifactId = text;
+          }
+        }
+      }
+    }
+    return entry;
+  }
+
+  private static String getParentElement(Deque<String> path) {
+    String current = path.pop();
+    String parent = path.peek();
+    path.push(current);
+    return parent;
+  }
+
+  private void read() {
+    if(!file.isFile()) {
+      return;
+    }
+    try (DataInputStream is = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      if(is.readInt() != VERSION) {
+        return;
+      }
+      int size = is.readInt();
+      for(int i = 0; i < size; i++ ) {
+        IPath path = Path.fromPortableString(is.readUTF());
+        Entry entry = new Entry(is.readLong());
+        entry.artifactId = readString(is);
+        entry.parentArtifactId = readString(is);
+        readStrings(is, entry.references);
+        readStrings(is, entry.definedProperties);
+        readStrings(is, entry.usedProperties);
+        entries.put(path, entry);
+      }
+    } catch(IOException ex) {
+      log.debug("Unable to read pom reference index {}", file, ex); //$NON-NLS-1$
+      entries.clear();
+    }
+  }
+
+  /**
+   * Persists the index if it changed since it was read.
+   */
+  public void write() {
+    if(!dirty) {
+      return;
+    }
+    dirty = false;
+    file.getParentFile().mkdirs();
+    try (DataOutputStream os = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+      os.writeInt(VERSION);
+      Map<IPath, Entry> snapshot = new HashMap<IPath, Entry>(entries);
+      os.writeInt(snapshot.size());
+      for(Map.Entry<IPath, Entry> e : snapshot.entrySet()) {
+        Entry entry = e.getValue();
+        os.writeUTF(e.getKey().toPortableString());
+        os.writeLong(entry.timestamp);
+        writeString(os, entry.artifactId);
+        writeString(os, entry.parentArtifactId);
+        writeStrings(os, entry.references);
+        writeStrings(os, entry.definedProperties);
+        writeStrings(os, entry.usedProperties);
+      }
+    } catch(IOException ex) {
+      log.warn("Unable to write pom reference index " + file, ex); //$NON-NLS-1$
+    }
+  }
+
+  private static String readString(DataInputStream is) throws IOException {
+    return is.readBoolean() ? is.readUTF() : null;
+  }
+
+  private static void writeString(DataOutputStream os, String value) throws IOException {
+    os.writeBoolean(value != null);
+    if(value != null) {
+      os.writeUTF(value);
+    }
+  }
+
+  private static void readStrings(DataInputStream is, Set<String> values) throws IOException {
+    int size = is.readInt();
+    for(int i = 0; i < size; i++ ) {
+      values.add(is.readUTF());
+    }
+  }
+
+  private static void writeStrings(DataOutputStream os, Set<String> values) throws IOException {
+    os.writeInt(values.size());
+    for(String value : values) {
+      os.writeUTF(value);
+    }
+  }
+
+  static class Entry {
+    final long timestamp;
+
+    String artifactId;
+
+    String parentArtifactId;
+
+    /** literal values of all artifactId elements */
+    final Set<String> references = new HashSet<String>();
+
+    /** project level properties */
+    final Set<String> definedProperties = new HashSet<String>();
+
+    /** names of all ${} expressions */
+    final Set<String> usedProperties = new HashSet<String>();
+
+    Entry(long timestamp) {
+      this.timestamp = timestamp;
+    }
+  }
+}
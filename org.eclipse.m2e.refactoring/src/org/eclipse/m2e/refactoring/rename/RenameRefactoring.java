@@ -13,6 +13,8 @@ package org.eclipse.m2e.refactoring.rename;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
@@ -341,6 +343,11 @@ public class RenameRefactoring extends AbstractPomRefactoring {
     return true;
   }
 
+  // only poms mentioning the old artifactId can contain matches of scanModel
+  protected Collection<String> getReferencedArtifactIds() {
+    return oldArtifactId != null ? Collections.singleton(oldArtifactId) : null;
+  }
+
   public String getTitle() {
     return NLS.bind(Messages.RenameRefactoring_title, file.getParent().getName());
   }
@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.m2e.sourcelookup.internal.launch;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Persistent cache of artifact identification results by jar location. An entry is valid as long as size and
+ * modification time of the jar do not change. Jars that could not be identified are remembered as well, but identified
+ * again after {@link #NEGATIVE_TTL} because indexes may have been updated meanwhile. Classes directories are not
+ * cached, their timestamps do not reflect their contents.
+ *
+ * @since 1.12
+ */
+public class ArtifactIdentificationCache {
+
+  private static final Logger log = LoggerFactory.getLogger(ArtifactIdentificationCache.class);
+
+  private static final int VERSION = 1;
+
+  static final long NEGATIVE_TTL = 24L * 60L * 60L * 1000L;
+
+  private static final long SAVE_DELAY = 2000L;
+
+  private final File file;
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  private final Job saveJob = new Job("Save artifact identification cache") {
+    @Override
+    protected IStatus run(IProgressMonitor monitor) {
+      save();
+      return Status.OK_STATUS;
+    }
+  };
+
+  /**
+   * @param file the file the cache is persisted to or {@code null} to only cache in memory
+   */
+  public ArtifactIdentificationCache(File file) {
+    this.file = file;
+    saveJob.setSystem(true);
+    load();
+  }
+
+  /**
+   * Returns the cache persisted in the state location of this bundle, or an in memory cache if there is none.
+   */
+  static ArtifactIdentificationCache create() {
+    File file = null;
+    try {
+      Bundle bundle = FrameworkUtil.getBundle(ArtifactIdentificationCache.class);
+      if (bundle != null) {
+        file = Platform.getStateLocation(bundle).append("artifact-identification.cache").toFile();
+      }
+    } catch (RuntimeException e) {
+      // not running in a workspace, cache in memory only
+    }
+    return new ArtifactIdentificationCache(file);
+  }
+
+  /**
+   * Returns the cached identification of the given jar, an empty collection if it could not be identified, or
+   * {@code null} if it is not cached or the jar changed.
+   */
+  public Collection<ArtifactKey> get(File location) {
+    if (!location.isFile()) {
+      return null;
+    }
+    Entry entry = entries.get(location.getAbsolutePath());
+    if (entry == null || entry.size != location.length() || entry.lastModified != location.lastModified()) {
+      return null;
+    }
+    if (entry.artifacts.isEmpty() && System.currentTimeMillis() - entry.identified > NEGATIVE_TTL) {
+      return null;
+    }
+    return entry.artifacts;
+  }
+
+  public void put(File location, Collection<ArtifactKey> artifacts) {
+    if (!location.isFile()) {
+      return;
+    }
+    Entry entry = new Entry(location.length(), location.lastModified(), System.currentTimeMillis(),
+        artifacts != null ? ImmutableSet.copyOf(artifacts) : ImmutableSet.<ArtifactKey>of());
+    entries.put(location.getAbsolutePath(), entry);
+    if (file != null) {
+      saveJob.schedule(SAVE_DELAY);
+    }
+  }
+
+  private void load() {
+    if (file == null || !file.isFile()) {
+      return;
+    }
+    try (DataInputStream is = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+      if (is.readInt() != VERSION) {
+        return;
+      }
+      int size = is.readInt();
+      for (int i = 0; i < size; i++) {
+        String path = is.readUTF();
+        long length = is.readLong();
+        long lastModified = is.readLong();
+        long identified = is.readLong();
+        int count = is.readInt();
+        List<ArtifactKey> artifacts = new ArrayList<>(count);
+        for (int j = 0; j < count; j++) {
+          artifacts.add(new ArtifactKey(readString(is), readString(is), readString(is), readString(is)));
+        }
+        entries.put(path, new Entry(length, lastModified, identified, ImmutableSet.copyOf(artifacts)));
+      }
+    } catch (IOException e) {
+      log.debug("Could not read artifact identification cache {}", file, e);
+      entries.clear();
+    }
+  }
+
+  void save() {
+    if (file == null) {
+      return;
+    }
+    file.getParentFile().mkdirs();
+    Map<String, Entry> snapshot = new HashMap<>(entries);
+    try (DataOutputStream os = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+      os.writeInt(VERSION);
+      os.writeInt(snapshot.size());
+      for (Map.Entry<String, Entry> e : snapshot.entrySet()) {
+        Entry entry = e.getValue();
+        os.writeUTF(e.getKey());
+        os.writeLong(entry.size);
+        os.writeLong(entry.lastModified);
+        os.writeLong(entry.identified);
+        os.writeInt(entry.artifacts.size());
+        for (ArtifactKey artifact : entry.artifacts) {
+          writeString(os, artifact.getGroupId());
+          writeString(os, artifact.getArtifactId());
+          writeString(os, artifact.getVersion());
+          writeString(os, artifact.getClassifier());
+        }
+      }
+    } catch (IOException e) {
+      log.warn("Could not write artifact identification cache " + file, e);
+    }
+  }
+
+  private static String readString(DataInputStream is) throws IOException {
+    return is.readBoolean() ? is.readUTF() : null;
+  }
+
+  private static void writeString(DataOutputStream os, String value) throws IOException {
+    os.writeBoolean(value != null);
+    if (value != null) {
+      os.writeUTF(value);
+    }
+  }
+
+  private static class Entry {
+    final long size;
+
+    final long lastModified;
+
+    final long identified;
+
+    final Collection<ArtifactKey> artifacts;
+
+    Entry(long size, long lastModified, long identified, Collection<ArtifactKey> artifacts) {
+      this.size = size;
+      this.lastModified = lastModified;
+      this.identified = identified;
+      this.artifacts = artifacts;
+    }
+  }
+}
@@ -33,6 +33,8 @@ import org.eclipse.m2e.core.embedder.ArtifactKey;
 import org.eclipse.m2e.core.internal.index.IIndex;
 import org.eclipse.m2e.core.internal.index.IndexedArtifactFile;
 import org.eclipse.m2e.core.internal.index.nexus.CompositeIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableSet;
@@ -44,6 +46,7 @@ import com.google.gson.JsonObject;
 
 @SuppressWarnings("restriction")
 public class MavenArtifactIdentifier {
+  private static final Logger log = LoggerFactory.getLogger(MavenArtifactIdentifier.class);
 
   // reads META-INF/maven/**/pom.properties
   private static final MetaInfMavenScanner<Properties> scanner = new MetaInfMavenScanner<Properties>() {
@@ -70,79 +73,94 @@ public class MavenArtifactIdentifier {
     }
   };
 
+  // shared by all identifiers, i.e. all source container resolvers
+  private static final ArtifactIdentificationCache cache = ArtifactIdentificationCache.create();
+
   public Collection<ArtifactKey> identify(File classesLocation, IProgressMonitor monitor) {
+    // identification cached by location, size and timestamp
     // checksum-based lookup in nexus index
     // checksum-based lookup in central
     // GAV extracted from pom.properties
 
-    Collection<ArtifactKey> classesArtifacts = identifyNexusIndexer(classesLocation);
+    Collection<ArtifactKey> classesArtifacts = cache.get(classesLocation);
+    if (classesArtifacts != null) {
+      return classesArtifacts;
+    }
+
+    // a negative result is only cached if all lookups could be performed
+    boolean complete = true;
+    try {
+      classesArtifacts = identifyNexusIndexer(classesLocation);
+    } catch (CoreException e) {
+      log.debug("Could not identify {} in the indexes", classesLocation, e);
+      complete = false;
+    }
     if (classesArtifacts == null) {
-      classesArtifacts = identifyCentralSearch(classesLocation);
+      try {
+        classesArtifacts = identifyCentralSearch(classesLocation);
+      } catch (IOException e) {
+        log.debug("Could not identify {} with the central search", classesLocation, e);
+        complete = false;
+      }
     }
     if (classesArtifacts == null) {
       classesArtifacts = scanPomProperties(classesLocation);
     }
 
+    if (complete || !classesArtifacts.isEmpty()) {
+      cache.put(classesLocation, classesArtifacts);
+    }
     return classesArtifacts;
   }
 
-  protected Collection<ArtifactKey> identifyNexusIndexer(File file) {
+  protected Collection<ArtifactKey> identifyNexusIndexer(File file) throws CoreException {
     if (!file.isFile()) {
       return null;
     }
 
-    try {
-      IIndex index = MavenPlugin.getIndexManager().getAllIndexes();
+    IIndex index = MavenPlugin.getIndexManager().getAllIndexes();
 
-      List<IndexedArtifactFile> identified;
-      if (index instanceof CompositeIndex) {
-        identified = ((CompositeIndex) index).identifyAll(file);
+    List<IndexedArtifactFile> identified;
+    if (index instanceof CompositeIndex) {
+      identified = ((CompositeIndex) index).identifyAll(file);
+    } else {
+      IndexedArtifactFile indexed = index.identify(file);
+      if (indexed != null) {
+        identified = Collections.singletonList(indexed);
       } else {
-        IndexedArtifactFile indexed = index.identify(file);
-        if (indexed != null) {
-          identified = Collections.singletonList(indexed);
-        } else {
-          identified = Collections.emptyList();
-        }
+        identified = Collections.emptyList();
       }
+    }
 
-      for (IndexedArtifactFile indexed : identified) {
-        if (indexed.sourcesExists == IIndex.PRESENT) {
-          return Collections.singleton(indexed.getArtifactKey());
-        }
+    for (IndexedArtifactFile indexed : identified) {
+      if (indexed.sourcesExists == IIndex.PRESENT) {
+        return Collections.singleton(indexed.getArtifactKey());
       }
-    } catch (CoreException e) {
-      // TODO maybe log, but ignore otherwise
     }
 
     return null;
   }
 
-  protected Collection<ArtifactKey> identifyCentralSearch(File file) {
+  protected Collection<ArtifactKey> identifyCentralSearch(File file) throws IOException {
     if (!file.isFile()) {
       return null;
     }
 
-    try {
-      String sha1 = Files.hash(file, Hashing.sha1()).toString(); // TODO use Locations for caching
-      URL url = new URL("https://search.maven.org/solrsearch/select?q=1:" + sha1);
-      try (InputStreamReader reader = new InputStreamReader(url.openStream(), Charsets.UTF_8)) {
-        Set<ArtifactKey> result = new LinkedHashSet<>();
-        JsonObject container = new Gson().fromJson(reader, JsonObject.class);
-        JsonArray docs = container.get("response").getAsJsonObject().get("docs").getAsJsonArray();
-        for (int i = 0; i < docs.size(); i++) {
-          JsonObject doc = docs.get(i).getAsJsonObject();
-          String g = doc.get("g").getAsString();
-          String a = doc.get("a").getAsString();
-          String v = doc.get("v").getAsString();
-          result.add(new ArtifactKey(g, a, v, null));
-        }
-        return !result.isEmpty() ? ImmutableSet.copyOf(result) : null;
+    String sha1 = Files.hash(file, Hashing.sha1()).toString(); // results are cached by location in identify()
+    URL url = new URL("https://search.maven.org/solrsearch/select?q=1:" + sha1);
+    try (InputStreamReader reader = new InputStreamReader(url.openStream(), Charsets.UTF_8)) {
+      Set<ArtifactKey> result = new LinkedHashSet<>();
+      JsonObject container = new Gson().fromJson(reader, JsonObject.class);
+      JsonArray docs = container.get("response").getAsJsonObject().get("docs").getAsJsonArray();
+      for (int i = 0; i < docs.size(); i++) {
+        JsonObject doc = docs.get(i).getAsJsonObject();
+        String g = doc.get("g").getAsString();
+        String a = doc.get("a").getAsString();
+        String v = doc.get("v").getAsString();
+        result.add(new ArtifactKey(g, a, v, null));
       }
-    } catch (IOException e) {
-      // TODO maybe log, ignore otherwise
+      return !result.isEmpty() ? ImmutableSet.copyOf(result) : null;
     }
-    return null;
   }
 
   public Collection<ArtifactKey> scanPomProperties(File classesLocation) {
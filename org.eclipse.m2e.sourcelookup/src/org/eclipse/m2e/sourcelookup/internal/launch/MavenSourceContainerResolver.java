@@ -13,7 +13,9 @@ package org.eclipse.m2e.sourcelookup.internal.launch;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.repository.ArtifactRepository;
@@ -29,9 +31,12 @@ import org.eclipse.m2e.core.embedder.ArtifactKey;
 import org.eclipse.m2e.core.embedder.IMaven;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
 import org.eclipse.m2e.core.project.IMavenProjectRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 
 public class MavenSourceContainerResolver implements ISourceContainerResolver {
+  private static final Logger log = LoggerFactory.getLogger(MavenSourceContainerResolver.class);
 
   private static final MavenArtifactIdentifier INDENTIFIER = new MavenArtifactIdentifier();
 
@@ -43,9 +48,11 @@ public class MavenSourceContainerResolver implements ISourceContainerResolver {
       return null;
     }
 
+    Set<ArtifactKey> unavailableSources = getUnavailableSources(classesArtifacts);
+
     List<ISourceContainer> result = new ArrayList<>();
     for (ArtifactKey classesArtifact : classesArtifacts) {
-      ISourceContainer container = resolveSourceContainer(classesArtifact, monitor);
+      ISourceContainer container = resolveSourceContainer(classesArtifact, unavailableSources, monitor);
       if (container != null) {
         result.add(container);
       }
@@ -53,7 +60,40 @@ public class MavenSourceContainerResolver implements ISourceContainerResolver {
     return result;
   }
 
-  protected ISourceContainer resolveSourceContainer(ArtifactKey artifact, IProgressMonitor monitor) {
+  /**
+   * Returns the sources artifacts of the given artifacts that are known to be unavailable, checked in one batch.
+   */
+  private static Set<ArtifactKey> getUnavailableSources(Collection<ArtifactKey> artifacts) {
+    IMaven maven = MavenPlugin.getMaven();
+    List<ArtifactKey> sources = new ArrayList<>();
+    for (ArtifactKey artifact : artifacts) {
+      sources.add(getSourcesArtifact(artifact));
+    }
+    try {
+      return maven.getUnavailableArtifacts(sources, "jar", getRepositories(maven));
+    } catch (CoreException e) {
+      log.debug("Could not check the availability of sources, resolving them one by one", e);
+    }
+    return Collections.emptySet();
+  }
+
+  private static ArtifactKey getSourcesArtifact(ArtifactKey artifact) {
+    return new ArtifactKey(artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion(), "sources");
+  }
+
+  private static List<ArtifactRepository> getRepositories(IMaven maven) throws CoreException {
+    List<ArtifactRepository> repositories = new ArrayList<ArtifactRepository>();
+    repositories.addAll(maven.getArtifactRepositories());
+    repositories.addAll(maven.getPluginArtifactRepositories());
+    return repositories;
+  }
+
+  /**
+   * @param unavailableSources sources artifacts known to be unavailable, see
+   *          {@link IMaven#getUnavailableArtifacts(Collection, String, List)}
+   */
+  protected ISourceContainer resolveSourceContainer(ArtifactKey artifact, Set<ArtifactKey> unavailableSources,
+      IProgressMonitor monitor) {
     String groupId = artifact.getGroupId();
     String artifactId = artifact.getArtifactId();
     String version = artifact.getVersion();
@@ -67,11 +107,7 @@ public class MavenSourceContainerResolver implements ISourceContainerResolver {
     }
 
     try {
-      List<ArtifactRepository> repositories = new ArrayList<ArtifactRepository>();
-      repositories.addAll(maven.getArtifactRepositories());
-      repositories.addAll(maven.getPluginArtifactRepositories());
-
-      if (!maven.isUnavailable(groupId, artifactId, version, "jar", "sources", repositories)) {
+      if (!unavailableSources.contains(getSourcesArtifact(artifact))) {
         Artifact resolve = maven.resolve(groupId, artifactId, version, "jar", "sources", null, monitor);
 
         return new ExternalArchiveSourceContainer(resolve.getFile().getAbsolutePath(), true);
@@ -11,6 +11,7 @@
 package org.eclipse.m2e.sourcelookup.internal.launch;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.sourcelookup.ISourceLookupDirector;
 import org.eclipse.jdt.launching.sourcelookup.advanced.AdvancedSourceLookupParticipant;
 import org.eclipse.m2e.core.MavenPlugin;
@@ -22,14 +23,27 @@ public class MavenSourceLookupParticipant extends AdvancedSourceLookupParticipan
     implements
       IMavenProjectChangedListener {
 
+  private SourceContainerPrefetcher prefetcher;
+
   @Override
   public void init(ISourceLookupDirector director) {
     super.init(director);
     MavenPlugin.getMavenProjectRegistry().addMavenProjectChangedListener(this);
+
+    // opt-in, resolve all source containers of the launch before the debugger needs them
+    ILaunchConfiguration configuration = director.getLaunchConfiguration();
+    if (configuration != null && SourceContainerPrefetcher.isEnabled()) {
+      prefetcher = new SourceContainerPrefetcher(configuration, new MavenSourceContainerResolver());
+      prefetcher.schedule();
+    }
   }
 
   @Override
   public void dispose() {
+    if (prefetcher != null) {
+      prefetcher.cancel();
+      prefetcher = null;
+    }
     MavenPlugin.getMavenProjectRegistry().removeMavenProjectChangedListener(this);
     super.dispose();
   }
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Sonatype, Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.m2e.sourcelookup.internal.launch;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.jdt.launching.IRuntimeClasspathEntry;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resolves the source containers of all runtime classpath entries of a launch in the background, so identification
+ * and sources jar downloads are done before the debugger first stops in a jar. Resolution runs on a small shared
+ * pool, results end up in the identification cache and the local repository.
+ * <p>
+ * Disabled by default, enabled with the {@link #PREF_PREFETCH} instance preference of this bundle.
+ *
+ * @since 1.12
+ */
+public class SourceContainerPrefetcher extends Job {
+
+  private static final Logger log = LoggerFactory.getLogger(SourceContainerPrefetcher.class);
+
+  public static final String PREF_PREFETCH = "prefetchSourceContainers";
+
+  private static final String BUNDLE_ID = "org.eclipse.m2e.sourcelookup";
+
+  private static final int MAX_THREADS = 4;
+
+  private static final ExecutorService executor = Executors.newFixedThreadPool(
+      Math.min(Runtime.getRuntime().availableProcessors(), MAX_THREADS), new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+          Thread thread = new Thread(r, "M2E Source Prefetch " + count.incrementAndGet());
+          thread.setDaemon(true);
+          thread.setPriority(Thread.MIN_PRIORITY);
+          return thread;
+        }
+      });
+
+  private final ILaunchConfiguration configuration;
+
+  private final MavenSourceContainerResolver resolver;
+
+  public SourceContainerPrefetcher(ILaunchConfiguration configuration, MavenSourceContainerResolver resolver) {
+    super("Prefetching source containers");
+    this.configuration = configuration;
+    this.resolver = resolver;
+    setSystem(true);
+    setPriority(DECORATE);
+  }
+
+  public static boolean isEnabled() {
+    return InstanceScope.INSTANCE.getNode(BUNDLE_ID).getBoolean(PREF_PREFETCH, false);
+  }
+
+  @Override
+  protected IStatus run(final IProgressMonitor monitor) {
+    Set<File> locations;
+    try {
+      locations = getClasspath(configuration);
+    } catch (CoreException e) {
+      log.debug("Could not compute runtime classpath of {}", configuration.getName(), e);
+      return Status.OK_STATUS;
+    }
+
+    List<Future<?>> futures = new ArrayList<>();
+    for (final File location : locations) {
+      futures.add(executor.submit(() -> {
+        if (!monitor.isCanceled()) {
+          resolver.resolveSourceContainers(location, new NullProgressMonitor() {
+            @Override
+            public boolean isCanceled() {
+              return monitor.isCanceled();
+            }
+          });
+        }
+      }));
+    }
+    try {
+      for (Future<?> future : futures) {
+        while (!monitor.isCanceled()) {
+          try {
+            future.get(100, TimeUnit.MILLISECONDS);
+            break;
+          } catch (TimeoutException e) {
+            // check for cancellation
+          } catch (ExecutionException e) {
+            log.debug("Could not prefetch source container", e.getCause());
+            break;
+          } catch (InterruptedException e) {
+            return Status.CANCEL_STATUS;
+          }
+        }
+      }
+    } finally {
+      // not yet started resolutions are skipped, running ones see the canceled monitor
+      for (Future<?> future : futures) {
+        future.cancel(false);
+      }
+    }
+    return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+  }
+
+  private static Set<File> getClasspath(ILaunchConfiguration configuration) throws CoreException {
+    IRuntimeClasspathEntry[] entries = JavaRuntime.computeUnresolvedRuntimeClasspath(configuration);
+    entries = JavaRuntime.resolveRuntimeClasspath(entries, configuration);
+    Set<File> locations = new LinkedHashSet<>();
+    for (IRuntimeClasspathEntry entry : entries) {
+      int property = entry.getClasspathProperty();
+      if (property == IRuntimeClasspathEntry.STANDARD_CLASSES || property == IRuntimeClasspathEntry.BOOTSTRAP_CLASSES) {
+        continue; // the JRE
+      }
+      if (entry.getLocation() != null) {
+        File location = new File(entry.getLocation());
+        if (location.isFile()) {
+          locations.add(location);
+        }
+      }
+    }
+    return locations;
+  }
+}
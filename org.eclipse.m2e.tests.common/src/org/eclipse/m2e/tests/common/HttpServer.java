@@ -632,9 +632,13 @@ public class HttpServer {
           File file = new File(basedir, path);
 
           if(HttpMethods.HEAD.equals(request.getMethod())) {
-            if(file.exists())
+            if(file.exists()) {
+              if(file.isFile() && getFilterEncoding(path, resourceFilters.get(contextRoot)) == null) {
+                setRangeHeaders(response, file);
+                response.setHeader("Content-Length", Long.toString(file.length()));
+              }
               response.setStatus(HttpServletResponse.SC_OK);
-            else
+            } else
               response.setStatus(HttpServletResponse.SC_NOT_FOUND);
             ((Request) request).setHandled(true);
             return;
@@ -650,11 +654,27 @@ public class HttpServer {
             response.setStatus(HttpServletResponse.SC_CREATED);
             ((Request) request).setHandled(true);
           } else if(file.isFile()) {
+            if(getFilterEncoding(path, resourceFilters.get(contextRoot)) == null && isNotModified(request, file)) {
+              setRangeHeaders(response, file);
+              response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+              ((Request) request).setHandled(true);
+              return;
+            }
             FileInputStream is = new FileInputStream(file);
 
             try {
               String filterEncoding = getFilterEncoding(path, resourceFilters.get(contextRoot));
-              if(filterEncoding == null) {
+              long[] range = filterEncoding == null ? getRange(request, file) : null;
+              if(range != null) {
+                setRangeHeaders(response, file);
+                response.setHeader("Content-Range", "bytes " + range[0] + "-" + range[1] + "/" + file.length());
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                is.skip(range[0]);
+                IO.copy(is, response.getOutputStream(), range[1] - range[0] + 1);
+                ((Request) request).setHandled(true);
+                return;
+              } else if(filterEncoding == null) {
+                setRangeHeaders(response, file);
                 IO.copy(is, response.getOutputStream());
               } else {
                 String text = IO.toString(is, filterEncoding);
@@ -675,6 +695,69 @@ public class HttpServer {
 
     }
 
+    private void setRangeHeaders(HttpServletResponse response, File file) {
+      response.setHeader("Accept-Ranges", "bytes");
+      response.setDateHeader("Last-Modified", file.lastModified());
+      response.setHeader("ETag", getETag(file));
+    }
+
+    private String getETag(File file) {
+      return "\"" + Long.toHexString(file.lastModified()) + "-" + Long.toHexString(file.length()) + "\"";
+    }
+
+    /**
+     * Evaluates the If-None-Match and If-Modified-Since headers of a conditional GET request.
+     */
+    private boolean isNotModified(HttpServletRequest request, File file) {
+      String ifNoneMatch = request.getHeader("If-None-Match");
+      if(ifNoneMatch != null) {
+        return ifNoneMatch.equals(getETag(file));
+      }
+      long ifModifiedSince = request.getDateHeader("If-Modified-Since");
+      return ifModifiedSince >= 0 && file.lastModified() / 1000 <= ifModifiedSince / 1000;
+    }
+
+    /**
+     * Returns the requested single byte range as {first, last}, or null if the whole file has to be sent.
+     */
+    private long[] getRange(HttpServletRequest request, File file) {
+      String range = request.getHeader("Range");
+      if(range == null || !range.startsWith("bytes=") || range.indexOf(',') >= 0) {
+        return null;
+      }
+      String ifRange = request.getHeader("If-Range");
+      if(ifRange != null && !isCurrent(ifRange, request, file)) {
+        return null;
+      }
+      String[] bounds = range.substring("bytes=".length()).split("-", -1);
+      try {
+        long first = Long.parseLong(bounds[0].trim());
+        long last = bounds.length > 1 && !bounds[1].trim().isEmpty() ? Long.parseLong(bounds[1].trim())
+            : file.length() - 1;
+        if(first > last || last >= file.length()) {
+          return null;
+        }
+        return new long[] {first, last};
+      } catch(NumberFormatException ex) {
+        return null;
+      }
+    }
+
+    /**
+     * Evaluates an If-Range validator, which is either an entity tag or a date.
+     */
+    private boolean isCurrent(String ifRange, HttpServletRequest request, File file) {
+      if(ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+        // weak tags never match
+        return ifRange.equals(getETag(file));
+      }
+      try {
+        return request.getDateHeader("If-Range") / 1000 == file.lastModified() / 1000;
+      } catch(IllegalArgumentException ex) {
+        return false;
+      }
+    }
+
     private String getExtension(String path) {
       return path.substring(path.lastIndexOf('.') + 1);
     }